@@ -0,0 +1,88 @@
+package org.hiero.keys;
+
+import org.hiero.keys.impl.HdKeyDeriver;
+
+import java.util.Objects;
+
+/**
+ * Deterministic hierarchical key derivation from a master seed: SLIP-10 for {@link KeyAlgorithm#ED25519} (hardened
+ * indices only) and BIP-32 for {@link KeyAlgorithm#ECDSA} (secp256k1). Intermediate nodes are cached, so deriving
+ * many siblings below the same parent, for example {@code m/44'/3030'/0'/0'/i'}, costs one HMAC step per key.
+ * Instances are thread safe.
+ */
+public final class KeyDerivation {
+
+    private final HdKeyDeriver deriver;
+
+    private KeyDerivation(final HdKeyDeriver deriver) {
+        this.deriver = deriver;
+    }
+
+    /**
+     * Creates the master node for the given seed, for example the 64 byte seed of a BIP-39 mnemonic.
+     */
+    public static KeyDerivation fromSeed(final KeyAlgorithm algorithm, final byte[] seed) {
+        return new KeyDerivation(new HdKeyDeriver(algorithm, seed));
+    }
+
+    public static int hardened(final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index must not be negative");
+        }
+        return index | HdKeyDeriver.HARDENED_OFFSET;
+    }
+
+    /**
+     * Parses a path like {@code m/44'/3030'/0'/0'/1'}. Hardened indices are marked with {@code '}, {@code h} or
+     * {@code H}.
+     */
+    public static int[] parsePath(final String path) {
+        Objects.requireNonNull(path, "path must not be null");
+        final String[] parts = path.split("/");
+        if (!parts[0].equals("m")) {
+            throw new IllegalArgumentException("Path must start with 'm': " + path);
+        }
+        final int[] indices = new int[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i];
+            final boolean hardened = part.endsWith("'") || part.endsWith("h") || part.endsWith("H");
+            if (hardened) {
+                part = part.substring(0, part.length() - 1);
+            }
+            final int index;
+            try {
+                index = Integer.parseInt(part);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid path segment '" + parts[i] + "' in " + path, e);
+            }
+            if (index < 0) {
+                throw new IllegalArgumentException("Invalid path segment '" + parts[i] + "' in " + path);
+            }
+            indices[i - 1] = hardened ? hardened(index) : index;
+        }
+        return indices;
+    }
+
+    public KeyAlgorithm algorithm() {
+        return deriver.algorithm();
+    }
+
+    public PrivateKey derivePrivateKey(final String path) {
+        return deriver.derive(parsePath(path));
+    }
+
+    /**
+     * Derives the private key for the given indices, use {@link #hardened(int)} for hardened indices.
+     */
+    public PrivateKey derivePrivateKey(final int... path) {
+        return deriver.derive(path);
+    }
+
+    public PublicKey derivePublicKey(final String path) {
+        return derivePrivateKey(path).createPublicKey();
+    }
+
+    public PublicKey derivePublicKey(final int... path) {
+        return derivePrivateKey(path).createPublicKey();
+    }
+}
@@ -0,0 +1,40 @@
+package org.hiero.keys;
+
+import org.hiero.keys.impl.BulkKeyGenerator;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A private key together with its public key.
+ */
+public record KeyPair(PrivateKey privateKey, PublicKey publicKey) {
+
+    public KeyPair {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+    }
+
+    public static KeyPair of(final PrivateKey privateKey) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        return new KeyPair(privateKey, privateKey.createPublicKey());
+    }
+
+    /**
+     * Generates {@code count} key pairs. The keys are generated in parallel in batches of
+     * {@link BulkKeyGenerator#BATCH_SIZE} and the next batch only once the returned sequential stream has consumed the
+     * previous one, so very large amounts can be written out while at most one batch is held in memory.
+     */
+    public static Stream<KeyPair> generate(final KeyAlgorithm algorithm, final int count) {
+        return BulkKeyGenerator.generate(algorithm, count);
+    }
+
+    /**
+     * Generates {@code count} key pairs in batches that are derived deterministically from the given seed. The same
+     * seed always results in the same keys, which makes load tests reproducible. The keys are only as secret as the
+     * seed and must never be used outside of tests.
+     */
+    public static Stream<KeyPair> generate(final KeyAlgorithm algorithm, final int count, final long seed) {
+        return BulkKeyGenerator.generate(algorithm, count, seed);
+    }
+}
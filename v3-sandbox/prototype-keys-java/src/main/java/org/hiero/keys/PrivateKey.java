@@ -31,6 +31,13 @@ public interface PrivateKey extends Key {
         return KeyFactory.createPrivateKey(format, value);
     }
 
+    /**
+     * Creates a key from bytes of unknown format. The format is detected from the length and DER tag bytes.
+     */
+    static PrivateKey create(final byte[] value) {
+        return KeyFactory.createPrivateKey(value);
+    }
+
     static PrivateKey create(final String value) {
         return create(PKCS8_WITH_PEM, value);
     }
@@ -4,12 +4,22 @@ import org.hiero.keys.impl.KeyFactory;
 import org.hiero.keys.io.ByteImportEncoding;
 import org.hiero.keys.io.KeyFormat;
 
+import java.util.Objects;
+
 import static org.hiero.keys.io.KeyFormat.SPKI_WITH_PEM;
 
 public interface PublicKey extends Key {
 
     boolean verify(final byte[] message, final byte[] signature);
 
+    /**
+     * Verifies a signature and takes the result from the given cache if the same verification has been done before.
+     */
+    default boolean verify(final byte[] message, final byte[] signature, final VerificationCache cache) {
+        Objects.requireNonNull(cache, "cache must not be null");
+        return cache.verify(this, message, signature);
+    }
+
     static PublicKey create(final KeyAlgorithm algorithm, final byte[] rawBytes) {
         return KeyFactory.createPublicKey(algorithm, rawBytes);
     }
@@ -26,6 +36,13 @@ public interface PublicKey extends Key {
         return KeyFactory.createPublicKey(container, value);
     }
 
+    /**
+     * Creates a key from bytes of unknown format. The format is detected from the length and DER tag bytes.
+     */
+    static PublicKey create(final byte[] value) {
+        return KeyFactory.createPublicKey(value);
+    }
+
     static PublicKey create(final String value) {
         return create(SPKI_WITH_PEM, value);
     }
@@ -0,0 +1,28 @@
+package org.hiero.keys;
+
+import java.util.Objects;
+
+/**
+ * A message together with a signature and the public key the signature should be verified with.
+ */
+public record SignedMessage(PublicKey publicKey, byte[] message, byte[] signature) {
+
+    public SignedMessage {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+    }
+
+    /**
+     * Verifies the signature, malformed keys and signatures are reported as invalid.
+     */
+    public boolean verify() {
+        try {
+            return publicKey.verify(message, signature);
+        } catch (RuntimeException e) {
+            // the backends fail with different runtime exceptions for malformed input, for example a signature of the
+            // wrong length or a point that is not on the curve
+            return false;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.hiero.keys;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of signature verification results, keyed by a SHA-256 digest over key, signature and message
+ * (a non-cryptographic hash would let a colliding forged signature pass as valid).
+ * Large caches are split into up to 16 segments with their own lock, selected by the digest, so the eviction order is
+ * only LRU within a segment.
+ */
+public final class VerificationCache {
+
+    private static final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    });
+
+    private static final int MAX_SEGMENTS = 16;
+
+    // segments of at least this size keep the eviction order close to a global LRU order
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final Segment[] segments;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    public VerificationCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        final int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxSize / segmentCount);
+        }
+    }
+
+    /**
+     * Verifies a signature or returns the cached result of an earlier verification of the same triple.
+     */
+    public boolean verify(final PublicKey publicKey, final byte[] message,
+            final byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+        final ByteBuffer key = digest(publicKey, message, signature);
+        // the digest is uniformly distributed, so any of its bytes select the segment
+        final Segment segment = segments[key.getInt(0) & (segments.length - 1)];
+        final Boolean cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        final boolean valid = publicKey.verify(message, signature);
+        synchronized (segment) {
+            segment.put(key, valid);
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the number of verifications that have been answered from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of verifications that needed a real verification.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached results. The hit and miss counters are not reset.
+     */
+    public void clear() {
+        for (final Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private static ByteBuffer digest(final PublicKey publicKey, final byte[] message,
+            final byte[] signature) {
+        final MessageDigest messageDigest = digest.get();
+        final byte[] keyBytes = publicKey.toRawBytes();
+        // the lengths and the algorithm are part of the digest so that different triples can not share an encoding
+        messageDigest.update((byte) publicKey.algorithm().ordinal());
+        messageDigest.update(ByteBuffer.allocate(8).putInt(keyBytes.length).putInt(signature.length).flip());
+        messageDigest.update(keyBytes);
+        messageDigest.update(signature);
+        messageDigest.update(message);
+        return ByteBuffer.wrap(messageDigest.digest());
+    }
+
+    // part of the cache in access order that evicts its least recently used entry, access is synchronized on it
+    private static final class Segment extends LinkedHashMap<ByteBuffer, Boolean> {
+
+        private final int maxSize;
+
+        private Segment(final int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ByteBuffer, Boolean> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
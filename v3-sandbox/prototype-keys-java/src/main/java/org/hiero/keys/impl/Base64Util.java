@@ -1,8 +1,26 @@
 package org.hiero.keys.impl;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Objects;
 
 public final class Base64Util {
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+    // value of an ASCII Base64 char or -1
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            VALUES[ALPHABET[i]] = (byte) i;
+        }
+    }
+
     private Base64Util() {}
 
     public static String encode(final byte[] data) {
@@ -12,4 +30,135 @@ public final class Base64Util {
     public static byte[] decode(final String s) {
         return Base64.getDecoder().decode(s);
     }
+
+    /**
+     * Decodes the Base64 characters between position and limit of the buffer without creating a String. The
+     * position of the buffer is not changed.
+     */
+    public static byte[] decode(final ByteBuffer data) {
+        return toArray(Base64.getDecoder().decode(data.duplicate()));
+    }
+
+    /**
+     * Like {@link #decode(ByteBuffer)}, but line breaks and other characters outside the Base64 alphabet are
+     * skipped as in PEM bodies.
+     */
+    public static byte[] decodeMime(final ByteBuffer data) {
+        return toArray(Base64.getMimeDecoder().decode(data.duplicate()));
+    }
+
+    private static byte[] toArray(final ByteBuffer decoded) {
+        final byte[] result = new byte[decoded.remaining()];
+        decoded.get(result);
+        return result;
+    }
+
+    public static int encodedLength(final int byteCount) {
+        return (byteCount + 2) / 3 * 4;
+    }
+
+    /**
+     * Encodes the remaining bytes of {@code src} as padded Base64 into {@code dst}. Both positions are advanced, no
+     * objects are allocated.
+     *
+     * @throws BufferOverflowException if {@code dst} has less than {@link #encodedLength(int)} chars remaining, in
+     *                                 that case nothing is written
+     */
+    public static void encode(final ByteBuffer src, final CharBuffer dst) {
+        Objects.requireNonNull(src, "src must not be null");
+        Objects.requireNonNull(dst, "dst must not be null");
+        if (dst.remaining() < encodedLength(src.remaining())) {
+            throw new BufferOverflowException();
+        }
+        while (src.remaining() >= 3) {
+            final int bits = (src.get() & 0xFF) << 16 | (src.get() & 0xFF) << 8 | (src.get() & 0xFF);
+            dst.put(ALPHABET[bits >>> 18]);
+            dst.put(ALPHABET[(bits >>> 12) & 0x3F]);
+            dst.put(ALPHABET[(bits >>> 6) & 0x3F]);
+            dst.put(ALPHABET[bits & 0x3F]);
+        }
+        if (src.remaining() == 1) {
+            final int bits = (src.get() & 0xFF) << 16;
+            dst.put(ALPHABET[bits >>> 18]);
+            dst.put(ALPHABET[(bits >>> 12) & 0x3F]);
+            dst.put('=');
+            dst.put('=');
+        } else if (src.remaining() == 2) {
+            final int bits = (src.get() & 0xFF) << 16 | (src.get() & 0xFF) << 8;
+            dst.put(ALPHABET[bits >>> 18]);
+            dst.put(ALPHABET[(bits >>> 12) & 0x3F]);
+            dst.put(ALPHABET[(bits >>> 6) & 0x3F]);
+            dst.put('=');
+        }
+    }
+
+    /**
+     * Decodes the remaining Base64 chars of {@code src} (padding is optional, whitespace is not allowed) into
+     * {@code dst}. Both positions are advanced, no objects are allocated.
+     *
+     * @throws IllegalArgumentException if the input is not valid Base64, in that case both positions are unchanged
+     * @throws BufferOverflowException  if {@code dst} is too small, in that case both positions are unchanged
+     */
+    public static void decode(final CharBuffer src, final ByteBuffer dst) {
+        Objects.requireNonNull(src, "src must not be null");
+        Objects.requireNonNull(dst, "dst must not be null");
+        decode(src, dst, false);
+    }
+
+    /**
+     * Decodes Base64 chars from {@code src} into {@code dst}. For PEM bodies whitespace is skipped and decoding stops
+     * in front of the first {@code '-'} of the footer.
+     */
+    static void decode(final CharBuffer src, final ByteBuffer dst, final boolean pemBody) {
+        final int srcPosition = src.position();
+        final int dstPosition = dst.position();
+        try {
+            int bits = 0;
+            int count = 0;
+            int padding = 0;
+            while (src.hasRemaining()) {
+                final char c = src.get();
+                if (pemBody && c == '-') {
+                    src.position(src.position() - 1);
+                    break;
+                }
+                if (pemBody && isWhitespace(c)) {
+                    continue;
+                }
+                if (c == '=') {
+                    padding++;
+                    continue;
+                }
+                final int value = c < VALUES.length ? VALUES[c] : -1;
+                if (value == -1 || padding > 0) {
+                    throw new IllegalArgumentException("Invalid Base64 char at position " + (src.position() - 1));
+                }
+                bits = bits << 6 | value;
+                if (++count == 4) {
+                    dst.put((byte) (bits >>> 16));
+                    dst.put((byte) (bits >>> 8));
+                    dst.put((byte) bits);
+                    bits = 0;
+                    count = 0;
+                }
+            }
+            if (count == 1 || padding > 2 || (padding > 0 && padding != 4 - count)) {
+                throw new IllegalArgumentException("Invalid Base64 length or padding");
+            }
+            if (count == 2) {
+                dst.put((byte) (bits >>> 4));
+            } else if (count == 3) {
+                dst.put((byte) (bits >>> 10));
+                dst.put((byte) (bits >>> 2));
+            }
+        } catch (RuntimeException e) {
+            src.position(srcPosition);
+            dst.position(dstPosition);
+            throw e;
+        }
+    }
+
+    static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
 }
@@ -0,0 +1,82 @@
+package org.hiero.keys.impl;
+
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.PrivateKey;
+import org.hiero.keys.PublicKey;
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+import org.hiero.keys.spi.CryptoBackend;
+import org.hiero.keys.spi.DigestAlgorithm;
+
+import java.util.Objects;
+
+/**
+ * The default {@link CryptoBackend} that is based on the lightweight API of BouncyCastle.
+ */
+public final class BouncyCastleCryptoBackend implements CryptoBackend {
+
+    public static final String NAME = "bouncycastle";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(final KeyAlgorithm algorithm) {
+        return true;
+    }
+
+    @Override
+    public PrivateKey generatePrivateKey(final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return switch (algorithm) {
+            case ED25519 -> new Ed25519PrivateKey(KeyFactory.randomEd25519Seed());
+            case ECDSA -> EcdsaPrivateKey.generate();
+        };
+    }
+
+    @Override
+    public byte[] sign(final PrivateKey privateKey, final byte[] message) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        if (privateKey instanceof Ed25519PrivateKey ed25519Key) {
+            return ed25519Key.signWithBouncyCastle(message);
+        }
+        if (privateKey instanceof EcdsaPrivateKey ecdsaKey) {
+            return ecdsaKey.signWithBouncyCastle(message);
+        }
+        throw new IllegalArgumentException("Unsupported private key: " + privateKey.getClass().getName());
+    }
+
+    @Override
+    public boolean verify(final PublicKey publicKey, final byte[] message, final byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        if (publicKey instanceof Ed25519PublicKey ed25519Key) {
+            return ed25519Key.verifyWithBouncyCastle(message, signature);
+        }
+        if (publicKey instanceof EcdsaPublicKey ecdsaKey) {
+            return ecdsaKey.verifyWithBouncyCastle(message, signature);
+        }
+        throw new IllegalArgumentException("Unsupported public key: " + publicKey.getClass().getName());
+    }
+
+    @Override
+    public boolean supportsDigest(final DigestAlgorithm algorithm) {
+        return true;
+    }
+
+    @Override
+    public byte[] digest(final DigestAlgorithm algorithm, final byte[] message) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        final Digest digest = switch (algorithm) {
+            case SHA_384 -> new SHA384Digest();
+            case KECCAK_256 -> new KeccakDigest(256);
+        };
+        digest.update(message, 0, message.length);
+        final byte[] result = new byte[digest.getDigestSize()];
+        digest.doFinal(result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,138 @@
+package org.hiero.keys.impl;
+
+import org.bouncycastle.asn1.sec.SECNamedCurves;
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.KeyPair;
+import org.hiero.keys.PrivateKey;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates many key pairs at once, in batches of {@link #BATCH_SIZE}. The keys of a batch are generated in parallel on
+ * the common fork/join pool, the next batch only once the stream has consumed the previous one, so at most one batch
+ * is held in memory. The stream can not be split, a parallel stream consumes the keys on one thread as well.
+ * The SDK prototype has the same generator for its own key classes, the two prototypes do not depend on each other.
+ */
+public final class BulkKeyGenerator {
+
+    public static final int BATCH_SIZE = 1024;
+
+    private static final BigInteger SECP256K1_N = SECNamedCurves.getByName("secp256k1").getN();
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    });
+
+    private BulkKeyGenerator() {
+    }
+
+    public static Stream<KeyPair> generate(final KeyAlgorithm algorithm, final int count) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return generateInBatches(count, i -> KeyPair.of(KeyFactory.generatePrivateKey(algorithm)));
+    }
+
+    public static Stream<KeyPair> generate(final KeyAlgorithm algorithm, final int count, final long seed) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        // every key only depends on the seed and its index, so the result does not depend on the thread scheduling
+        return generateInBatches(count, i -> KeyPair.of(derive(algorithm, seed, i)));
+    }
+
+    /**
+     * Creates {@code count} elements by calling the generator for every index, in parallel batches of
+     * {@link #BATCH_SIZE}. The returned stream is ordered by index. Its spliterator never splits, so at most one batch
+     * is generated ahead of the consumer even if the caller makes the stream parallel.
+     */
+    public static <T> Stream<T> generateInBatches(final int count, final IntFunction<T> generator) {
+        Objects.requireNonNull(generator, "generator must not be null");
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        return StreamSupport.stream(new BatchSpliterator<>(count, generator), false);
+    }
+
+    // generates the next batch once the previous one has been consumed
+    private static final class BatchSpliterator<T> implements Spliterator<T> {
+        private final int count;
+        private final IntFunction<T> generator;
+        private List<T> batch = List.of();
+        private int position;
+        private int generated;
+
+        BatchSpliterator(final int count, final IntFunction<T> generator) {
+            this.count = count;
+            this.generator = generator;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            Objects.requireNonNull(action, "action must not be null");
+            if (position == batch.size()) {
+                if (generated == count) {
+                    return false;
+                }
+                final int end = (int) Math.min(count, (long) generated + BATCH_SIZE);
+                batch = IntStream.range(generated, end).parallel().mapToObj(generator).toList();
+                generated = end;
+                position = 0;
+            }
+            action.accept(batch.get(position++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // splitting would let a parallel stream generate several batches at once
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) count - generated + batch.size() - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED;
+        }
+    }
+
+    private static PrivateKey derive(final KeyAlgorithm algorithm, final long seed, final int index) {
+        int counter = 0;
+        while (true) {
+            final byte[] material = hash(seed, index, counter++);
+            switch (algorithm) {
+                case ED25519 -> {
+                    return new Ed25519PrivateKey(material);
+                }
+                case ECDSA -> {
+                    final BigInteger d = new BigInteger(1, material);
+                    // rejection sampling keeps the scalar uniform in [1, n-1]
+                    if (d.signum() > 0 && d.compareTo(SECP256K1_N) < 0) {
+                        return new EcdsaPrivateKey(d);
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] hash(final long seed, final int index, final int counter) {
+        final MessageDigest digest = SHA256.get();
+        digest.update(ByteBuffer.allocate(16).putLong(seed).putInt(index).putInt(counter).flip());
+        return digest.digest();
+    }
+}
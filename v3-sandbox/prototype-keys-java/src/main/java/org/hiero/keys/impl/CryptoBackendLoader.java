@@ -0,0 +1,84 @@
+package org.hiero.keys.impl;
+
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.spi.CryptoBackend;
+import org.hiero.keys.spi.DigestAlgorithm;
+
+import java.lang.System.Logger.Level;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Loads all {@link CryptoBackend} implementations and selects the backend for each key and digest algorithm once: the
+ * backend named by
+ * {@link CryptoBackend#BACKEND_PROPERTY} if it supports the algorithm, the {@link BouncyCastleCryptoBackend} otherwise.
+ */
+public final class CryptoBackendLoader {
+
+    private static final System.Logger logger = System.getLogger(CryptoBackendLoader.class.getName());
+
+    private static final CryptoBackendLoader instance = new CryptoBackendLoader();
+
+    private final Set<CryptoBackend> backends;
+
+    private final Map<KeyAlgorithm, CryptoBackend> selected;
+
+    private final Map<DigestAlgorithm, CryptoBackend> selectedDigests;
+
+    private CryptoBackendLoader() {
+        this.backends = ServiceLoader.load(CryptoBackend.class).stream()
+                .map(Provider::get)
+                .collect(Collectors.toUnmodifiableSet());
+        final String requested = System.getProperty(CryptoBackend.BACKEND_PROPERTY, BouncyCastleCryptoBackend.NAME);
+        final CryptoBackend defaultBackend = forName(BouncyCastleCryptoBackend.NAME);
+        final CryptoBackend requestedBackend = backends.stream()
+                .filter(backend -> Objects.equals(backend.getName(), requested))
+                .findFirst()
+                .orElseGet(() -> {
+                    logger.log(Level.WARNING, "Crypto backend ''{0}'' not found, using ''{1}''", requested,
+                            BouncyCastleCryptoBackend.NAME);
+                    return defaultBackend;
+                });
+        final Map<KeyAlgorithm, CryptoBackend> map = new EnumMap<>(KeyAlgorithm.class);
+        for (KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            map.put(algorithm, requestedBackend.supports(algorithm) ? requestedBackend : defaultBackend);
+        }
+        this.selected = Collections.unmodifiableMap(map);
+        final Map<DigestAlgorithm, CryptoBackend> digestMap = new EnumMap<>(DigestAlgorithm.class);
+        for (DigestAlgorithm algorithm : DigestAlgorithm.values()) {
+            digestMap.put(algorithm, requestedBackend.supportsDigest(algorithm) ? requestedBackend : defaultBackend);
+        }
+        this.selectedDigests = Collections.unmodifiableMap(digestMap);
+    }
+
+    public Set<CryptoBackend> all() {
+        return backends;
+    }
+
+    public CryptoBackend forAlgorithm(final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return selected.get(algorithm);
+    }
+
+    public CryptoBackend forDigest(final DigestAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return selectedDigests.get(algorithm);
+    }
+
+    private CryptoBackend forName(final String name) {
+        return backends.stream()
+                .filter(backend -> Objects.equals(backend.getName(), name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Crypto backend '" + name + "' not found"));
+    }
+
+    public static CryptoBackendLoader getInstance() {
+        return instance;
+    }
+}
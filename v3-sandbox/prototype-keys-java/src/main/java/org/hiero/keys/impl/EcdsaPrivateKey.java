@@ -8,6 +8,7 @@ import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.asn1.x9.X962Parameters;
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
@@ -31,6 +32,7 @@ public final class EcdsaPrivateKey implements PrivateKey {
     private static final X9ECParameters CURVE;
     private static final ECDomainParameters DOMAIN;
     private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+    static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
 
     static {
         CURVE = SECNamedCurves.getByName("secp256k1");
@@ -55,10 +57,14 @@ public final class EcdsaPrivateKey implements PrivateKey {
     @Override
     public byte[] sign(final byte[] message) {
         Objects.requireNonNull(message, "message must not be null");
-        final byte[] hash = keccak256(message);
-        final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new org.bouncycastle.crypto.digests.SHA256Digest()));
-        signer.init(true, new ECPrivateKeyParameters(d, DOMAIN));
-        final BigInteger[] rs = signer.generateSignature(hash);
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ECDSA).sign(this, message);
+    }
+
+    byte[] signWithBouncyCastle(final byte[] message) {
+        Objects.requireNonNull(message, "message must not be null");
+        final Context context = CONTEXT.get();
+        context.signer.init(true, new ECPrivateKeyParameters(d, DOMAIN));
+        final BigInteger[] rs = context.signer.generateSignature(context.keccak256(message));
         final byte[] out = new byte[64];
         toFixed(rs[0], out, 0);
         toFixed(rs[1], out, 32);
@@ -67,9 +73,7 @@ public final class EcdsaPrivateKey implements PrivateKey {
 
     @Override
     public PublicKey createPublicKey() {
-        final ECPoint Q = DOMAIN.getG().multiply(d).normalize();
-        final byte[] comp = Q.getEncoded(true);
-        return new EcdsaPublicKey(comp);
+        return new EcdsaPublicKey(DOMAIN.getG().multiply(d));
     }
 
     @Override
@@ -128,29 +132,18 @@ public final class EcdsaPrivateKey implements PrivateKey {
         return new EcdsaPrivateKey(new BigInteger(1, raw32));
     }
 
-    public static EcdsaPrivateKey fromPkcs8Der(final byte[] der) {
-        try {
-            final PrivateKeyInfo pki = PrivateKeyInfo.getInstance(der);
-            if (!pki.getPrivateKeyAlgorithm().getAlgorithm().equals(ID_EC_PUBLIC_KEY)) {
-                throw new IllegalArgumentException("Not an EC private key");
-            }
-            final Object params = pki.getPrivateKeyAlgorithm().getParameters();
-            if (params == null || !params.equals(ID_SECP256K1)) {
-                throw new IllegalArgumentException("Unsupported curve, expected secp256k1");
-            }
-            final ECPrivateKey ec = ECPrivateKey.getInstance(pki.parsePrivateKey());
-            return new EcdsaPrivateKey(ec.getKey());
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Invalid PKCS#8 DER", e);
-        }
-    }
+    // per thread digest and signer, the HMAC k calculator resets itself on every init and verification does not use it
+    static final class Context {
+        private final KeccakDigest digest = new KeccakDigest(256);
+        private final byte[] hash = new byte[32];
+        final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
 
-    static byte[] keccak256(final byte[] msg) {
-        final KeccakDigest d = new KeccakDigest(256);
-        d.update(msg, 0, msg.length);
-        final byte[] out = new byte[32];
-        d.doFinal(out, 0);
-        return out;
+        // the returned array is overwritten by the next call on the same thread
+        byte[] keccak256(final byte[] msg) {
+            digest.update(msg, 0, msg.length);
+            digest.doFinal(hash, 0);
+            return hash;
+        }
     }
 
     private static void toFixed(final BigInteger bi, final byte[] out, final int off) {
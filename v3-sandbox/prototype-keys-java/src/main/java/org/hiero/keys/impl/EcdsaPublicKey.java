@@ -6,8 +6,8 @@ import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.ECPublicKeyParameters;
-import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
 import org.hiero.keys.*;
 import org.hiero.keys.io.KeyEncoding;
 import org.hiero.keys.io.KeyFormat;
@@ -32,6 +32,10 @@ public final class EcdsaPublicKey implements PublicKey {
 
     private final byte[] qCompressed; // 33 bytes
 
+    // decoded point, kept so that verify does not decompress again and BouncyCastle can attach its
+    // multiplication tables to the same point instance
+    private volatile ECPublicKeyParameters parameters;
+
     public EcdsaPublicKey(final byte[] qBytes) {
         Objects.requireNonNull(qBytes, "qBytes must not be null");
         if (qBytes.length == 33) {
@@ -40,23 +44,44 @@ public final class EcdsaPublicKey implements PublicKey {
             // compress
             final ECPoint p = CURVE.getCurve().decodePoint(qBytes).normalize();
             this.qCompressed = p.getEncoded(true);
+            this.parameters = new ECPublicKeyParameters(p, DOMAIN);
         } else {
             throw new IllegalArgumentException("ECDSA public key must be 33 or 65 bytes");
         }
     }
 
+    EcdsaPublicKey(final ECPoint q) {
+        Objects.requireNonNull(q, "q must not be null");
+        final ECPoint p = q.normalize();
+        this.qCompressed = p.getEncoded(true);
+        this.parameters = new ECPublicKeyParameters(p, DOMAIN);
+    }
+
+    private ECPublicKeyParameters parameters() {
+        ECPublicKeyParameters result = parameters;
+        if (result == null) {
+            result = new ECPublicKeyParameters(CURVE.getCurve().decodePoint(qCompressed).normalize(), DOMAIN);
+            parameters = result;
+        }
+        return result;
+    }
+
     @Override
     public boolean verify(final byte[] message, final byte[] signature) {
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ECDSA).verify(this, message, signature);
+    }
+
+    boolean verifyWithBouncyCastle(final byte[] message, final byte[] signature) {
         Objects.requireNonNull(message, "message must not be null");
         Objects.requireNonNull(signature, "signature must not be null");
         if (signature.length != 64) throw new IllegalArgumentException("ECDSA signature must be 64 bytes (r||s)");
-        final byte[] hash = EcdsaPrivateKey.keccak256(message);
-        final ECDSASigner verifier = new ECDSASigner();
-        final ECPoint Q = CURVE.getCurve().decodePoint(qCompressed).normalize();
-        verifier.init(false, new ECPublicKeyParameters(Q, DOMAIN));
-        final BigInteger r = new BigInteger(1, Arrays.copyOfRange(signature, 0, 32));
-        final BigInteger s = new BigInteger(1, Arrays.copyOfRange(signature, 32, 64));
-        return verifier.verifySignature(hash, r, s);
+        final EcdsaPrivateKey.Context context = EcdsaPrivateKey.CONTEXT.get();
+        context.signer.init(false, parameters());
+        final BigInteger r = BigIntegers.fromUnsignedByteArray(signature, 0, 32);
+        final BigInteger s = BigIntegers.fromUnsignedByteArray(signature, 32, 32);
+        return context.signer.verifySignature(context.keccak256(message), r, s);
     }
 
     @Override
@@ -105,22 +130,6 @@ public final class EcdsaPublicKey implements PublicKey {
         return PemUtil.toPem("PUBLIC KEY", toBytes(KeyFormat.SPKI_WITH_DER));
     }
 
-    public static EcdsaPublicKey fromSpkiDer(final byte[] der) {
-        try {
-            final SubjectPublicKeyInfo spki = SubjectPublicKeyInfo.getInstance(der);
-            if (!spki.getAlgorithm().getAlgorithm().equals(ID_EC_PUBLIC_KEY)) {
-                throw new IllegalArgumentException("Not an EC public key");
-            }
-            final Object params = spki.getAlgorithm().getParameters();
-            if (params == null || !params.equals(ID_SECP256K1)) {
-                throw new IllegalArgumentException("Unsupported curve, expected secp256k1");
-            }
-            return new EcdsaPublicKey(spki.getPublicKeyData().getBytes());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid SPKI DER", e);
-        }
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -18,6 +18,9 @@ import static org.hiero.keys.impl.Oids.ID_ED25519;
 public final class Ed25519PrivateKey implements PrivateKey {
     private final byte[] seed32;
 
+    // JCA form of the key, kept by the JdkCryptoBackend
+    private volatile java.security.PrivateKey jdkKey;
+
     public Ed25519PrivateKey(final byte[] seed32) {
         this.seed32 = Objects.requireNonNull(seed32, "seed32 must not be null");
         if (seed32.length != 32) {
@@ -27,12 +30,25 @@ public final class Ed25519PrivateKey implements PrivateKey {
 
     @Override
     public byte[] sign(final byte[] message) {
+        Objects.requireNonNull(message, "message must not be null");
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ED25519).sign(this, message);
+    }
+
+    byte[] signWithBouncyCastle(final byte[] message) {
         Objects.requireNonNull(message, "message must not be null");
         final byte[] sig = new byte[Ed25519.SIGNATURE_SIZE];
         Ed25519.sign(seed32, 0, message, 0, message.length, sig, 0);
         return sig;
     }
 
+    java.security.PrivateKey jdkKey() {
+        return jdkKey;
+    }
+
+    void jdkKey(final java.security.PrivateKey jdkKey) {
+        this.jdkKey = jdkKey;
+    }
+
     @Override
     public PublicKey createPublicKey() {
         final byte[] pub = new byte[Ed25519.PUBLIC_KEY_SIZE];
@@ -17,6 +17,14 @@ import static org.hiero.keys.impl.Oids.ID_ED25519;
 public final class Ed25519PublicKey implements PublicKey {
     private final byte[] pub32;
 
+    // decoded point, kept so that repeated verifications do not decompress the key again
+    private volatile Ed25519.PublicPoint publicPoint;
+
+    private volatile boolean invalidPoint;
+
+    // JCA form of the key, kept by the JdkCryptoBackend
+    private volatile java.security.PublicKey jdkKey;
+
     public Ed25519PublicKey(final byte[] pub32) {
         this.pub32 = Objects.requireNonNull(pub32, "pub32 must not be null");
         if (pub32.length != 32) {
@@ -28,7 +36,41 @@ public final class Ed25519PublicKey implements PublicKey {
     public boolean verify(final byte[] message, final byte[] signature) {
         Objects.requireNonNull(message, "message must not be null");
         Objects.requireNonNull(signature, "signature must not be null");
-        return Ed25519.verify(signature, 0, pub32, 0, message, 0, message.length);
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ED25519).verify(this, message, signature);
+    }
+
+    boolean verifyWithBouncyCastle(final byte[] message, final byte[] signature) {
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+        if (signature.length != Ed25519.SIGNATURE_SIZE) {
+            return false;
+        }
+        final Ed25519.PublicPoint point = publicPoint();
+        if (point == null) {
+            return false;
+        }
+        return Ed25519.verify(signature, 0, point, message, 0, message.length);
+    }
+
+    private Ed25519.PublicPoint publicPoint() {
+        Ed25519.PublicPoint result = publicPoint;
+        if (result == null && !invalidPoint) {
+            result = Ed25519.validatePublicKeyPartialExport(pub32, 0);
+            if (result == null) {
+                invalidPoint = true;
+            } else {
+                publicPoint = result;
+            }
+        }
+        return result;
+    }
+
+    java.security.PublicKey jdkKey() {
+        return jdkKey;
+    }
+
+    void jdkKey(final java.security.PublicKey jdkKey) {
+        this.jdkKey = jdkKey;
     }
 
     @Override
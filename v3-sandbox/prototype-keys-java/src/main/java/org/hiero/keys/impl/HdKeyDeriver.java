@@ -0,0 +1,198 @@
+package org.hiero.keys.impl;
+
+import org.bouncycastle.asn1.sec.SECNamedCurves;
+import org.bouncycastle.crypto.digests.SHA512Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.PrivateKey;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hierarchical deterministic key derivation as specified by SLIP-10, which is BIP-32 for secp256k1 and the
+ * hardened-only variant for Ed25519. Every node that has been the parent of a derived key is cached, so deriving
+ * the next sibling costs one HMAC-SHA512 step instead of a walk from the master node.
+ */
+public final class HdKeyDeriver {
+
+    public static final int HARDENED_OFFSET = 0x80000000;
+
+    // bounds the memory used for intermediate nodes, derivation still works without cache once it is full
+    private static final int MAX_CACHED_NODES = 4096;
+
+    private static final BigInteger SECP256K1_N = SECNamedCurves.getByName("secp256k1").getN();
+
+    private static final byte[] ED25519_CURVE_KEY = "ed25519 seed".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SECP256K1_CURVE_KEY = "Bitcoin seed".getBytes(StandardCharsets.US_ASCII);
+
+    private final KeyAlgorithm algorithm;
+
+    private final Node master;
+
+    private final Map<Path, Node> cache = new ConcurrentHashMap<>();
+
+    public HdKeyDeriver(final KeyAlgorithm algorithm, final byte[] seed) {
+        this.algorithm = Objects.requireNonNull(algorithm, "algorithm must not be null");
+        Objects.requireNonNull(seed, "seed must not be null");
+        if (seed.length < 16 || seed.length > 64) {
+            throw new IllegalArgumentException("seed must be 16 to 64 bytes");
+        }
+        this.master = createMaster(algorithm, seed);
+    }
+
+    public KeyAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    public PrivateKey derive(final int[] path) {
+        Objects.requireNonNull(path, "path must not be null");
+        if (path.length == 0) {
+            return toPrivateKey(master);
+        }
+        final Node parent = node(path, path.length - 1);
+        return toPrivateKey(deriveChild(parent, path[path.length - 1]));
+    }
+
+    private Node node(final int[] path, final int length) {
+        if (length == 0) {
+            return master;
+        }
+        final Path key = new Path(Arrays.copyOf(path, length));
+        final Node cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Node node = deriveChild(node(path, length - 1), path[length - 1]);
+        if (cache.size() < MAX_CACHED_NODES) {
+            final Node existing = cache.putIfAbsent(key, node);
+            return existing != null ? existing : node;
+        }
+        return node;
+    }
+
+    private Node deriveChild(final Node parent, final int index) {
+        final boolean hardened = (index & HARDENED_OFFSET) != 0;
+        final byte[] data = new byte[37];
+        if (hardened) {
+            System.arraycopy(parent.key(), 0, data, 1, 32);
+        } else if (algorithm == KeyAlgorithm.ED25519) {
+            throw new IllegalArgumentException("Ed25519 only supports hardened derivation, index: " + index);
+        } else {
+            System.arraycopy(parent.compressedPublicKey(), 0, data, 0, 33);
+        }
+        writeIndex(data, index);
+        byte[] i = hmacSha512(parent.chainCode(), data);
+        if (algorithm == KeyAlgorithm.ED25519) {
+            return new Node(Arrays.copyOf(i, 32), Arrays.copyOfRange(i, 32, 64));
+        }
+        while (true) {
+            final BigInteger il = new BigInteger(1, Arrays.copyOf(i, 32));
+            final BigInteger k = il.add(new BigInteger(1, parent.key())).mod(SECP256K1_N);
+            if (il.compareTo(SECP256K1_N) < 0 && k.signum() != 0) {
+                return new Node(to32Bytes(k), Arrays.copyOfRange(i, 32, 64));
+            }
+            // invalid key, SLIP-10 continues with 0x01 || IR || index
+            data[0] = 1;
+            System.arraycopy(i, 32, data, 1, 32);
+            writeIndex(data, index);
+            i = hmacSha512(parent.chainCode(), data);
+        }
+    }
+
+    private static Node createMaster(final KeyAlgorithm algorithm, final byte[] seed) {
+        final byte[] curveKey = algorithm == KeyAlgorithm.ED25519 ? ED25519_CURVE_KEY : SECP256K1_CURVE_KEY;
+        byte[] i = hmacSha512(curveKey, seed);
+        if (algorithm == KeyAlgorithm.ECDSA) {
+            // invalid key, SLIP-10 repeats with the HMAC output as data
+            BigInteger k = new BigInteger(1, Arrays.copyOf(i, 32));
+            while (k.signum() == 0 || k.compareTo(SECP256K1_N) >= 0) {
+                i = hmacSha512(curveKey, i);
+                k = new BigInteger(1, Arrays.copyOf(i, 32));
+            }
+        }
+        return new Node(Arrays.copyOf(i, 32), Arrays.copyOfRange(i, 32, 64));
+    }
+
+    private PrivateKey toPrivateKey(final Node node) {
+        return switch (algorithm) {
+            case ED25519 -> new Ed25519PrivateKey(node.key().clone());
+            case ECDSA -> new EcdsaPrivateKey(new BigInteger(1, node.key()));
+        };
+    }
+
+    private static void writeIndex(final byte[] data, final int index) {
+        data[33] = (byte) (index >>> 24);
+        data[34] = (byte) (index >>> 16);
+        data[35] = (byte) (index >>> 8);
+        data[36] = (byte) index;
+    }
+
+    private static byte[] to32Bytes(final BigInteger value) {
+        final byte[] bytes = value.toByteArray();
+        final byte[] out = new byte[32];
+        final int copy = Math.min(32, bytes.length);
+        System.arraycopy(bytes, bytes.length - copy, out, 32 - copy, copy);
+        return out;
+    }
+
+    private static byte[] hmacSha512(final byte[] key, final byte[] data) {
+        final HMac hmac = new HMac(new SHA512Digest());
+        hmac.init(new KeyParameter(key));
+        hmac.update(data, 0, data.length);
+        final byte[] out = new byte[64];
+        hmac.doFinal(out, 0);
+        return out;
+    }
+
+    private static final class Node {
+
+        private final byte[] key;
+
+        private final byte[] chainCode;
+
+        // secp256k1 only, needed to derive non-hardened children
+        private volatile byte[] compressedPublicKey;
+
+        private Node(final byte[] key, final byte[] chainCode) {
+            this.key = key;
+            this.chainCode = chainCode;
+        }
+
+        private byte[] key() {
+            return key;
+        }
+
+        private byte[] chainCode() {
+            return chainCode;
+        }
+
+        private byte[] compressedPublicKey() {
+            byte[] result = compressedPublicKey;
+            if (result == null) {
+                result = new EcdsaPrivateKey(new BigInteger(1, key)).createPublicKey().toRawBytes();
+                compressedPublicKey = result;
+            }
+            return result;
+        }
+    }
+
+    private record Path(int[] indices) {
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Path other && Arrays.equals(indices, other.indices);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(indices);
+        }
+    }
+}
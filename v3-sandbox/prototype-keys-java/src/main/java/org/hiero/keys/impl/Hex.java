@@ -1,10 +1,25 @@
 package org.hiero.keys.impl;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 
 public final class Hex {
     private static final char[] HEX_ARRAY = "0123456789abcdef".toCharArray();
 
+    // value of an ASCII hex digit or -1
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            DIGITS[HEX_ARRAY[i]] = (byte) i;
+            DIGITS[Character.toUpperCase(HEX_ARRAY[i])] = (byte) i;
+        }
+    }
+
     private Hex() {}
 
     public static String encode(final byte[] bytes) {
@@ -38,4 +53,107 @@ public final class Hex {
         }
         return data;
     }
+
+    /**
+     * Decodes the ASCII hex characters between position and limit of the buffer. The same input as for
+     * {@link #decode(String)} is accepted, but no String is created. The position of the buffer is not changed.
+     */
+    public static byte[] decode(final ByteBuffer hex) {
+        Objects.requireNonNull(hex, "hex must not be null");
+        int start = hex.position();
+        final int end = hex.limit();
+        if (end - start >= 2 && hex.get(start) == '0' && hex.get(start + 1) == 'x') {
+            start += 2;
+        }
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            if (!isIgnored(hex.get(i))) {
+                digits++;
+            }
+        }
+        if ((digits & 1) != 0) {
+            throw new IllegalArgumentException("Hex string has odd length: " + digits);
+        }
+        final byte[] data = new byte[digits / 2];
+        int hi = -1;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            final byte c = hex.get(i);
+            if (isIgnored(c)) {
+                continue;
+            }
+            final int digit = digit(c);
+            if (digit == -1) {
+                throw new IllegalArgumentException("Invalid hex char at position " + (i - hex.position()));
+            }
+            if (hi == -1) {
+                hi = digit;
+            } else {
+                data[count++] = (byte) ((hi << 4) + digit);
+                hi = -1;
+            }
+        }
+        return data;
+    }
+
+    private static boolean isIgnored(final byte c) {
+        return c == ' ' || c == '\n' || c == '\r';
+    }
+
+    public static int encodedLength(final int byteCount) {
+        return byteCount * 2;
+    }
+
+    /**
+     * Encodes the remaining bytes of {@code src} as lowercase hex into {@code dst}. Both positions are advanced, no
+     * objects are allocated.
+     *
+     * @throws BufferOverflowException if {@code dst} has less than {@link #encodedLength(int)} chars remaining, in
+     *                                 that case nothing is written
+     */
+    public static void encode(final ByteBuffer src, final CharBuffer dst) {
+        Objects.requireNonNull(src, "src must not be null");
+        Objects.requireNonNull(dst, "dst must not be null");
+        if (dst.remaining() < encodedLength(src.remaining())) {
+            throw new BufferOverflowException();
+        }
+        while (src.hasRemaining()) {
+            final int v = src.get() & 0xFF;
+            dst.put(HEX_ARRAY[v >>> 4]);
+            dst.put(HEX_ARRAY[v & 0x0F]);
+        }
+    }
+
+    /**
+     * Decodes the remaining hex chars of {@code src} (without prefix or whitespace) into {@code dst}. Both positions
+     * are advanced, no objects are allocated.
+     *
+     * @throws IllegalArgumentException if the input has an odd length or contains a non hex char, in that case
+     *                                  nothing is written
+     * @throws BufferOverflowException  if {@code dst} is too small, in that case nothing is written
+     */
+    public static void decode(final CharBuffer src, final ByteBuffer dst) {
+        Objects.requireNonNull(src, "src must not be null");
+        Objects.requireNonNull(dst, "dst must not be null");
+        final int length = src.remaining();
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("Hex string has odd length: " + length);
+        }
+        if (dst.remaining() < length / 2) {
+            throw new BufferOverflowException();
+        }
+        final int start = src.position();
+        for (int i = 0; i < length; i++) {
+            if (digit(src.get(start + i)) == -1) {
+                throw new IllegalArgumentException("Invalid hex char at position " + i);
+            }
+        }
+        for (int i = 0; i < length; i += 2) {
+            dst.put((byte) ((digit(src.get()) << 4) + digit(src.get())));
+        }
+    }
+
+    private static int digit(final int c) {
+        return c >= 0 && c < DIGITS.length ? DIGITS[c] : -1;
+    }
 }
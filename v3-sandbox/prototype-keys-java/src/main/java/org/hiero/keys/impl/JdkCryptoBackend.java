@@ -0,0 +1,177 @@
+package org.hiero.keys.impl;
+
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.PrivateKey;
+import org.hiero.keys.PublicKey;
+import org.hiero.keys.spi.CryptoBackend;
+import org.hiero.keys.spi.DigestAlgorithm;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.spec.EdECPoint;
+import java.security.spec.EdECPrivateKeySpec;
+import java.security.spec.EdECPublicKeySpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.NamedParameterSpec;
+import java.util.Objects;
+
+/**
+ * A {@link CryptoBackend} that uses the Ed25519 implementation of the JDK. The JDK does not support secp256k1, so
+ * ECDSA is not supported. The JCA keys are kept by the keys of this package, so they are only created once per key.
+ * The JDK has no Keccak-256 (only SHA3-256, which pads differently), so only SHA-384 digests are supported.
+ */
+public final class JdkCryptoBackend implements CryptoBackend {
+
+    public static final String NAME = "jdk";
+
+    private static final String ALGORITHM = "Ed25519";
+
+    private static final ThreadLocal<Signature> signature = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not supported by the JDK", e);
+        }
+    });
+
+    private static final ThreadLocal<java.security.KeyFactory> keyFactory = ThreadLocal.withInitial(() -> {
+        try {
+            return java.security.KeyFactory.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not supported by the JDK", e);
+        }
+    });
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(final KeyAlgorithm algorithm) {
+        return algorithm == KeyAlgorithm.ED25519;
+    }
+
+    @Override
+    public PrivateKey generatePrivateKey(final KeyAlgorithm algorithm) {
+        checkAlgorithm(algorithm);
+        try {
+            final EdECPrivateKey privateKey = (EdECPrivateKey) KeyPairGenerator.getInstance(ALGORITHM)
+                    .generateKeyPair()
+                    .getPrivate();
+            final Ed25519PrivateKey result = new Ed25519PrivateKey(privateKey.getBytes()
+                    .orElseThrow(() -> new IllegalStateException("Generated key does not expose its bytes")));
+            result.jdkKey(privateKey);
+            return result;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error generating Ed25519 key", e);
+        }
+    }
+
+    @Override
+    public byte[] sign(final PrivateKey privateKey, final byte[] message) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        checkAlgorithm(privateKey.algorithm());
+        try {
+            final Signature signer = signature.get();
+            signer.initSign(toJdkKey(privateKey));
+            signer.update(message);
+            return signer.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error signing message", e);
+        }
+    }
+
+    @Override
+    public boolean verify(final PublicKey publicKey, final byte[] message, final byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+        checkAlgorithm(publicKey.algorithm());
+        try {
+            final Signature verifier = JdkCryptoBackend.signature.get();
+            verifier.initVerify(toJdkKey(publicKey));
+            verifier.update(message);
+            return verifier.verify(signature);
+        } catch (InvalidKeySpecException | InvalidKeyException | SignatureException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supportsDigest(final DigestAlgorithm algorithm) {
+        return algorithm == DigestAlgorithm.SHA_384;
+    }
+
+    @Override
+    public byte[] digest(final DigestAlgorithm algorithm, final byte[] message) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        if (!supportsDigest(algorithm)) {
+            throw new IllegalArgumentException("Unsupported digest algorithm: " + algorithm);
+        }
+        try {
+            return MessageDigest.getInstance("SHA-384").digest(message);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-384 is not supported by the JDK", e);
+        }
+    }
+
+    private static java.security.PrivateKey toJdkKey(final PrivateKey privateKey) throws InvalidKeySpecException {
+        if (privateKey instanceof Ed25519PrivateKey ed25519Key) {
+            java.security.PrivateKey result = ed25519Key.jdkKey();
+            if (result == null) {
+                result = createJdkKey(privateKey.toRawBytes());
+                ed25519Key.jdkKey(result);
+            }
+            return result;
+        }
+        return createJdkKey(privateKey.toRawBytes());
+    }
+
+    private static java.security.PublicKey toJdkKey(final PublicKey publicKey) throws InvalidKeySpecException {
+        if (publicKey instanceof Ed25519PublicKey ed25519Key) {
+            java.security.PublicKey result = ed25519Key.jdkKey();
+            if (result == null) {
+                result = createJdkKey(toPoint(publicKey.toRawBytes()));
+                ed25519Key.jdkKey(result);
+            }
+            return result;
+        }
+        return createJdkKey(toPoint(publicKey.toRawBytes()));
+    }
+
+    private static java.security.PrivateKey createJdkKey(final byte[] seed) throws InvalidKeySpecException {
+        return keyFactory.get().generatePrivate(new EdECPrivateKeySpec(NamedParameterSpec.ED25519, seed));
+    }
+
+    private static java.security.PublicKey createJdkKey(final EdECPoint point) throws InvalidKeySpecException {
+        return keyFactory.get().generatePublic(new EdECPublicKeySpec(NamedParameterSpec.ED25519, point));
+    }
+
+    // RFC 8032 encoding: little endian y coordinate, the highest bit is the sign of x
+    private static EdECPoint toPoint(final byte[] encoded) {
+        final boolean xOdd = (encoded[31] & 0x80) != 0;
+        final byte[] y = new byte[32];
+        for (int i = 0; i < 32; i++) {
+            y[i] = encoded[31 - i];
+        }
+        y[0] &= 0x7F;
+        return new EdECPoint(xOdd, new BigInteger(1, y));
+    }
+
+    private static void checkAlgorithm(final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        if (algorithm != KeyAlgorithm.ED25519) {
+            throw new IllegalArgumentException("Unsupported key algorithm: " + algorithm);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package org.hiero.keys.impl;
 
-import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
-import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.hiero.keys.KeyAlgorithm;
 import org.hiero.keys.KeyType;
 import org.hiero.keys.PrivateKey;
@@ -10,21 +8,22 @@ import org.hiero.keys.io.ByteImportEncoding;
 import org.hiero.keys.io.KeyFormat;
 import org.hiero.keys.io.RawFormat;
 
-import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 public final class KeyFactory {
 
+    private static final ThreadLocal<java.security.SecureRandom> RANDOM =
+            ThreadLocal.withInitial(java.security.SecureRandom::new);
+
     private KeyFactory() {
     }
 
     // Generation
     public static PrivateKey generatePrivateKey(final KeyAlgorithm algorithm) {
         Objects.requireNonNull(algorithm, "algorithm must not be null");
-        return switch (algorithm) {
-            case ED25519 -> new Ed25519PrivateKey(randomEd25519Seed());
-            case ECDSA -> EcdsaPrivateKey.generate();
-        };
+        return CryptoBackendLoader.getInstance().forAlgorithm(algorithm).generatePrivateKey(algorithm);
     }
 
     // Create from raw bytes
@@ -96,6 +95,31 @@ public final class KeyFactory {
         throw new IllegalArgumentException("Format not supported for public key: " + format);
     }
 
+    // Create from bytes of unknown format
+    public static PrivateKey createPrivateKey(final byte[] value) {
+        Objects.requireNonNull(value, "value must not be null");
+        final KeyFormatSniffer.Result sniffed = KeyFormatSniffer.sniff(value);
+        return switch (sniffed.kind()) {
+            case PKCS8_DER, SEC1_DER -> createPrivateKey(sniffed, value);
+            case PEM -> createPrivateKey(KeyFormat.PKCS8_WITH_PEM, new String(value, StandardCharsets.US_ASCII));
+            case RAW -> throw new IllegalArgumentException("Raw private keys need an explicit algorithm");
+            default -> throw new IllegalArgumentException("Unknown private key format");
+        };
+    }
+
+    public static PublicKey createPublicKey(final byte[] value) {
+        Objects.requireNonNull(value, "value must not be null");
+        final KeyFormatSniffer.Result sniffed = KeyFormatSniffer.sniff(value);
+        return switch (sniffed.kind()) {
+            case SPKI_DER -> createPublicKey(sniffed, value);
+            case PEM -> createPublicKey(KeyFormat.SPKI_WITH_PEM, new String(value, StandardCharsets.US_ASCII));
+            // ECDSA public keys are never 32 bytes long
+            case RAW -> createPublicKey(sniffed.algorithm() != null ? sniffed.algorithm() : KeyAlgorithm.ED25519,
+                    value);
+            default -> throw new IllegalArgumentException("Unknown public key format");
+        };
+    }
+
     public static PrivateKey createPrivateKey(final KeyFormat format, final String value) {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(value, "value must not be null");
@@ -138,42 +162,47 @@ public final class KeyFactory {
     }
 
     private static PrivateKey parsePkcs8Der(final byte[] der) {
-        try {
-            final PrivateKeyInfo info = PrivateKeyInfo.getInstance(der);
-            final String algOid = info.getPrivateKeyAlgorithm().getAlgorithm().getId();
-            if (org.hiero.keys.impl.Oids.ID_ED25519.getId().equals(algOid)) {
-                final byte[] octets = ((org.bouncycastle.asn1.ASN1OctetString) info.parsePrivateKey()).getOctets();
-                return new Ed25519PrivateKey(requireLen(octets, 32));
-            }
-            if (org.hiero.keys.impl.Oids.ID_EC_PUBLIC_KEY.getId().equals(algOid)) {
-                return EcdsaPrivateKey.fromPkcs8Der(der);
-            }
-            throw new IllegalArgumentException("Unsupported PKCS#8 algorithm OID: " + algOid);
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Invalid PKCS#8 DER", e);
+        final KeyFormatSniffer.Result sniffed = KeyFormatSniffer.sniff(der);
+        if (sniffed.kind() != KeyFormatSniffer.Kind.PKCS8_DER) {
+            throw new IllegalArgumentException("Invalid PKCS#8 DER");
         }
+        return createPrivateKey(sniffed, der);
     }
 
     private static PublicKey parseSpkiDer(final byte[] der) {
-        try {
-            final SubjectPublicKeyInfo spki = SubjectPublicKeyInfo.getInstance(der);
-            final String algOid = spki.getAlgorithm().getAlgorithm().getId();
-            if (org.hiero.keys.impl.Oids.ID_ED25519.getId().equals(algOid)) {
-                return new Ed25519PublicKey(spki.getPublicKeyData().getBytes());
-            }
-            if (org.hiero.keys.impl.Oids.ID_EC_PUBLIC_KEY.getId().equals(algOid)) {
-                return EcdsaPublicKey.fromSpkiDer(der);
+        final KeyFormatSniffer.Result sniffed = KeyFormatSniffer.sniff(der);
+        if (sniffed.kind() != KeyFormatSniffer.Kind.SPKI_DER) {
+            throw new IllegalArgumentException("Invalid SPKI DER");
+        }
+        return createPublicKey(sniffed, der);
+    }
+
+    private static PrivateKey createPrivateKey(final KeyFormatSniffer.Result sniffed, final byte[] data) {
+        if (sniffed.algorithm() == null) {
+            throw new IllegalArgumentException("Unsupported key algorithm in " + sniffed.kind());
+        }
+        final byte[] key = sniffed.keyBytes(data);
+        return switch (sniffed.algorithm()) {
+            case ED25519 -> new Ed25519PrivateKey(requireLen(key, 32));
+            case ECDSA -> {
+                if (key.length == 0 || key.length > 32) {
+                    throw new IllegalArgumentException("Invalid ECDSA private key length: " + key.length);
+                }
+                yield new EcdsaPrivateKey(new BigInteger(1, key));
             }
-            throw new IllegalArgumentException("Unsupported SPKI algorithm OID: " + algOid);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid SPKI DER", e);
+        };
+    }
+
+    private static PublicKey createPublicKey(final KeyFormatSniffer.Result sniffed, final byte[] data) {
+        if (sniffed.algorithm() == null) {
+            throw new IllegalArgumentException("Unsupported key algorithm in " + sniffed.kind());
         }
+        return createPublicKey(sniffed.algorithm(), sniffed.keyBytes(data));
     }
 
-    private static byte[] randomEd25519Seed() {
-        final java.security.SecureRandom rnd = new java.security.SecureRandom();
+    static byte[] randomEd25519Seed() {
         final byte[] seed = new byte[32];
-        rnd.nextBytes(seed);
+        RANDOM.get().nextBytes(seed);
         return seed;
     }
 }
@@ -3,8 +3,11 @@ package org.hiero.keys.impl;
 import org.hiero.keys.KeyType;
 import org.hiero.keys.io.ByteImportEncoding;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 
@@ -14,15 +17,9 @@ public final class PemUtil {
     }
 
     public static String toPem(final String type, final byte[] der) {
-        final String base64 = Base64.getEncoder().encodeToString(der);
-        final StringBuilder sb = new StringBuilder();
-        sb.append("-----BEGIN ").append(type).append("-----\n");
-        for (int i = 0; i < base64.length(); i += 64) {
-            int end = Math.min(i + 64, base64.length());
-            sb.append(base64, i, end).append('\n');
-        }
-        sb.append("-----END ").append(type).append("-----\n");
-        return sb.toString();
+        final CharBuffer pem = CharBuffer.allocate(pemLength(type, der.length));
+        toPem(type, ByteBuffer.wrap(der), pem);
+        return pem.flip().toString();
     }
 
     public static byte[] fromPem(final KeyType keyType, final String pem) {
@@ -61,4 +58,136 @@ public final class PemUtil {
         // Use MIME decoder to be tolerant, though we already cleaned the payload
         return ByteImportEncoding.BASE64.decode(base64);
     }
+
+    /**
+     * Decodes a PEM block between position and limit of the buffer without creating Strings for the block or its
+     * lines. The position of the buffer is not changed.
+     */
+    public static byte[] fromPem(final KeyType keyType, final ByteBuffer pem) {
+        Objects.requireNonNull(keyType, "keyType must not be null");
+        Objects.requireNonNull(pem, "pem must not be null");
+
+        final byte[] header = ("-----BEGIN " + keyType.getPemLabel() + "-----").getBytes(StandardCharsets.US_ASCII);
+        final byte[] footer = ("-----END " + keyType.getPemLabel() + "-----").getBytes(StandardCharsets.US_ASCII);
+
+        int start = pem.position();
+        int end = pem.limit();
+        while (start < end && isWhitespace(pem.get(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(pem.get(end - 1))) {
+            end--;
+        }
+        final int bodyStart = start + header.length;
+        final int bodyEnd = end - footer.length;
+        if (bodyEnd <= bodyStart || !matches(pem, start, header) || !matches(pem, bodyEnd, footer)
+                || !isWhitespace(pem.get(bodyStart)) || !isWhitespace(pem.get(bodyEnd - 1))) {
+            throw new IllegalArgumentException("Invalid PEM for type " + keyType);
+        }
+        return Base64Util.decodeMime(pem.slice(bodyStart, bodyEnd - bodyStart));
+    }
+
+    private static boolean matches(final ByteBuffer buffer, final int offset, final byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(offset + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWhitespace(final byte c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    public static int pemLength(final String type, final int derLength) {
+        final int base64Length = Base64Util.encodedLength(derLength);
+        final int lineCount = (base64Length + 63) / 64;
+        return 2 * type.length() + "-----BEGIN -----\n".length() + "-----END -----\n".length()
+                + base64Length + lineCount;
+    }
+
+    /**
+     * Writes the remaining bytes of {@code der} as PEM block into {@code dst}, with the same layout as
+     * {@link #toPem(String, byte[])}. Both positions are advanced, no objects are allocated.
+     *
+     * @throws BufferOverflowException if {@code dst} has less than {@link #pemLength(String, int)} chars remaining,
+     *                                 in that case nothing is written
+     */
+    public static void toPem(final String type, final ByteBuffer der, final CharBuffer dst) {
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(der, "der must not be null");
+        Objects.requireNonNull(dst, "dst must not be null");
+        if (dst.remaining() < pemLength(type, der.remaining())) {
+            throw new BufferOverflowException();
+        }
+        dst.put("-----BEGIN ").put(type).put("-----\n");
+        final int limit = der.limit();
+        try {
+            while (der.hasRemaining()) {
+                // 48 bytes are one line of 64 Base64 chars
+                der.limit(Math.min(limit, der.position() + 48));
+                Base64Util.encode(der, dst);
+                dst.put('\n');
+                der.limit(limit);
+            }
+        } finally {
+            der.limit(limit);
+        }
+        dst.put("-----END ").put(type).put("-----\n");
+    }
+
+    /**
+     * Decodes the PEM block in the remaining chars of {@code pem} into {@code dst} in a single pass. Both positions
+     * are advanced, no objects are allocated.
+     *
+     * @throws IllegalArgumentException if the block is not a valid PEM block of the given type, in that case both
+     *                                  positions are unchanged
+     * @throws BufferOverflowException  if {@code dst} is too small, in that case both positions are unchanged
+     */
+    public static void fromPem(final KeyType keyType, final CharBuffer pem, final ByteBuffer dst) {
+        Objects.requireNonNull(keyType, "keyType must not be null");
+        Objects.requireNonNull(pem, "pem must not be null");
+        Objects.requireNonNull(dst, "dst must not be null");
+        final int pemPosition = pem.position();
+        final int dstPosition = dst.position();
+        try {
+            skipWhitespace(pem);
+            expect(pem, "-----BEGIN ", keyType);
+            expect(pem, keyType.getPemLabel(), keyType);
+            expect(pem, "-----", keyType);
+            if (!pem.hasRemaining() || !Base64Util.isWhitespace(pem.get(pem.position()))) {
+                throw new IllegalArgumentException("Invalid PEM for type " + keyType);
+            }
+            Base64Util.decode(pem, dst, true);
+            expect(pem, "-----END ", keyType);
+            expect(pem, keyType.getPemLabel(), keyType);
+            expect(pem, "-----", keyType);
+            skipWhitespace(pem);
+            if (pem.hasRemaining()) {
+                throw new IllegalArgumentException("Invalid PEM for type " + keyType);
+            }
+        } catch (RuntimeException e) {
+            pem.position(pemPosition);
+            dst.position(dstPosition);
+            throw e;
+        }
+    }
+
+    private static void expect(final CharBuffer pem, final String expected, final KeyType keyType) {
+        if (pem.remaining() < expected.length()) {
+            throw new IllegalArgumentException("Invalid PEM for type " + keyType);
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (pem.get() != expected.charAt(i)) {
+                throw new IllegalArgumentException("Invalid PEM for type " + keyType);
+            }
+        }
+    }
+
+    private static void skipWhitespace(final CharBuffer pem) {
+        while (pem.hasRemaining() && Base64Util.isWhitespace(pem.get(pem.position()))) {
+            pem.get();
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package org.hiero.keys.io;
+
+/**
+ * Binary layout of the key store file written by {@link KeyStoreWriter} and read by {@link MappedKeyStore}.
+ * <pre>
+ * header: int magic, int version, int entry count, int reserved
+ * index:  one 16 byte slot per entry, sorted by the unsigned UTF-8 bytes of the alias:
+ *         int alias offset, int value offset, short alias length, byte algorithm, byte value format,
+ *         int value length
+ * data:   aliases and values, offsets are absolute file positions
+ * </pre>
+ * All numbers are big endian. The fixed size slots allow a binary search on the mapped index without decoding any
+ * entry.
+ */
+final class KeyStoreLayout {
+
+    static final int MAGIC = 0x484B5331; // "HKS1"
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+
+    static final int SLOT_SIZE = 16;
+
+    static final int SLOT_ALIAS_OFFSET = 0;
+
+    static final int SLOT_VALUE_OFFSET = 4;
+
+    static final int SLOT_ALIAS_LENGTH = 8;
+
+    static final int SLOT_ALGORITHM = 10;
+
+    static final int SLOT_VALUE_FORMAT = 11;
+
+    static final int SLOT_VALUE_LENGTH = 12;
+
+    static final int MAX_ALIAS_LENGTH = 0xFFFF;
+
+    // marks values that carry their algorithm themselves (PKCS#8)
+    static final byte NO_ALGORITHM = -1;
+
+    /**
+     * Encoding of a stored value. Values are stored as they were added, so that existing text key files can be
+     * converted without decoding every key.
+     */
+    enum ValueFormat {
+        RAW,
+        HEX,
+        BASE64,
+        PKCS8_DER,
+        PKCS8_PEM
+    }
+
+    private KeyStoreLayout() {
+    }
+}
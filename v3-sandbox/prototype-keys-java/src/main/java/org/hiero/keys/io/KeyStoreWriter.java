@@ -0,0 +1,148 @@
+package org.hiero.keys.io;
+
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.KeyType;
+import org.hiero.keys.PrivateKey;
+import org.hiero.keys.io.KeyStoreLayout.ValueFormat;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.hiero.keys.io.KeyStoreLayout.HEADER_SIZE;
+import static org.hiero.keys.io.KeyStoreLayout.MAGIC;
+import static org.hiero.keys.io.KeyStoreLayout.MAX_ALIAS_LENGTH;
+import static org.hiero.keys.io.KeyStoreLayout.NO_ALGORITHM;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_SIZE;
+import static org.hiero.keys.io.KeyStoreLayout.VERSION;
+
+/**
+ * Collects private keys by alias (for example the account ID that uses the key) and writes them to a key store file
+ * that can be opened with {@link MappedKeyStore}. Text encoded keys are stored as they are, so converting existing
+ * key files does not decode any key.
+ */
+public final class KeyStoreWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final Set<String> aliases = new HashSet<>();
+
+    public KeyStoreWriter add(final String alias, final PrivateKey privateKey) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        return add(alias, (byte) privateKey.algorithm().ordinal(), ValueFormat.RAW, privateKey.toRawBytes());
+    }
+
+    public KeyStoreWriter add(final String alias, final KeyAlgorithm algorithm, final ByteImportEncoding encoding,
+            final String value) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        Objects.requireNonNull(encoding, "encoding must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        final ValueFormat format = switch (encoding) {
+            case HEX -> ValueFormat.HEX;
+            case BASE64 -> ValueFormat.BASE64;
+        };
+        return add(alias, (byte) algorithm.ordinal(), format, value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public KeyStoreWriter add(final String alias, final KeyFormat format, final byte[] value) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        return add(alias, NO_ALGORITHM, toValueFormat(format), value.clone());
+    }
+
+    public KeyStoreWriter add(final String alias, final KeyFormat format, final String value) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        return add(alias, NO_ALGORITHM, toValueFormat(format), value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes all keys to the given file. An existing file is replaced.
+     */
+    public void write(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * Writes all keys to the given stream. The stream is flushed but not closed.
+     */
+    public void write(final OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "out must not be null");
+        final List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(Entry::alias, Arrays::compareUnsigned));
+
+        long dataSize = 0;
+        for (final Entry entry : sorted) {
+            dataSize += entry.alias().length + entry.value().length;
+        }
+        final long fileSize = HEADER_SIZE + (long) SLOT_SIZE * sorted.size() + dataSize;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Key store exceeds the maximum size of 2 GiB");
+        }
+
+        final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(sorted.size());
+        data.writeInt(0);
+        int offset = HEADER_SIZE + SLOT_SIZE * sorted.size();
+        for (final Entry entry : sorted) {
+            data.writeInt(offset);
+            data.writeInt(offset + entry.alias().length);
+            data.writeShort(entry.alias().length);
+            data.writeByte(entry.algorithm());
+            data.writeByte(entry.format().ordinal());
+            data.writeInt(entry.value().length);
+            offset += entry.alias().length + entry.value().length;
+        }
+        for (final Entry entry : sorted) {
+            data.write(entry.alias());
+            data.write(entry.value());
+        }
+        data.flush();
+    }
+
+    private KeyStoreWriter add(final String alias, final byte algorithm, final ValueFormat format,
+            final byte[] value) {
+        Objects.requireNonNull(alias, "alias must not be null");
+        final byte[] aliasBytes = alias.getBytes(StandardCharsets.UTF_8);
+        if (aliasBytes.length == 0 || aliasBytes.length > MAX_ALIAS_LENGTH) {
+            throw new IllegalArgumentException("alias must have 1 to " + MAX_ALIAS_LENGTH + " UTF-8 bytes");
+        }
+        if (!aliases.add(alias)) {
+            throw new IllegalArgumentException("Duplicate alias: " + alias);
+        }
+        entries.add(new Entry(aliasBytes, algorithm, format, value));
+        return this;
+    }
+
+    private static ValueFormat toValueFormat(final KeyFormat format) {
+        if (!format.supportsType(KeyType.PRIVATE)) {
+            throw new IllegalArgumentException("Format not valid for private key: " + format);
+        }
+        return format.encoding() == KeyEncoding.PEM ? ValueFormat.PKCS8_PEM : ValueFormat.PKCS8_DER;
+    }
+
+    private record Entry(byte[] alias, byte algorithm, ValueFormat format, byte[] value) {
+    }
+}
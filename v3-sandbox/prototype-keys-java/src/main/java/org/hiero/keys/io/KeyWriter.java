@@ -0,0 +1,54 @@
+package org.hiero.keys.io;
+
+import org.hiero.keys.Key;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes many keys to one output stream. PEM keys are written as consecutive PEM blocks, DER keys as consecutive DER
+ * structures (DER is self delimiting, so the output can be read back structure by structure).
+ */
+public final class KeyWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private KeyWriter() {
+    }
+
+    /**
+     * Writes the keys in the given format. The keys are encoded in parallel if the stream is parallel, but always
+     * written in the order of the stream. The output stream is flushed but not closed.
+     */
+    public static void write(final Stream<? extends Key> keys, final KeyFormat format, final OutputStream out)
+            throws IOException {
+        Objects.requireNonNull(keys, "keys must not be null");
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+        final BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        try {
+            keys.map(key -> encode(key, format)).forEachOrdered(bytes -> {
+                try {
+                    buffered.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        buffered.flush();
+    }
+
+    private static byte[] encode(final Key key, final KeyFormat format) {
+        if (format.getRawFormat() == RawFormat.STRING) {
+            return key.toString(format).getBytes(StandardCharsets.US_ASCII);
+        }
+        return key.toBytes(format);
+    }
+}
@@ -0,0 +1,231 @@
+package org.hiero.keys.io;
+
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.KeyType;
+import org.hiero.keys.PrivateKey;
+import org.hiero.keys.impl.Base64Util;
+import org.hiero.keys.impl.Hex;
+import org.hiero.keys.impl.KeyFactory;
+import org.hiero.keys.impl.PemUtil;
+import org.hiero.keys.io.KeyStoreLayout.ValueFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.hiero.keys.io.KeyStoreLayout.HEADER_SIZE;
+import static org.hiero.keys.io.KeyStoreLayout.MAGIC;
+import static org.hiero.keys.io.KeyStoreLayout.NO_ALGORITHM;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_ALGORITHM;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_ALIAS_LENGTH;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_ALIAS_OFFSET;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_SIZE;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_VALUE_FORMAT;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_VALUE_LENGTH;
+import static org.hiero.keys.io.KeyStoreLayout.SLOT_VALUE_OFFSET;
+import static org.hiero.keys.io.KeyStoreLayout.VERSION;
+
+/**
+ * Read-only view of a key store file written by {@link KeyStoreWriter}. The file is memory-mapped, so opening a
+ * store with many keys only reads and checks the index. A key is decoded the first time it is requested and kept
+ * afterward, keys that are never used do not occupy the heap. Lookups are a binary search over the mapped index that
+ * compares the alias bytes in place. Instances are thread safe.
+ */
+public final class MappedKeyStore {
+
+    private static final ValueFormat[] VALUE_FORMATS = ValueFormat.values();
+
+    private static final KeyAlgorithm[] ALGORITHMS = KeyAlgorithm.values();
+
+    private final ByteBuffer buffer;
+
+    private final int size;
+
+    private final AtomicReferenceArray<PrivateKey> decoded;
+
+    private MappedKeyStore(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.size = readIndex(buffer);
+        this.decoded = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Maps the given key store file. The mapping stays valid after the file has been closed, the file must not be
+     * modified while the store is in use.
+     *
+     * @throws IllegalArgumentException if the file is not a valid key store
+     */
+    public static MappedKeyStore open(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Key store exceeds the maximum size of 2 GiB");
+            }
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            return new MappedKeyStore(mapped);
+        }
+    }
+
+    /**
+     * Creates a store from the bytes of a key store file, for example a classpath resource.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid key store
+     */
+    public static MappedKeyStore of(final ByteBuffer bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        return new MappedKeyStore(bytes.slice().asReadOnlyBuffer());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(final String alias) {
+        return indexOf(alias) >= 0;
+    }
+
+    /**
+     * Returns the private key for the given alias. The key is decoded on the first call for the alias.
+     *
+     * @throws IllegalArgumentException if the stored value can not be decoded
+     */
+    public Optional<PrivateKey> getPrivateKey(final String alias) {
+        final int index = indexOf(alias);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        final PrivateKey cached = decoded.get(index);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final PrivateKey key = decode(index);
+        return Optional.of(decoded.compareAndSet(index, null, key) ? key : decoded.get(index));
+    }
+
+    /**
+     * Returns all aliases in the order of the index. This decodes every alias and is meant for tooling, not for the
+     * lookup path.
+     */
+    public List<String> aliases() {
+        final List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int slot = slot(i);
+            final byte[] alias = new byte[buffer.getShort(slot + SLOT_ALIAS_LENGTH) & 0xFFFF];
+            buffer.get(buffer.getInt(slot + SLOT_ALIAS_OFFSET), alias);
+            result.add(new String(alias, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    private int indexOf(final String alias) {
+        Objects.requireNonNull(alias, "alias must not be null");
+        final byte[] key = alias.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compareAlias(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareAlias(final int index, final byte[] key) {
+        final int slot = slot(index);
+        final int offset = buffer.getInt(slot + SLOT_ALIAS_OFFSET);
+        final int length = buffer.getShort(slot + SLOT_ALIAS_LENGTH) & 0xFFFF;
+        final int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            final int cmp = Byte.compareUnsigned(buffer.get(offset + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private PrivateKey decode(final int index) {
+        final int slot = slot(index);
+        final ByteBuffer value = buffer.slice(buffer.getInt(slot + SLOT_VALUE_OFFSET),
+                buffer.getInt(slot + SLOT_VALUE_LENGTH));
+        final byte algorithmCode = buffer.get(slot + SLOT_ALGORITHM);
+        return switch (VALUE_FORMATS[buffer.get(slot + SLOT_VALUE_FORMAT)]) {
+            case RAW -> KeyFactory.createPrivateKey(algorithm(algorithmCode), toArray(value));
+            case HEX -> KeyFactory.createPrivateKey(algorithm(algorithmCode), Hex.decode(value));
+            case BASE64 -> KeyFactory.createPrivateKey(algorithm(algorithmCode), Base64Util.decode(value));
+            case PKCS8_DER -> KeyFactory.createPrivateKey(KeyFormat.PKCS8_WITH_DER, toArray(value));
+            case PKCS8_PEM -> KeyFactory.createPrivateKey(KeyFormat.PKCS8_WITH_DER,
+                    PemUtil.fromPem(KeyType.PRIVATE, value));
+        };
+    }
+
+    private static KeyAlgorithm algorithm(final byte code) {
+        if (code < 0 || code >= ALGORITHMS.length) {
+            throw new IllegalArgumentException("Invalid key algorithm in key store: " + code);
+        }
+        return ALGORITHMS[code];
+    }
+
+    private static byte[] toArray(final ByteBuffer value) {
+        final byte[] result = new byte[value.remaining()];
+        value.get(result);
+        return result;
+    }
+
+    private static int slot(final int index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    // Checks the header and the bounds of every slot once, so that lookups can read the mapped bytes without checks
+    private static int readIndex(final ByteBuffer buffer) {
+        final int fileSize = buffer.limit();
+        if (fileSize < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a key store file");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported key store version: " + buffer.getInt(4));
+        }
+        final int count = buffer.getInt(8);
+        if (count < 0 || count > (fileSize - HEADER_SIZE) / SLOT_SIZE) {
+            throw new IllegalArgumentException("Invalid key store entry count: " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            final int slot = slot(i);
+            final int aliasOffset = buffer.getInt(slot + SLOT_ALIAS_OFFSET);
+            final int aliasLength = buffer.getShort(slot + SLOT_ALIAS_LENGTH) & 0xFFFF;
+            final int valueOffset = buffer.getInt(slot + SLOT_VALUE_OFFSET);
+            final int valueLength = buffer.getInt(slot + SLOT_VALUE_LENGTH);
+            final int format = buffer.get(slot + SLOT_VALUE_FORMAT);
+            if (!inBounds(aliasOffset, aliasLength, fileSize) || !inBounds(valueOffset, valueLength, fileSize)
+                    || format < 0 || format >= VALUE_FORMATS.length) {
+                throw new IllegalArgumentException("Corrupt key store entry at index " + i);
+            }
+            if (buffer.get(slot + SLOT_ALGORITHM) == NO_ALGORITHM
+                    && VALUE_FORMATS[format] != ValueFormat.PKCS8_DER
+                    && VALUE_FORMATS[format] != ValueFormat.PKCS8_PEM) {
+                throw new IllegalArgumentException("Missing key algorithm for key store entry at index " + i);
+            }
+        }
+        return count;
+    }
+
+    private static boolean inBounds(final int offset, final int length, final int fileSize) {
+        return offset >= 0 && length >= 0 && offset <= fileSize - length;
+    }
+}
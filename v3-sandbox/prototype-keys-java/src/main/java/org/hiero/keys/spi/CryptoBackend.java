@@ -0,0 +1,56 @@
+package org.hiero.keys.spi;
+
+import org.hiero.keys.KeyAlgorithm;
+import org.hiero.keys.PrivateKey;
+import org.hiero.keys.PublicKey;
+import org.hiero.keys.impl.CryptoBackendLoader;
+
+import java.util.Set;
+
+/**
+ * SPI for the cryptographic operations behind {@link PrivateKey} and {@link PublicKey}, loaded by
+ * {@link java.util.ServiceLoader}. The BouncyCastle backend is used by default, another one can be selected by the
+ * system property {@value #BACKEND_PROPERTY}. The selected backend is only used for the algorithms it supports.
+ */
+public interface CryptoBackend {
+
+    String BACKEND_PROPERTY = "hiero.crypto.backend";
+
+    String getName();
+
+    boolean supports(KeyAlgorithm algorithm);
+
+    PrivateKey generatePrivateKey(KeyAlgorithm algorithm);
+
+    /**
+     * Signs a message. The message is hashed as defined by the algorithm of the key (Keccak-256 for ECDSA).
+     */
+    byte[] sign(PrivateKey privateKey, byte[] message);
+
+    boolean verify(PublicKey publicKey, byte[] message, byte[] signature);
+
+    boolean supportsDigest(DigestAlgorithm algorithm);
+
+    /**
+     * Computes the digest of a message, throws an {@link IllegalArgumentException} if the algorithm is not supported.
+     */
+    byte[] digest(DigestAlgorithm algorithm, byte[] message);
+
+    static Set<CryptoBackend> all() {
+        return CryptoBackendLoader.getInstance().all();
+    }
+
+    /**
+     * Returns the backend that is used for the given algorithm.
+     */
+    static CryptoBackend forAlgorithm(final KeyAlgorithm algorithm) {
+        return CryptoBackendLoader.getInstance().forAlgorithm(algorithm);
+    }
+
+    /**
+     * Returns the backend that is used for the given digest algorithm.
+     */
+    static CryptoBackend forDigest(final DigestAlgorithm algorithm) {
+        return CryptoBackendLoader.getInstance().forDigest(algorithm);
+    }
+}
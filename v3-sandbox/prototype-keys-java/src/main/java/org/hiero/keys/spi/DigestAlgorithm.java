@@ -0,0 +1,9 @@
+package org.hiero.keys.spi;
+
+/**
+ * The digest algorithms a {@link CryptoBackend} can support. KECCAK_256 is the Ethereum variant, not SHA3-256.
+ */
+public enum DigestAlgorithm {
+    SHA_384,
+    KECCAK_256
+}
@@ -0,0 +1,83 @@
+package org.hiero.keys;
+
+import org.hiero.keys.impl.Base64Util;
+import org.hiero.keys.impl.Hex;
+import org.hiero.keys.impl.PemUtil;
+import org.hiero.keys.io.KeyFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.hiero.keys.TestKeyRepresentations.PKCS8_WITH_PEM_VARIANT_3;
+
+public class BufferCodecTest {
+
+    @ParameterizedTest(name = "Testing {0} bytes")
+    @ValueSource(ints = {0, 1, 2, 3, 32, 33, 47, 48, 49, 64, 100})
+    public void testRoundTripMatchesStringCodecs(int length) {
+        final byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        final CharBuffer hex = CharBuffer.allocate(Hex.encodedLength(length));
+        final CharBuffer base64 = CharBuffer.allocate(Base64Util.encodedLength(length));
+        final CharBuffer pem = CharBuffer.allocate(PemUtil.pemLength("PRIVATE KEY", length));
+        final ByteBuffer decodedHex = ByteBuffer.allocate(length);
+        final ByteBuffer decodedBase64 = ByteBuffer.allocate(length);
+        final ByteBuffer decodedPem = ByteBuffer.allocate(length);
+
+        //when
+        Hex.encode(ByteBuffer.wrap(data), hex);
+        Base64Util.encode(ByteBuffer.wrap(data), base64);
+        PemUtil.toPem("PRIVATE KEY", ByteBuffer.wrap(data), pem);
+        Hex.decode(hex.flip(), decodedHex);
+        Base64Util.decode(base64.flip(), decodedBase64);
+        PemUtil.fromPem(KeyType.PRIVATE, pem.flip(), decodedPem);
+
+        //then
+        Assertions.assertEquals(HexFormat.of().formatHex(data), hex.rewind().toString());
+        Assertions.assertEquals(Base64.getEncoder().encodeToString(data), base64.rewind().toString());
+        Assertions.assertFalse(pem.hasRemaining());
+        Assertions.assertArrayEquals(data, decodedHex.array());
+        Assertions.assertArrayEquals(data, decodedBase64.array());
+        Assertions.assertArrayEquals(data, decodedPem.array());
+    }
+
+    @Test
+    public void testPemOfKeyIsDecoded() {
+        final byte[] expected = PrivateKey.create(PKCS8_WITH_PEM_VARIANT_3).toBytes(KeyFormat.PKCS8_WITH_DER);
+        final ByteBuffer der = ByteBuffer.allocate(128);
+
+        //when
+        PemUtil.fromPem(KeyType.PRIVATE, CharBuffer.wrap(PKCS8_WITH_PEM_VARIANT_3), der);
+
+        //then
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(der.array(), der.position()));
+    }
+
+    @Test
+    public void testInvalidInputLeavesBuffersUnchanged() {
+        final CharBuffer invalidBase64 = CharBuffer.wrap("QUJD*EVG");
+        final CharBuffer publicPem = CharBuffer.wrap("-----BEGIN PUBLIC KEY-----\nQUJD\n-----END PUBLIC KEY-----\n");
+        final ByteBuffer dst = ByteBuffer.allocate(16);
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Hex.decode(CharBuffer.wrap("abc"), dst));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Hex.decode(CharBuffer.wrap("zz"), dst));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Base64Util.decode(invalidBase64, dst));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PemUtil.fromPem(KeyType.PRIVATE, publicPem, dst));
+        Assertions.assertThrows(BufferOverflowException.class,
+                () -> Hex.encode(ByteBuffer.wrap(new byte[4]), CharBuffer.allocate(7)));
+        Assertions.assertEquals(0, invalidBase64.position());
+        Assertions.assertEquals(0, publicPem.position());
+        Assertions.assertEquals(0, dst.position());
+    }
+}
@@ -0,0 +1,131 @@
+package org.hiero.keys;
+
+import org.hiero.keys.impl.BulkKeyGenerator;
+import org.hiero.keys.io.KeyFormat;
+import org.hiero.keys.io.KeyWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class BulkKeyGenerationTest {
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testGenerate(KeyAlgorithm keyAlgorithm) {
+        //when
+        final List<KeyPair> keyPairs = KeyPair.generate(keyAlgorithm, 50).toList();
+
+        //then
+        Assertions.assertEquals(50, keyPairs.size());
+        Assertions.assertEquals(50, keyPairs.stream().map(KeyPair::privateKey).distinct().count());
+        keyPairs.forEach(keyPair -> {
+            Assertions.assertEquals(keyAlgorithm, keyPair.privateKey().algorithm());
+            Assertions.assertEquals(keyPair.privateKey().createPublicKey(), keyPair.publicKey());
+        });
+    }
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testGenerateWithSeedIsReproducible(KeyAlgorithm keyAlgorithm) {
+        //when
+        final List<KeyPair> first = KeyPair.generate(keyAlgorithm, 20, 42L).toList();
+        final List<KeyPair> second = KeyPair.generate(keyAlgorithm, 20, 42L).toList();
+        final List<KeyPair> otherSeed = KeyPair.generate(keyAlgorithm, 20, 43L).toList();
+
+        //then
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotEquals(first, otherSeed);
+    }
+
+    @Test
+    public void testAtMostOneBatchIsGeneratedAhead() {
+        final int count = 5 * BulkKeyGenerator.BATCH_SIZE + 7;
+        final AtomicInteger generated = new AtomicInteger();
+        final AtomicInteger consumed = new AtomicInteger();
+
+        //when
+        BulkKeyGenerator.generateInBatches(count, index -> {
+            generated.incrementAndGet();
+            return index;
+        }).forEach(index -> {
+            Assertions.assertEquals(consumed.getAndIncrement(), index);
+            Assertions.assertTrue(generated.get() - index <= BulkKeyGenerator.BATCH_SIZE);
+        });
+
+        //then
+        Assertions.assertEquals(count, consumed.get());
+        Assertions.assertEquals(count, generated.get());
+    }
+
+    @Test
+    public void testAtMostOneBatchIsGeneratedAheadOfParallelStream() {
+        final int count = 5 * BulkKeyGenerator.BATCH_SIZE + 7;
+        final AtomicInteger generated = new AtomicInteger();
+        final AtomicInteger consumed = new AtomicInteger();
+
+        //when
+        final long sum = BulkKeyGenerator.generateInBatches(count, index -> {
+            generated.incrementAndGet();
+            return index;
+        }).parallel().peek(index -> {
+            Assertions.assertTrue(generated.get() - consumed.getAndIncrement() <= BulkKeyGenerator.BATCH_SIZE);
+        }).mapToLong(Integer::longValue).sum();
+
+        //then
+        Assertions.assertEquals((long) count * (count - 1) / 2, sum);
+        Assertions.assertEquals(count, consumed.get());
+        Assertions.assertEquals(count, generated.get());
+    }
+
+    @Test
+    public void testOrderIsKeptAcrossBatches() {
+        //when
+        final List<KeyPair> keyPairs = KeyPair.generate(KeyAlgorithm.ED25519, 1030, 42L).toList();
+        final List<KeyPair> firstKeyPairs = KeyPair.generate(KeyAlgorithm.ED25519, 3, 42L).toList();
+
+        //then
+        Assertions.assertEquals(1030, keyPairs.size());
+        Assertions.assertEquals(1030, keyPairs.stream().distinct().count());
+        Assertions.assertEquals(firstKeyPairs, keyPairs.subList(0, 3));
+    }
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyFormat.class)
+    public void testWriteAndReadBack(KeyFormat keyFormat) throws Exception {
+        final List<KeyPair> keyPairs = KeyPair.generate(KeyAlgorithm.ED25519, 5, 7L).toList();
+        final boolean privateKeys = keyFormat.supportsType(KeyType.PRIVATE);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        KeyWriter.write(keyPairs.stream().map(keyPair -> privateKeys ? keyPair.privateKey() : keyPair.publicKey()),
+                keyFormat, out);
+
+        //then
+        final byte[] written = out.toByteArray();
+        final List<? extends Key> readBack;
+        if (keyFormat == KeyFormat.PKCS8_WITH_PEM || keyFormat == KeyFormat.SPKI_WITH_PEM) {
+            final String footer = privateKeys ? "-----END PRIVATE KEY-----\n" : "-----END PUBLIC KEY-----\n";
+            readBack = Arrays.stream(new String(written, StandardCharsets.US_ASCII).split(footer))
+                    .map(pem -> privateKeys ? PrivateKey.create(keyFormat, pem + footer)
+                            : PublicKey.create(keyFormat, pem + footer))
+                    .toList();
+        } else {
+            final int size = written.length / keyPairs.size();
+            readBack = IntStream.range(0, keyPairs.size())
+                    .mapToObj(i -> Arrays.copyOfRange(written, i * size, (i + 1) * size))
+                    .map(der -> privateKeys ? PrivateKey.create(keyFormat, der) : PublicKey.create(keyFormat, der))
+                    .toList();
+        }
+        Assertions.assertEquals(keyPairs.stream()
+                .map(keyPair -> privateKeys ? keyPair.privateKey() : keyPair.publicKey())
+                .toList(), readBack);
+    }
+}
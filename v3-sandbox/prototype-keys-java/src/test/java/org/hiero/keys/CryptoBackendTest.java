@@ -0,0 +1,107 @@
+package org.hiero.keys;
+
+import org.hiero.keys.spi.CryptoBackend;
+import org.hiero.keys.spi.DigestAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CryptoBackendTest {
+
+    @Test
+    public void testBackendsAreLoaded() {
+        //when
+        final Set<String> names = CryptoBackend.all().stream()
+                .map(CryptoBackend::getName)
+                .collect(Collectors.toSet());
+
+        //then
+        Assertions.assertEquals(Set.of("bouncycastle", "jdk"), names);
+        for (CryptoBackend backend : CryptoBackend.all()) {
+            Assertions.assertEquals(!backend.getName().equals("jdk"), backend.supports(KeyAlgorithm.ECDSA));
+            Assertions.assertTrue(backend.supports(KeyAlgorithm.ED25519));
+        }
+    }
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testSignaturesAreCompatibleBetweenBackends(KeyAlgorithm keyAlgorithm) {
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes();
+        for (CryptoBackend signer : CryptoBackend.all()) {
+            if (!signer.supports(keyAlgorithm)) {
+                Assertions.assertThrows(IllegalArgumentException.class, () -> signer.generatePrivateKey(keyAlgorithm));
+                continue;
+            }
+            final PrivateKey privateKey = signer.generatePrivateKey(keyAlgorithm);
+            final PublicKey publicKey = privateKey.createPublicKey();
+
+            //when
+            final byte[] signature = signer.sign(privateKey, message);
+            final byte[] invalidSignature = signature.clone();
+            invalidSignature[5] ^= 1;
+
+            //then
+            Assertions.assertEquals(keyAlgorithm, privateKey.algorithm());
+            for (CryptoBackend verifier : CryptoBackend.all()) {
+                if (verifier.supports(keyAlgorithm)) {
+                    Assertions.assertTrue(verifier.verify(publicKey, message, signature));
+                    Assertions.assertFalse(verifier.verify(publicKey, message, invalidSignature));
+                    // a second call uses the state the backend kept for the key
+                    Assertions.assertTrue(verifier.verify(publicKey, message, signature));
+                    Assertions.assertArrayEquals(signature, verifier.sign(privateKey, message));
+                }
+            }
+            Assertions.assertTrue(publicKey.verify(message, signature));
+        }
+    }
+
+    @Test
+    public void testDigests() {
+        final byte[] message = new byte[0];
+        for (CryptoBackend backend : CryptoBackend.all()) {
+            //then
+            Assertions.assertEquals("38b060a751ac96384cd9327eb1b1e36a21fdb71114be07434c0cc7bf63f6e1da274edebfe76f65f"
+                    + "bd51ad2f14898b95b", HexFormat.of().formatHex(backend.digest(DigestAlgorithm.SHA_384, message)));
+            // only the JDK backend lacks Keccak
+            Assertions.assertEquals(!backend.getName().equals("jdk"),
+                    backend.supportsDigest(DigestAlgorithm.KECCAK_256));
+            if (backend.supportsDigest(DigestAlgorithm.KECCAK_256)) {
+                Assertions.assertEquals("c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470",
+                        HexFormat.of().formatHex(backend.digest(DigestAlgorithm.KECCAK_256, message)));
+            } else {
+                Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> backend.digest(DigestAlgorithm.KECCAK_256, message));
+            }
+        }
+    }
+
+    @Test
+    @DisabledIfSystemProperty(named = CryptoBackend.BACKEND_PROPERTY, matches = ".+")
+    public void testDefaultBackendIsSelected() {
+        //then
+        for (KeyAlgorithm keyAlgorithm : KeyAlgorithm.values()) {
+            Assertions.assertEquals("bouncycastle", CryptoBackend.forAlgorithm(keyAlgorithm).getName());
+        }
+        for (DigestAlgorithm digestAlgorithm : DigestAlgorithm.values()) {
+            Assertions.assertEquals("bouncycastle", CryptoBackend.forDigest(digestAlgorithm).getName());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = CryptoBackend.BACKEND_PROPERTY, matches = "jdk")
+    public void testConfiguredBackendIsSelected() {
+        //then
+        Assertions.assertEquals("jdk", CryptoBackend.forAlgorithm(KeyAlgorithm.ED25519).getName());
+        // the JDK backend does not support ECDSA, so the default backend is used for it
+        Assertions.assertEquals("bouncycastle", CryptoBackend.forAlgorithm(KeyAlgorithm.ECDSA).getName());
+        Assertions.assertEquals("jdk", CryptoBackend.forDigest(DigestAlgorithm.SHA_384).getName());
+        Assertions.assertEquals("bouncycastle", CryptoBackend.forDigest(DigestAlgorithm.KECCAK_256).getName());
+    }
+}
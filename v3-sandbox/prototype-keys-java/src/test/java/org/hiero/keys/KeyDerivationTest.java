@@ -0,0 +1,58 @@
+package org.hiero.keys;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+
+public class KeyDerivationTest {
+
+    // test vector 1 of SLIP-10 and BIP-32
+    private static final byte[] SEED = HexFormat.of().parseHex("000102030405060708090a0b0c0d0e0f");
+
+    @Test
+    public void testEd25519MatchesSlip10TestVector() {
+        final KeyDerivation derivation = KeyDerivation.fromSeed(KeyAlgorithm.ED25519, SEED);
+
+        //then
+        Assertions.assertEquals("2b4be7f19ee27bbf30c667b642d5f4aa69fd169872f8fc3059c08ebae2eb19e7",
+                HexFormat.of().formatHex(derivation.derivePrivateKey("m").toRawBytes()));
+        Assertions.assertEquals("68e0fe46dfb67e368c75379acec591dad19df3cde26e63b93a8e704f1dade7a3",
+                HexFormat.of().formatHex(derivation.derivePrivateKey("m/0'").toRawBytes()));
+        Assertions.assertEquals("b1d0bad404bf35da785a64ca1ac54b2617211d2777696fbffaf208f746ae84f2",
+                HexFormat.of().formatHex(derivation.derivePrivateKey("m/0'/1'").toRawBytes()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> derivation.derivePrivateKey("m/0'/1"));
+    }
+
+    @Test
+    public void testSecp256k1MatchesBip32TestVector() {
+        final KeyDerivation derivation = KeyDerivation.fromSeed(KeyAlgorithm.ECDSA, SEED);
+
+        //then
+        Assertions.assertEquals("e8f32e723decf4051aefac8e2c93c9c5b214313817cdb01a1494b917c8436b35",
+                HexFormat.of().formatHex(derivation.derivePrivateKey("m").toRawBytes()));
+        Assertions.assertEquals("edb2e14f9ee77d26dd93b4ecede8d16ed408ce149b6cd80b0715a2d911a0afea",
+                HexFormat.of().formatHex(derivation.derivePrivateKey("m/0H").toRawBytes()));
+        Assertions.assertEquals("3c6cb8d0f6a264c91ea8b5030fadaa8e538b020f0a387421a12de9319dc93368",
+                HexFormat.of().formatHex(derivation.derivePrivateKey("m/0H/1").toRawBytes()));
+    }
+
+    @Test
+    public void testSiblingsMatchPathDerivation() {
+        final KeyDerivation derivation = KeyDerivation.fromSeed(KeyAlgorithm.ECDSA, SEED);
+        final KeyDerivation uncached = KeyDerivation.fromSeed(KeyAlgorithm.ECDSA, SEED);
+
+        //when
+        final int account = KeyDerivation.hardened(0);
+        final PrivateKey fromIndices = derivation.derivePrivateKey(KeyDerivation.hardened(44),
+                KeyDerivation.hardened(3030), account, 0, 7);
+        final PublicKey publicKey = derivation.derivePublicKey("m/44'/3030'/0'/0/7");
+
+        //then
+        Assertions.assertEquals(uncached.derivePrivateKey("m/44'/3030'/0'/0/7"), fromIndices);
+        Assertions.assertEquals(fromIndices.createPublicKey(), publicKey);
+        Assertions.assertNotEquals(fromIndices, derivation.derivePrivateKey("m/44'/3030'/0'/0/8"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyDerivation.parsePath("44'/0"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyDerivation.parsePath("m/x"));
+    }
+}
@@ -0,0 +1,92 @@
+package org.hiero.keys;
+
+import org.hiero.keys.io.KeyFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class KeyFormatDetectionTest {
+
+    // PrivateKeyInfo with the id-ecPublicKey and secp256k1 OIDs, the key is an OCTET STRING inside the OCTET STRING
+    private static final byte[] LEGACY_ECDSA_PREFIX = {0x30, 0x39, 0x02, 0x01, 0x00, 0x30, 0x10, 0x06, 0x07, 0x2A,
+            (byte) 0x86, 0x48, (byte) 0xCE, 0x3D, 0x02, 0x01, 0x06, 0x05, 0x2B, (byte) 0x81, 0x04, 0x00, 0x0A, 0x04,
+            0x22, 0x04, 0x20};
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testPrivateKeyFormatsAreDetected(KeyAlgorithm keyAlgorithm) {
+        final PrivateKey privateKey = PrivateKey.generate(keyAlgorithm);
+
+        //when
+        final PrivateKey fromDer = PrivateKey.create(privateKey.toBytes(KeyFormat.PKCS8_WITH_DER));
+        final PrivateKey fromPem = PrivateKey.create(privateKey.toString(KeyFormat.PKCS8_WITH_PEM)
+                .getBytes(StandardCharsets.US_ASCII));
+
+        //then
+        Assertions.assertEquals(privateKey, fromDer);
+        Assertions.assertEquals(privateKey, fromPem);
+    }
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testPublicKeyFormatsAreDetected(KeyAlgorithm keyAlgorithm) {
+        final PublicKey publicKey = PrivateKey.generate(keyAlgorithm).createPublicKey();
+
+        //when
+        final PublicKey fromDer = PublicKey.create(publicKey.toBytes(KeyFormat.SPKI_WITH_DER));
+        final PublicKey fromPem = PublicKey.create(publicKey.toString(KeyFormat.SPKI_WITH_PEM)
+                .getBytes(StandardCharsets.US_ASCII));
+        final PublicKey fromRaw = PublicKey.create(publicKey.toRawBytes());
+
+        //then
+        Assertions.assertEquals(publicKey, fromDer);
+        Assertions.assertEquals(publicKey, fromPem);
+        Assertions.assertEquals(publicKey, fromRaw);
+    }
+
+    @Test
+    public void testRawKeysThatLookLikeDerAreDetected() {
+        // a SEQUENCE that contains a single OCTET STRING is well-formed DER but not a known key structure
+        final byte[] rawKey = new byte[32];
+        Arrays.fill(rawKey, (byte) 0x11);
+        rawKey[0] = 0x30;
+        rawKey[1] = 0x1E;
+        rawKey[2] = 0x04;
+        rawKey[3] = 0x1C;
+
+        //when
+        final PublicKey publicKey = PublicKey.create(rawKey);
+
+        //then
+        Assertions.assertEquals(KeyAlgorithm.ED25519, publicKey.algorithm());
+        Assertions.assertArrayEquals(rawKey, publicKey.toRawBytes());
+    }
+
+    @Test
+    public void testLegacyEcdsaKeysAreDetected() {
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final byte[] rawKey = privateKey.toRawBytes();
+        final byte[] legacy = Arrays.copyOf(LEGACY_ECDSA_PREFIX, LEGACY_ECDSA_PREFIX.length + rawKey.length);
+        System.arraycopy(rawKey, 0, legacy, LEGACY_ECDSA_PREFIX.length, rawKey.length);
+
+        //when
+        final PrivateKey fromLegacy = PrivateKey.create(legacy);
+
+        //then
+        Assertions.assertEquals(privateKey, fromLegacy);
+    }
+
+    @Test
+    public void testUnknownFormatsAreRejected() {
+        final byte[] garbage = {0x30, 0x05, 0x02, 0x01, 0x00, 0x04, 0x7F};
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PrivateKey.create(garbage));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PublicKey.create(garbage));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PrivateKey.create(new byte[32]));
+    }
+}
@@ -0,0 +1,95 @@
+package org.hiero.keys;
+
+import org.hiero.keys.io.ByteImportEncoding;
+import org.hiero.keys.io.KeyFormat;
+import org.hiero.keys.io.KeyStoreWriter;
+import org.hiero.keys.io.MappedKeyStore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.hiero.keys.TestKeyRepresentations.PKCS8_WITH_PEM_VARIANT_3;
+
+public class MappedKeyStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testKeysOfAllFormatsAreFound() throws IOException {
+        final PrivateKey rawKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final PrivateKey hexKey = PrivateKey.generate(KeyAlgorithm.ED25519);
+        final PrivateKey base64Key = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final PrivateKey derKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final Path file = tempDir.resolve("keys.hks");
+        new KeyStoreWriter()
+                .add("0.0.1001", rawKey)
+                .add("0.0.2", KeyAlgorithm.ED25519, ByteImportEncoding.HEX,
+                        "0x" + HexFormat.of().formatHex(hexKey.toRawBytes()))
+                .add("0.0.50", KeyAlgorithm.ECDSA, ByteImportEncoding.BASE64,
+                        Base64.getEncoder().encodeToString(base64Key.toRawBytes()))
+                .add("0.0.7", KeyFormat.PKCS8_WITH_DER, derKey.toBytes(KeyFormat.PKCS8_WITH_DER))
+                .add("0.0.1000", KeyFormat.PKCS8_WITH_PEM, PKCS8_WITH_PEM_VARIANT_3)
+                .write(file);
+
+        //when
+        final MappedKeyStore store = MappedKeyStore.open(file);
+
+        //then
+        Assertions.assertEquals(5, store.size());
+        Assertions.assertEquals(List.of("0.0.1000", "0.0.1001", "0.0.2", "0.0.50", "0.0.7"), store.aliases());
+        Assertions.assertEquals(rawKey, store.getPrivateKey("0.0.1001").orElseThrow());
+        Assertions.assertEquals(hexKey, store.getPrivateKey("0.0.2").orElseThrow());
+        Assertions.assertEquals(base64Key, store.getPrivateKey("0.0.50").orElseThrow());
+        Assertions.assertEquals(derKey, store.getPrivateKey("0.0.7").orElseThrow());
+        Assertions.assertEquals(PrivateKey.create(PKCS8_WITH_PEM_VARIANT_3),
+                store.getPrivateKey("0.0.1000").orElseThrow());
+        Assertions.assertTrue(store.getPrivateKey("0.0.3").isEmpty());
+        Assertions.assertFalse(store.contains("0.0.100"));
+    }
+
+    @Test
+    public void testKeyIsDecodedOnce() throws IOException {
+        final Path file = tempDir.resolve("keys.hks");
+        final KeyStoreWriter writer = new KeyStoreWriter();
+        KeyPair.generate(KeyAlgorithm.ED25519, 1000)
+                .forEachOrdered(pair -> writer.add("0.0." + (writer.size() + 1000), pair.privateKey()));
+        writer.write(file);
+
+        //when
+        final MappedKeyStore store = MappedKeyStore.open(file);
+        final PrivateKey first = store.getPrivateKey("0.0.1500").orElseThrow();
+        final PrivateKey second = store.getPrivateKey("0.0.1500").orElseThrow();
+
+        //then
+        Assertions.assertEquals(1000, store.size());
+        Assertions.assertSame(first, second);
+        Assertions.assertTrue(store.contains("0.0.1000"));
+        Assertions.assertTrue(store.contains("0.0.1999"));
+        Assertions.assertFalse(store.contains("0.0.2000"));
+    }
+
+    @Test
+    public void testInvalidInputIsRejected() throws IOException {
+        final Path file = tempDir.resolve("keys.hks");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        final KeyStoreWriter writer = new KeyStoreWriter().add("0.0.2", PrivateKey.generate(KeyAlgorithm.ED25519));
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MappedKeyStore.open(file));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> MappedKeyStore.of(ByteBuffer.wrap(new byte[4])));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> writer.add("0.0.2", PrivateKey.generate(KeyAlgorithm.ED25519)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> writer.add("0.0.3", KeyFormat.SPKI_WITH_DER, new byte[0]));
+    }
+}
@@ -1,11 +1,15 @@
 package org.hiero.keys;
 
+import org.bouncycastle.asn1.sec.SECNamedCurves;
 import org.hiero.keys.io.KeyFormat;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.hiero.keys.TestKeyRepresentations.*;
@@ -39,4 +43,36 @@ public class PublicKeyCreationTests {
         Assertions.assertNotNull(publicKey, "PublicKey must not be null for container: " + container);
     }
 
+    @Test
+    public void testEcdsaKeysWithCachedPointBehaveLikeDecodedKeys() {
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes();
+        final byte[] signature = privateKey.sign(message);
+        final byte[] invalidSignature = signature.clone();
+        invalidSignature[5] ^= 1;
+
+        // when
+        // the derived key and the key from uncompressed bytes keep their point, the key from compressed bytes
+        // decodes it on the first verification
+        final PublicKey derived = privateKey.createPublicKey();
+        final PublicKey compressed = PublicKey.create(KeyAlgorithm.ECDSA, derived.toRawBytes());
+        final byte[] uncompressedBytes = SECNamedCurves.getByName("secp256k1").getCurve()
+                .decodePoint(derived.toRawBytes()).getEncoded(false);
+        final PublicKey uncompressed = PublicKey.create(KeyAlgorithm.ECDSA, uncompressedBytes);
+
+        // then
+        for (PublicKey publicKey : new PublicKey[]{derived, compressed, uncompressed}) {
+            Assertions.assertTrue(publicKey.verify(message, signature));
+            Assertions.assertFalse(publicKey.verify(message, invalidSignature));
+            // the second call uses the cached point
+            Assertions.assertTrue(publicKey.verify(message, signature));
+            Assertions.assertEquals(derived, publicKey);
+            Assertions.assertEquals(publicKey, derived);
+            Assertions.assertEquals(derived.hashCode(), publicKey.hashCode());
+            Assertions.assertArrayEquals(derived.toRawBytes(), publicKey.toRawBytes());
+        }
+        Assertions.assertEquals(1, new HashSet<>(List.of(derived, compressed, uncompressed)).size());
+        Assertions.assertNotEquals(derived, PrivateKey.generate(KeyAlgorithm.ECDSA).createPublicKey());
+    }
+
 }
@@ -0,0 +1,45 @@
+package org.hiero.keys;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+public class SignedMessageTest {
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testValidAndInvalidSignatures(KeyAlgorithm keyAlgorithm) {
+        final PrivateKey privateKey = PrivateKey.generate(keyAlgorithm);
+        final byte[] message = "message".getBytes();
+        final byte[] signature = privateKey.sign(message);
+        final byte[] invalidSignature = signature.clone();
+        invalidSignature[5] ^= 1;
+
+        //when
+        final SignedMessage valid = new SignedMessage(privateKey.createPublicKey(), message, signature);
+        final SignedMessage invalid = new SignedMessage(privateKey.createPublicKey(), message, invalidSignature);
+
+        //then
+        Assertions.assertTrue(valid.verify());
+        Assertions.assertFalse(invalid.verify());
+    }
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testMalformedSignaturesAreInvalid(KeyAlgorithm keyAlgorithm) {
+        final PrivateKey privateKey = PrivateKey.generate(keyAlgorithm);
+        final PublicKey publicKey = privateKey.createPublicKey();
+        final byte[] message = "message".getBytes();
+        final byte[] signature = privateKey.sign(message);
+
+        //then
+        Assertions.assertFalse(new SignedMessage(publicKey, message, new byte[0]).verify());
+        Assertions.assertFalse(new SignedMessage(publicKey, message,
+                Arrays.copyOf(signature, signature.length - 1)).verify());
+        Assertions.assertFalse(new SignedMessage(publicKey, message,
+                Arrays.copyOf(signature, signature.length + 1)).verify());
+        Assertions.assertFalse(new SignedMessage(publicKey, message, new byte[signature.length]).verify());
+    }
+}
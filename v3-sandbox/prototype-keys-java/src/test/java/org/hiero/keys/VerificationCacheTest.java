@@ -0,0 +1,116 @@
+package org.hiero.keys;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class VerificationCacheTest {
+
+    @ParameterizedTest(name = "Testing {0}")
+    @EnumSource(KeyAlgorithm.class)
+    public void testRepeatedVerificationIsCached(KeyAlgorithm keyAlgorithm) {
+        final VerificationCache cache = new VerificationCache(16);
+        final PrivateKey privateKey = PrivateKey.generate(keyAlgorithm);
+        final PublicKey publicKey = privateKey.createPublicKey();
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes();
+        final byte[] signature = privateKey.sign(message);
+        final byte[] invalidSignature = signature.clone();
+        invalidSignature[7] ^= 1;
+
+        //when
+        final boolean first = publicKey.verify(message, signature, cache);
+        final boolean second = publicKey.verify(message, signature, cache);
+        final boolean invalid = publicKey.verify(message, invalidSignature, cache);
+        final boolean invalidAgain = publicKey.verify(message, invalidSignature, cache);
+
+        //then
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        Assertions.assertFalse(invalid);
+        Assertions.assertFalse(invalidAgain);
+        Assertions.assertEquals(2, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        final VerificationCache cache = new VerificationCache(2);
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ED25519);
+        final PublicKey publicKey = privateKey.createPublicKey();
+        final byte[] first = "first".getBytes();
+        final byte[] second = "second".getBytes();
+        final byte[] third = "third".getBytes();
+
+        //when
+        publicKey.verify(first, privateKey.sign(first), cache);
+        publicKey.verify(second, privateKey.sign(second), cache);
+        publicKey.verify(third, privateKey.sign(third), cache);
+        publicKey.verify(first, privateKey.sign(first), cache);
+
+        //then
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testConcurrentVerificationOfSegmentedCache() throws Exception {
+        // split into 4 segments of 64 entries, the 200 triples are not spread evenly, so some segments evict entries
+        final VerificationCache cache = new VerificationCache(256);
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ED25519);
+        final PublicKey publicKey = privateKey.createPublicKey();
+        final List<SignedMessage> signedMessages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final byte[] message = ("message " + i).getBytes();
+            final byte[] signature = privateKey.sign(message);
+            if (i % 5 == 0) {
+                signature[3] ^= 1;
+            }
+            signedMessages.add(new SignedMessage(publicKey, message, signature));
+        }
+        final int threads = 4;
+        final int rounds = 3;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+
+            //when
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        for (int i = 0; i < signedMessages.size(); i++) {
+                            final SignedMessage signedMessage = signedMessages.get(i);
+                            final boolean valid = signedMessage.publicKey()
+                                    .verify(signedMessage.message(), signedMessage.signature(), cache);
+                            if (valid != (i % 5 != 0)) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            //then
+            for (final Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get());
+            }
+            Assertions.assertEquals((long) threads * rounds * signedMessages.size(),
+                    cache.getHits() + cache.getMisses());
+            Assertions.assertTrue(cache.getHits() > 0);
+            Assertions.assertTrue(cache.size() <= 256);
+            cache.clear();
+            Assertions.assertEquals(0, cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.hiero.sdk.simple.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.grpc.GrpcCompression;
+import org.hiero.sdk.simple.internal.grpc.GrpcClientImpl;
+import org.hiero.sdk.simple.transactions.AccountCreateTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sends transactions of different sizes to a fake node on the loopback interface, once uncompressed and once
+ * compressed by gzip (see {@link GrpcCompression}). The payload looks like contract bytecode, a small set of opcodes
+ * that push operands from a small set of constants. The score is the latency of a call, the bytes that the node
+ * received per call are printed at the end of every trial. On the loopback interface the latency only contains the
+ * time of compressing and decompressing; on a real network the time to transfer the saved bytes has to be subtracted.
+ * Run with {@code java -jar benchmark/target/benchmarks.jar CompressionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    private static final byte[] OPCODES = {0x52, 0x51, 0x56, 0x57, 0x5b, (byte) 0x80, (byte) 0x81, (byte) 0x90, 0x01,
+            0x03, 0x14, 0x15, 0x35, 0x00};
+
+    // PUSH4 of the EVM, followed by a 4 byte operand
+    private static final byte PUSH4 = 0x63;
+
+    @Param({"1024", "16384", "262144"})
+    public int payloadSize;
+
+    @Param({GrpcCompression.IDENTITY, GrpcCompression.GZIP})
+    public String compressor;
+
+    private final AtomicLong receivedWireBytes = new AtomicLong();
+
+    private final AtomicLong receivedCalls = new AtomicLong();
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    private GrpcClient client;
+
+    private MethodDescriptor<Transaction, TransactionResponse> methodDescriptor;
+
+    private Transaction transaction;
+
+    @Setup
+    public void setup() throws IOException {
+        methodDescriptor = TransactionProtobuffSupport.of(AccountCreateTransaction.class).getMethodDescriptor();
+        final TransactionResponse response = TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .build();
+        final ServerServiceDefinition service = ServerServiceDefinition.builder(methodDescriptor.getServiceName())
+                .addMethod(methodDescriptor, (call, headers) -> {
+                    call.request(1);
+                    return new ServerCall.Listener<>() {
+                        @Override
+                        public void onMessage(final Transaction message) {
+                            call.sendHeaders(new Metadata());
+                            call.sendMessage(response);
+                            call.close(Status.OK, new Metadata());
+                        }
+                    };
+                })
+                .build();
+        server = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(service)
+                .addStreamTracerFactory(new ServerStreamTracer.Factory() {
+                    @Override
+                    public ServerStreamTracer newServerStreamTracer(final String fullMethodName,
+                            final Metadata headers) {
+                        return new ServerStreamTracer() {
+                            @Override
+                            public void inboundWireSize(final long bytes) {
+                                receivedWireBytes.addAndGet(bytes);
+                            }
+
+                            @Override
+                            public void inboundMessage(final int seqNo) {
+                                receivedCalls.incrementAndGet();
+                            }
+                        };
+                    }
+                })
+                .build()
+                .start();
+        channel = Grpc.newChannelBuilderForAddress("localhost", server.getPort(), InsecureChannelCredentials.create())
+                .build();
+        client = new GrpcClientImpl(channel, new GrpcCompression(compressor, 0));
+
+        final Random random = new Random(42);
+        final int[] constants = random.ints(64).toArray();
+        final ByteBuffer payload = ByteBuffer.allocate(payloadSize);
+        while (payload.remaining() >= 5) {
+            if (random.nextInt(4) == 0) {
+                payload.put(PUSH4).putInt(constants[random.nextInt(constants.length)]);
+            } else {
+                payload.put(OPCODES[random.nextInt(OPCODES.length)]);
+            }
+        }
+        transaction = Transaction.newBuilder()
+                .setBodyBytes(ByteString.copyFrom(payload.array()))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        final long calls = receivedCalls.get();
+        System.out.printf("%n%s, %d bytes: %d bytes received per call%n", compressor, payloadSize,
+                calls == 0 ? 0 : receivedWireBytes.get() / calls);
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public TransactionResponse call() {
+        return client.call(methodDescriptor, transaction).join();
+    }
+}
@@ -0,0 +1,72 @@
+package org.hiero.sdk.simple.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.keys.spi.CryptoBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link CryptoBackend} implementations for ED25519, the only algorithm that is supported by more than
+ * one backend. Run with {@code java -jar benchmark/target/benchmarks.jar CryptoBackendBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoBackendBenchmark {
+
+    @Param({"bouncycastle", "jdk"})
+    public String backendName;
+
+    private CryptoBackend backend;
+
+    private PrivateKey privateKey;
+
+    private PublicKey publicKey;
+
+    private byte[] message;
+
+    private byte[] signature;
+
+    @Setup
+    public void setup() {
+        backend = CryptoBackend.all().stream()
+                .filter(candidate -> candidate.getName().equals(backendName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Crypto backend '" + backendName + "' not found"));
+        privateKey = backend.generatePrivateKey(KeyAlgorithm.ED25519);
+        publicKey = privateKey.createPublicKey();
+        message = "The quick brown fox jumps over the lazy dog".repeat(4).getBytes(StandardCharsets.UTF_8);
+        signature = backend.sign(privateKey, message);
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return backend.sign(privateKey, message);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return backend.verify(publicKey, message, signature);
+    }
+
+    @Benchmark
+    public PrivateKey generatePrivateKey() {
+        return backend.generatePrivateKey(KeyAlgorithm.ED25519);
+    }
+}
@@ -0,0 +1,86 @@
+package org.hiero.sdk.simple.benchmark;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.bouncycastle.util.BigIntegers;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares ECDSA signing with the per-thread signing context of the SDK, once into a new array and once into a buffer
+ * of the caller, with signing by a new digest, signer and key parameters per signature as it was done before the
+ * context existed. All variants use the same curve implementation. Running with {@code -prof gc} shows the
+ * allocation per signature. Run with
+ * {@code java -jar benchmark/target/benchmarks.jar EcdsaSigningBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EcdsaSigningBenchmark {
+
+    private static final X9ECParameters SECP256K1 = CustomNamedCurves.getByName("secp256k1");
+
+    private static final ECDomainParameters DOMAIN = new ECDomainParameters(SECP256K1.getCurve(), SECP256K1.getG(),
+            SECP256K1.getN(), SECP256K1.getH());
+
+    private PrivateKey privateKey;
+
+    private BigInteger keyData;
+
+    private byte[] message;
+
+    private final byte[] signature = new byte[64];
+
+    @Setup
+    public void setup() {
+        privateKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        keyData = new BigInteger(1, privateKey.toBytes(KeyEncoding.RAW));
+        message = "The quick brown fox jumps over the lazy dog".repeat(4).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] reusedContext() {
+        return privateKey.sign(message);
+    }
+
+    @Benchmark
+    public byte[] reusedContextIntoBuffer() {
+        privateKey.sign(message, signature, 0);
+        return signature;
+    }
+
+    @Benchmark
+    public byte[] freshSigner() {
+        final byte[] hash = new Keccak.Digest256().digest(message);
+        final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+        signer.init(true, new ECPrivateKeyParameters(keyData, DOMAIN));
+        final BigInteger[] bigSig = signer.generateSignature(hash);
+        final byte[] result = new byte[64];
+        BigIntegers.asUnsignedByteArray(bigSig[0], result, 0, 32);
+        BigIntegers.asUnsignedByteArray(bigSig[1], result, 32, 32);
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package org.hiero.sdk.simple.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Imports a mix of raw and DER encoded keys of both algorithms with format auto-detection, as done when key files of
+ * mixed formats are loaded in bulk. The formats are classified by their tag bytes, so no exception is thrown on this
+ * path; running with {@code -prof gc} shows the allocation rate per imported key. Run with
+ * {@code java -jar benchmark/target/benchmarks.jar KeyImportBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyImportBenchmark {
+
+    private static final int KEYS_PER_ALGORITHM = 16;
+
+    private byte[][] privateKeys;
+
+    private byte[][] publicKeys;
+
+    @Setup
+    public void setup() {
+        final List<byte[]> encodedPrivateKeys = new ArrayList<>();
+        final List<byte[]> encodedPublicKeys = new ArrayList<>();
+        for (int i = 0; i < KEYS_PER_ALGORITHM; i++) {
+            final PrivateKey ed25519 = PrivateKey.generate(KeyAlgorithm.ED25519);
+            encodedPrivateKeys.add(ed25519.toBytes(KeyEncoding.RAW));
+            encodedPrivateKeys.add(ed25519.toBytes(KeyEncoding.DER));
+            encodedPublicKeys.add(ed25519.createPublicKey().toBytes(KeyEncoding.RAW));
+            encodedPublicKeys.add(ed25519.createPublicKey().toBytes(KeyEncoding.DER));
+            // raw ECDSA private keys can not be told apart from raw ED25519 keys, so only DER is imported
+            final PrivateKey ecdsa = PrivateKey.generate(KeyAlgorithm.ECDSA);
+            encodedPrivateKeys.add(ecdsa.toBytes(KeyEncoding.DER));
+            encodedPublicKeys.add(ecdsa.createPublicKey().toBytes(KeyEncoding.RAW));
+            encodedPublicKeys.add(ecdsa.createPublicKey().toBytes(KeyEncoding.DER));
+        }
+        privateKeys = encodedPrivateKeys.toArray(byte[][]::new);
+        publicKeys = encodedPublicKeys.toArray(byte[][]::new);
+    }
+
+    @Benchmark
+    public void importPrivateKeys(final Blackhole blackhole) {
+        for (final byte[] privateKey : privateKeys) {
+            blackhole.consume(PrivateKey.from(privateKey));
+        }
+    }
+
+    @Benchmark
+    public void importPublicKeys(final Blackhole blackhole) {
+        for (final byte[] publicKey : publicKeys) {
+            blackhole.consume(PublicKey.from(publicKey));
+        }
+    }
+}
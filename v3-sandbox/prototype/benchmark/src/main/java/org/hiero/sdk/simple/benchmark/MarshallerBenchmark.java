@@ -0,0 +1,157 @@
+package org.hiero.sdk.simple.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignatureMap;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.transactions.AccountCreateTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default gRPC protobuf marshallers with the pooled marshallers that are enabled by
+ * {@link GrpcClient#POOLED_MARSHALLERS_PROPERTY}. A signed transaction is drained into a reused buffer like the
+ * message framer of the transport does, and a response is parsed from a direct buffer like the ones the transport
+ * receives. Every parameter value runs in its own fork, since the property is read once. Run with
+ * {@code java -jar benchmark/target/benchmarks.jar MarshallerBenchmark -prof gc} to see the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarshallerBenchmark {
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private MethodDescriptor<Transaction, TransactionResponse> methodDescriptor;
+
+    private Transaction transaction;
+
+    private ByteBuffer responseBytes;
+
+    private final ReusedBufferOutputStream sink = new ReusedBufferOutputStream();
+
+    @Setup
+    public void setup() {
+        System.setProperty(GrpcClient.POOLED_MARSHALLERS_PROPERTY, Boolean.toString(pooled));
+        methodDescriptor = TransactionProtobuffSupport.of(AccountCreateTransaction.class).getMethodDescriptor();
+        final Random random = new Random(42);
+        final byte[] body = new byte[200];
+        random.nextBytes(body);
+        final SignatureMap.Builder signatures = SignatureMap.newBuilder();
+        for (int i = 0; i < 3; i++) {
+            final byte[] signature = new byte[64];
+            random.nextBytes(signature);
+            signatures.addSigPair(SignaturePair.newBuilder()
+                    .setPubKeyPrefix(ByteString.copyFrom(new byte[]{(byte) i}))
+                    .setEd25519(ByteString.copyFrom(signature)));
+        }
+        transaction = Transaction.newBuilder()
+                .setBodyBytes(ByteString.copyFrom(body))
+                .setSigMap(signatures)
+                .build();
+        final byte[] response = TransactionResponse.newBuilder()
+                .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                .setCost(123_456L)
+                .build()
+                .toByteArray();
+        responseBytes = ByteBuffer.allocateDirect(response.length).put(response).flip();
+    }
+
+    @Benchmark
+    public int serializeTransaction() throws IOException {
+        sink.reset();
+        final InputStream stream = methodDescriptor.streamRequest(transaction);
+        if (stream instanceof Drainable drainable) {
+            return drainable.drainTo(sink);
+        }
+        return (int) stream.transferTo(sink);
+    }
+
+    @Benchmark
+    public TransactionResponse parseResponse() {
+        return methodDescriptor.parseResponse(new TransportStream(responseBytes.duplicate()));
+    }
+
+    /**
+     * Output that writes into one buffer, like the pooled buffers the transport allocates the frames from.
+     */
+    private static final class ReusedBufferOutputStream extends OutputStream {
+
+        private final byte[] buffer = new byte[8192];
+
+        private int position;
+
+        void reset() {
+            position = 0;
+        }
+
+        @Override
+        public void write(final int b) {
+            buffer[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            System.arraycopy(b, off, buffer, position, len);
+            position += len;
+        }
+    }
+
+    /**
+     * Received message with a known length, like the streams the gRPC transports hand to the marshallers.
+     */
+    private static final class TransportStream extends InputStream implements KnownLength {
+
+        private final ByteBuffer buffer;
+
+        private TransportStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.hiero.sdk.simple.benchmark;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.bouncycastle.asn1.sec.SECNamedCurves;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link PrivateKey#createPublicKey()}, which derives the public key once per private key and returns the
+ * cached key afterward, with deriving the public key from the key material on every call as it was done before the
+ * cache existed. Run with {@code java -jar benchmark/target/benchmarks.jar PublicKeyDerivationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublicKeyDerivationBenchmark {
+
+    private static final X9ECParameters SECP256K1 = SECNamedCurves.getByName("secp256k1");
+
+    @Param({"ED25519", "ECDSA"})
+    public KeyAlgorithm algorithm;
+
+    private PrivateKey privateKey;
+
+    private byte[] keyData;
+
+    @Setup
+    public void setup() {
+        privateKey = PrivateKey.generate(algorithm);
+        keyData = privateKey.toBytes(KeyEncoding.RAW);
+        // the first call derives the key, all following calls of the benchmark hit the cache
+        privateKey.createPublicKey();
+    }
+
+    @Benchmark
+    public PublicKey cached() {
+        return privateKey.createPublicKey();
+    }
+
+    @Benchmark
+    public byte[] derived() {
+        if (algorithm == KeyAlgorithm.ED25519) {
+            return new Ed25519PrivateKeyParameters(keyData).generatePublicKey().getEncoded();
+        }
+        return SECP256K1.getG().multiply(new BigInteger(1, keyData)).getEncoded(true);
+    }
+}
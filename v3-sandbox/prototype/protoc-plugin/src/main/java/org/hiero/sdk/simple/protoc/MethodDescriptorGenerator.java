@@ -0,0 +1,217 @@
+package org.hiero.sdk.simple.protoc;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.MethodDescriptorProto;
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest;
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Protoc plugin that generates one class with a constant {@code io.grpc.MethodDescriptor} for every RPC of the services
+ * in the files to generate. The plugin parameter is the fully qualified name of the generated class. The descriptors are
+ * created by {@code GrpcMethodDescriptorFactory.createMethodDescriptor} of the package of the generated class, so that
+ * the SDK decides which marshallers are used.
+ * <p>
+ * Every service becomes a nested class that is named by the service, prefixed by the directories of its proto file. The
+ * {@code NetworkService} of {@code mirror/mirror_network_service.proto} becomes {@code MirrorNetworkService}, for
+ * example. Every method becomes a constant that is named by the method in upper snake case.
+ */
+public final class MethodDescriptorGenerator {
+
+    private final Map<String, String> javaTypes = new HashMap<>();
+
+    private final Set<String> usedServiceNames = new HashSet<>();
+
+    private MethodDescriptorGenerator() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final CodeGeneratorRequest request = CodeGeneratorRequest.parseFrom(System.in);
+        CodeGeneratorResponse response;
+        try {
+            response = new MethodDescriptorGenerator().generate(request);
+        } catch (IllegalArgumentException e) {
+            response = CodeGeneratorResponse.newBuilder().setError(e.getMessage()).build();
+        }
+        response.writeTo(System.out);
+        System.out.flush();
+    }
+
+    private CodeGeneratorResponse generate(final CodeGeneratorRequest request) {
+        final String className = request.getParameter().trim();
+        if (className.isEmpty() || !className.contains(".")) {
+            throw new IllegalArgumentException("The parameter must be the fully qualified name of the generated class");
+        }
+        request.getProtoFileList().forEach(this::registerTypes);
+
+        final Set<String> filesToGenerate = new HashSet<>(request.getFileToGenerateList());
+        final List<Service> services = new ArrayList<>();
+        for (final FileDescriptorProto file : request.getProtoFileList()) {
+            if (filesToGenerate.contains(file.getName())) {
+                for (final ServiceDescriptorProto service : file.getServiceList()) {
+                    services.add(new Service(file, service, className(file, service)));
+                }
+            }
+        }
+        services.sort(Comparator.comparing(Service::className));
+
+        final int lastDot = className.lastIndexOf('.');
+        final String packageName = className.substring(0, lastDot);
+        final String simpleName = className.substring(lastDot + 1);
+        final StringBuilder source = new StringBuilder();
+        source.append("// Generated by ").append(MethodDescriptorGenerator.class.getName())
+                .append(" from the service definitions, do not edit.\n");
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("import io.grpc.MethodDescriptor;\n");
+        source.append("import io.grpc.MethodDescriptor.MethodType;\n\n");
+        source.append("/**\n");
+        source.append(" * Method descriptors of all RPCs of the gRPC services of the network. A descriptor is created when the\n");
+        source.append(" * nested class of its service is initialized and is reused for all calls.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(simpleName).append(" {\n\n");
+        source.append("    private ").append(simpleName).append("() {\n    }\n");
+        services.forEach(service -> appendService(source, service));
+        source.append("}\n");
+
+        return CodeGeneratorResponse.newBuilder()
+                .setSupportedFeatures(CodeGeneratorResponse.Feature.FEATURE_PROTO3_OPTIONAL_VALUE)
+                .addFile(CodeGeneratorResponse.File.newBuilder()
+                        .setName(className.replace('.', '/') + ".java")
+                        .setContent(source.toString()))
+                .build();
+    }
+
+    private void appendService(final StringBuilder source, final Service service) {
+        final String serviceName = service.file().getPackage().isEmpty()
+                ? service.service().getName()
+                : service.file().getPackage() + "." + service.service().getName();
+        source.append("\n    /**\n");
+        source.append("     * Methods of {@code ").append(serviceName).append("} defined in {@code ")
+                .append(service.file().getName()).append("}.\n");
+        source.append("     */\n");
+        source.append("    public static final class ").append(service.className()).append(" {\n\n");
+        source.append("        public static final String SERVICE_NAME = \"").append(serviceName).append("\";\n");
+        for (final MethodDescriptorProto method : service.service().getMethodList()) {
+            final String requestType = javaType(method.getInputType());
+            final String responseType = javaType(method.getOutputType());
+            source.append('\n');
+            if (method.getOptions().getDeprecated()) {
+                source.append("        @Deprecated\n");
+            }
+            source.append("        public static final MethodDescriptor<").append(requestType).append(", ")
+                    .append(responseType).append("> ").append(constantName(method.getName())).append(" =\n");
+            source.append("                GrpcMethodDescriptorFactory.createMethodDescriptor(SERVICE_NAME, \"")
+                    .append(method.getName()).append("\", MethodType.").append(methodType(method)).append(",\n");
+            source.append("                        ").append(requestType).append(".getDefaultInstance(),\n");
+            source.append("                        ").append(responseType).append(".getDefaultInstance());\n");
+        }
+        source.append("\n        private ").append(service.className()).append("() {\n        }\n");
+        source.append("    }\n");
+    }
+
+    private String className(final FileDescriptorProto file, final ServiceDescriptorProto service) {
+        final StringBuilder name = new StringBuilder();
+        final String[] path = file.getName().split("/");
+        for (int i = 0; i < path.length - 1; i++) {
+            name.append(Character.toUpperCase(path[i].charAt(0))).append(path[i].substring(1));
+        }
+        name.append(service.getName());
+        if (!usedServiceNames.add(name.toString())) {
+            throw new IllegalArgumentException("Service name " + name + " of " + file.getName() + " is not unique");
+        }
+        return name.toString();
+    }
+
+    private String javaType(final String protoType) {
+        final String javaType = javaTypes.get(protoType);
+        if (javaType == null) {
+            throw new IllegalArgumentException("Unknown message type " + protoType);
+        }
+        return javaType;
+    }
+
+    private void registerTypes(final FileDescriptorProto file) {
+        final String protoPrefix = file.getPackage().isEmpty() ? "." : "." + file.getPackage() + ".";
+        String javaPrefix = file.getOptions().hasJavaPackage() ? file.getOptions().getJavaPackage() : file.getPackage();
+        if (!javaPrefix.isEmpty()) {
+            javaPrefix += ".";
+        }
+        if (!file.getOptions().getJavaMultipleFiles()) {
+            javaPrefix += outerClassName(file) + ".";
+        }
+        for (final DescriptorProto message : file.getMessageTypeList()) {
+            registerTypes(message, protoPrefix, javaPrefix);
+        }
+    }
+
+    private void registerTypes(final DescriptorProto message, final String protoPrefix, final String javaPrefix) {
+        javaTypes.put(protoPrefix + message.getName(), javaPrefix + message.getName());
+        for (final DescriptorProto nested : message.getNestedTypeList()) {
+            registerTypes(nested, protoPrefix + message.getName() + ".", javaPrefix + message.getName() + ".");
+        }
+    }
+
+    private static String outerClassName(final FileDescriptorProto file) {
+        if (file.getOptions().hasJavaOuterClassname()) {
+            return file.getOptions().getJavaOuterClassname();
+        }
+        final String fileName = file.getName().substring(file.getName().lastIndexOf('/') + 1)
+                .replaceFirst("\\.proto$", "");
+        final StringBuilder name = new StringBuilder();
+        boolean upperCase = true;
+        for (final char c : fileName.toCharArray()) {
+            if (!Character.isLetterOrDigit(c)) {
+                upperCase = true;
+            } else {
+                name.append(upperCase ? Character.toUpperCase(c) : c);
+                upperCase = Character.isDigit(c);
+            }
+        }
+        final String outerClassName = name.toString();
+        final boolean conflicts = file.getMessageTypeList().stream()
+                .map(DescriptorProto::getName)
+                .anyMatch(outerClassName::equals)
+                || file.getEnumTypeList().stream().map(EnumDescriptorProto::getName).anyMatch(outerClassName::equals)
+                || file.getServiceList().stream().map(ServiceDescriptorProto::getName).anyMatch(outerClassName::equals);
+        return conflicts ? outerClassName + "OuterClass" : outerClassName;
+    }
+
+    private static String methodType(final MethodDescriptorProto method) {
+        if (method.getClientStreaming()) {
+            return method.getServerStreaming() ? "BIDI_STREAMING" : "CLIENT_STREAMING";
+        }
+        return method.getServerStreaming() ? "SERVER_STREAMING" : "UNARY";
+    }
+
+    static String constantName(final String methodName) {
+        Objects.requireNonNull(methodName, "methodName must not be null");
+        final StringBuilder name = new StringBuilder();
+        for (int i = 0; i < methodName.length(); i++) {
+            final char c = methodName.charAt(i);
+            if (i > 0 && Character.isUpperCase(c)) {
+                final char previous = methodName.charAt(i - 1);
+                final boolean nextIsLowerCase = i + 1 < methodName.length()
+                        && Character.isLowerCase(methodName.charAt(i + 1));
+                if (!Character.isUpperCase(previous) || nextIsLowerCase) {
+                    name.append('_');
+                }
+            }
+            name.append(Character.toUpperCase(c));
+        }
+        return name.toString();
+    }
+
+    private record Service(FileDescriptorProto file, ServiceDescriptorProto service, String className) {
+    }
+}
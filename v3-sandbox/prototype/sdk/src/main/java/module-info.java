@@ -2,8 +2,10 @@ module org.hiero.sdk.simple {
     exports org.hiero.sdk.simple;
     exports org.hiero.sdk.simple.network;
     exports org.hiero.sdk.simple.network.keys;
+    exports org.hiero.sdk.simple.network.keys.spi;
     exports org.hiero.sdk.simple.network.settings;
     exports org.hiero.sdk.simple.network.settings.spi;
+    exports org.hiero.sdk.simple.signing;
     exports org.hiero.sdk.simple.transactions;
     exports org.hiero.sdk.simple.grpc;
     exports org.hiero.sdk.simple.transactions.spi;
@@ -21,6 +23,14 @@ module org.hiero.sdk.simple {
             org.hiero.sdk.simple.internal.network.settings.HederaTestnetSettingsProvider,
             org.hiero.sdk.simple.internal.network.settings.HieroTestEnvironmentSettingsProvider;
 
+    uses org.hiero.sdk.simple.network.keys.spi.CryptoBackend;
+    provides org.hiero.sdk.simple.network.keys.spi.CryptoBackend with
+            org.hiero.sdk.simple.internal.network.key.BouncyCastleCryptoBackend,
+            org.hiero.sdk.simple.internal.network.key.JdkCryptoBackend;
+
     uses org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
-    provides org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport with org.hiero.sdk.simple.internal.transactions.AccountCreateTransactionProtobuffSupport;
+    provides org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport with
+            org.hiero.sdk.simple.internal.transactions.AccountCreateTransactionProtobuffSupport,
+            org.hiero.sdk.simple.internal.transactions.CryptoTransferTransactionProtobuffSupport,
+            org.hiero.sdk.simple.internal.transactions.TopicMessageSubmitTransactionProtobuffSupport;
 }
\ No newline at end of file
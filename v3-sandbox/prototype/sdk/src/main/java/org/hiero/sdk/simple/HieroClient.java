@@ -2,12 +2,17 @@ package org.hiero.sdk.simple;
 
 import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
 import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.grpc.GrpcCompression;
 import org.hiero.sdk.simple.internal.HieroClientImpl;
 import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
 import org.hiero.sdk.simple.network.Network;
 import org.hiero.sdk.simple.network.TransactionId;
 import org.hiero.sdk.simple.network.settings.NetworkSettings;
@@ -16,7 +21,7 @@ import org.jspecify.annotations.NonNull;
 /**
  * Interface representing a Hiero client that provides methods to interact with the Hiero network.
  */
-public interface HieroClient {
+public interface HieroClient extends AutoCloseable {
 
     /**
      * Returns whether transactions should be signed automatically with the operator account. By doing so a transaction
@@ -50,6 +55,16 @@ public interface HieroClient {
             TransactionId transactionId,
             BiFunction<TransactionId, TransactionRecord, RECORD> recordFactory);
 
+    /**
+     * Returns the compression of the requests that are sent by the gRPC clients of this client.
+     *
+     * @return the compression
+     */
+    @NonNull
+    default GrpcCompression getGrpcCompression() {
+        return GrpcCompression.NONE;
+    }
+
     /**
      * Returns the gRPC client used to communicate with the Hiero network.
      *
@@ -58,6 +73,54 @@ public interface HieroClient {
     @NonNull
     GrpcClient getGrpcClient();
 
+    /**
+     * Returns the gRPC client used to communicate with the given consensus node.
+     *
+     * @param node the consensus node
+     * @return the gRPC client
+     * @throws IllegalArgumentException if the node is not part of the current network
+     */
+    @NonNull
+    GrpcClient getGrpcClient(@NonNull ConsensusNode node);
+
+    /**
+     * Returns the gRPC client used to communicate with the consensus node that has the given account ID. A transaction
+     * body is only valid for the node it has been created for, so no other node is used if the node is no longer part
+     * of the network (see {@link #getConsensusNodes()}). In that case the transaction must be packed again for one of
+     * the current nodes.
+     *
+     * @param nodeAccountId the account ID of the consensus node
+     * @return the gRPC client
+     * @throws IllegalStateException if no node with the account ID is part of the current network
+     */
+    @NonNull
+    default GrpcClient getGrpcClient(@NonNull final AccountId nodeAccountId) {
+        Objects.requireNonNull(nodeAccountId, "nodeAccountId must not be null");
+        for (final ConsensusNode node : getConsensusNodes()) {
+            if (nodeAccountId.equals(node.getAccountId())) {
+                try {
+                    return getGrpcClient(node);
+                } catch (IllegalArgumentException e) {
+                    // the node has been removed from the network since the nodes have been read
+                    break;
+                }
+            }
+        }
+        throw new IllegalStateException("Node " + nodeAccountId + " is no longer part of the network");
+    }
+
+    /**
+     * Returns the consensus nodes that are currently used by this client. The nodes are initially defined by the
+     * network settings and can change over the lifetime of the client if the address book of the network is refreshed
+     * (see {@link NetworkSettings#getMirrorNodeAddress()}).
+     *
+     * @return the current consensus nodes
+     */
+    @NonNull
+    default Set<ConsensusNode> getConsensusNodes() {
+        return getNetworkSettings().getConsensusNodes();
+    }
+
     /**
      * Returns the operator account used for signing transactions and other operations.
      *
@@ -91,6 +154,14 @@ public interface HieroClient {
         return 30_000; // 30 seconds
     }
 
+    /**
+     * Closes the client and releases all network resources like gRPC channels and background refresh tasks. Clients
+     * that do not hold such resources do not need to override this method.
+     */
+    @Override
+    default void close() {
+    }
+
     /**
      * Creates a new HieroClient instance with the specified operator account and network settings.
      *
@@ -103,6 +174,21 @@ public interface HieroClient {
         return new HieroClientImpl(operatorAccount, networkSettings, Executors.newCachedThreadPool());
     }
 
+    /**
+     * Creates a new HieroClient instance with the specified operator account, network settings and compression of the
+     * requests that are sent to the network.
+     *
+     * @param operatorAccount the operator account
+     * @param networkSettings the network settings
+     * @param compression     the compression of the requests
+     * @return a new HieroClient instance
+     */
+    @NonNull
+    static HieroClient create(@NonNull final Account operatorAccount, @NonNull final NetworkSettings networkSettings,
+            @NonNull final GrpcCompression compression) {
+        return new HieroClientImpl(operatorAccount, networkSettings, Executors.newCachedThreadPool(), compression);
+    }
+
     /**
      * Creates a new HieroClient instance with the specified operator account and network identifier. See
      * {@link NetworkSettings#forIdentifier(String)} for documentation of the network identifier.
@@ -1,14 +1,20 @@
 package org.hiero.sdk.simple;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.UnaryOperator;
+import org.hiero.sdk.simple.internal.DefaultPackedTransaction;
 import org.hiero.sdk.simple.network.TransactionId;
 import org.hiero.sdk.simple.network.keys.KeyPair;
 import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.signing.AsyncTransactionSigner;
+import org.hiero.sdk.simple.signing.SignableNodeTransactionBodyBytes;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -19,6 +25,11 @@ import org.jspecify.annotations.NonNull;
  */
 public interface PackedTransaction<T extends Transaction, R extends Response> {
 
+    /**
+     * The maximum size in bytes of an encoded transaction that is accepted by the network.
+     */
+    int MAX_SIZE = 6144;
+
     TransactionId transactionId();
 
     /**
@@ -46,7 +57,156 @@ public interface PackedTransaction<T extends Transaction, R extends Response> {
     PackedTransaction<T, R> sign(@NonNull PublicKey publicKey, @NonNull UnaryOperator<byte[]> transactionSigner);
 
     /**
-     * Sends the packed transaction to the network asynchronously.
+     * Signs the transaction asynchronously with the given signer. The signer signs every node body of the transaction
+     * and the signatures are added to their bodies once the signer completed. To sign many transactions in one round trip use
+     * {@link org.hiero.sdk.simple.signing.AsyncSigning#signAll(List, AsyncTransactionSigner)}.
+     *
+     * @param signer the signer
+     * @return a future that completes with this transaction once the signature has been added
+     */
+    @NonNull
+    default CompletableFuture<PackedTransaction<T, R>> signAsync(@NonNull final AsyncTransactionSigner signer) {
+        Objects.requireNonNull(signer, "signer must not be null");
+        final List<SignableNodeTransactionBodyBytes> bodies = signableNodeBodyBytesList();
+        return signer.sign(bodies).thenApply(signatures -> {
+            if (signatures.size() != bodies.size()) {
+                throw new IllegalStateException(
+                        "Signer returned " + signatures.size() + " signatures for " + bodies.size() + " bodies");
+            }
+            for (int i = 0; i < signatures.size(); i++) {
+                addSignature(bodies.get(i), signer.getPublicKey(), signatures.get(i));
+            }
+            return this;
+        });
+    }
+
+    /**
+     * Adds a signature that has been created externally for the body bytes of this transaction. This is only possible
+     * if the transaction has a single node body, otherwise the body must be given by
+     * {@link #addSignature(SignableNodeTransactionBodyBytes, PublicKey, byte[])}.
+     *
+     * @param publicKey the public key that belongs to the signing key
+     * @param signature the signature of the body bytes
+     * @return this {@link PackedTransaction} instance with the signature applied
+     * @throws IllegalStateException if the transaction is already signed with the public key or has more than one node
+     *                               body
+     * @see #signableNodeBodyBytesList()
+     */
+    @NonNull
+    default PackedTransaction<T, R> addSignature(@NonNull final PublicKey publicKey, @NonNull final byte[] signature) {
+        final List<SignableNodeTransactionBodyBytes> bodies = signableNodeBodyBytesList();
+        if (bodies.size() != 1) {
+            throw new IllegalStateException("transaction has " + bodies.size() + " node bodies, the body of the "
+                    + "signature must be given");
+        }
+        return addSignature(bodies.get(0), publicKey, signature);
+    }
+
+    /**
+     * Adds a signature that has been created externally for one of the node bodies of this transaction.
+     *
+     * @param body      the node body that has been signed, one of {@link #signableNodeBodyBytesList()}
+     * @param publicKey the public key that belongs to the signing key
+     * @param signature the signature of the body bytes
+     * @return this {@link PackedTransaction} instance with the signature applied
+     * @throws IllegalArgumentException if the body is not a node body of this transaction
+     * @throws IllegalStateException    if the body is already signed with the public key
+     */
+    @NonNull
+    PackedTransaction<T, R> addSignature(@NonNull SignableNodeTransactionBodyBytes body, @NonNull PublicKey publicKey,
+            @NonNull byte[] signature);
+
+    /**
+     * Returns the body bytes that need to be signed, one entry per node the transaction is addressed to.
+     *
+     * @return the body bytes that need to be signed
+     */
+    @NonNull
+    List<SignableNodeTransactionBodyBytes> signableNodeBodyBytesList();
+
+    /**
+     * Verifies all signatures of the transaction against the transaction body. This allows to detect invalid
+     * signatures before the transaction is sent to the network. Malformed keys or signatures, for example of a restored
+     * transaction, are reported as invalid (see {@link org.hiero.sdk.simple.network.keys.SignedMessage#verify()}).
+     *
+     * @return true if all signatures are valid, false otherwise
+     */
+    boolean verifySignatures();
+
+    /**
+     * Returns the size in bytes of the encoded transaction including the signatures, as it is sent to the network. The
+     * size is computed from the cached body bytes and the signatures without encoding the transaction.
+     *
+     * @return the size of the encoded transaction
+     * @see #MAX_SIZE
+     */
+    int size();
+
+    /**
+     * Returns the size in bytes of the encoded transaction body, without signatures.
+     *
+     * @return the size of the encoded transaction body
+     */
+    int bodySize();
+
+    /**
+     * Returns the size in bytes of the serialized form that is created by {@link #toBytes()} and
+     * {@link #writeTo(ByteBuffer)}. The serialized form always contains the full public keys of the signers and is
+     * therefore larger than the transaction that is sent to the network if short public key prefixes are used (see
+     * {@link #withShortPublicKeyPrefixes(Set)}).
+     *
+     * @return the size of the serialized form
+     */
+    int serializedSize();
+
+    /**
+     * Returns the serialized form of this transaction, a protobuf {@code Transaction} that contains the body bytes and
+     * all signatures. The transaction can be restored by {@link #fromBytes(HieroClient, byte[])}, for example to sign a
+     * transaction offline and to send it from another service.
+     *
+     * @return the serialized form
+     */
+    @NonNull
+    byte[] toBytes();
+
+    /**
+     * Writes the serialized form of this transaction (see {@link #toBytes()}) to the given buffer, starting at its
+     * position. The position is advanced by {@link #serializedSize()} bytes.
+     *
+     * @param buffer the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer has not enough remaining space
+     */
+    void writeTo(@NonNull ByteBuffer buffer);
+
+    /**
+     * Sends only the shortest unique prefix of every signing public key instead of the full key, which reduces the
+     * size of transactions with many signatures. By default the full keys are sent.
+     * <p>
+     * The network assigns a signature to every required key whose bytes start with the prefix of the signature, so a
+     * prefix must not match a required key that has not signed. Therefore, all keys that the network requires for this
+     * transaction, for example every key of a threshold key, must be given, the signers do not need to be included.
+     * The full key is always sent for ECDSA signers, since the network needs it to complete a hollow account (an
+     * account that has been created by a transfer to an EVM address).
+     *
+     * @param requiredKeys the keys the network requires for the transaction in addition to the signers
+     * @return this packed transaction
+     */
+    @NonNull
+    PackedTransaction<T, R> withShortPublicKeyPrefixes(@NonNull Set<PublicKey> requiredKeys);
+
+    /**
+     * Returns the number of bytes that are saved by sending only the shortest unique prefix of every signing public
+     * key instead of the full key (see {@link #withShortPublicKeyPrefixes(Set)}). The prefixes are chosen so that every
+     * signature can still be assigned to exactly one of the required keys.
+     *
+     * @return the number of saved bytes, 0 if the full keys are sent
+     */
+    int publicKeyPrefixSavings();
+
+    /**
+     * Sends the packed transaction to the network asynchronously. The transaction is only sent to the node it has
+     * been packed for. If that node has been removed from the network by a refresh of the address book, the returned
+     * future fails with an {@link IllegalStateException} and the transaction must be packed again for a current node.
      *
      * @return a {@link CompletableFuture} that will complete with the response of the transaction
      */
@@ -79,6 +239,36 @@ public interface PackedTransaction<T extends Transaction, R extends Response> {
      */
     R sendAndWait() throws ExecutionException, InterruptedException, TimeoutException;
 
+    /**
+     * Restores a transaction from its serialized form (see {@link #toBytes()}). The restored transaction keeps its
+     * signatures and can be signed further and sent with the given client. It is not signed with the operator of the
+     * client automatically.
+     *
+     * @param client the Hiero client used to send the transaction
+     * @param bytes  the serialized form
+     * @return the restored transaction
+     * @throws IllegalArgumentException if the bytes are not a valid serialized transaction
+     */
+    @NonNull
+    static PackedTransaction<?, ?> fromBytes(@NonNull final HieroClient client, @NonNull final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        return fromBytes(client, ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Restores a transaction from its serialized form (see {@link #writeTo(ByteBuffer)}). All remaining bytes of the
+     * buffer are read and the restored transaction does not reference the buffer afterward.
+     *
+     * @param client the Hiero client used to send the transaction
+     * @param bytes  the buffer that contains the serialized form
+     * @return the restored transaction
+     * @throws IllegalArgumentException if the bytes are not a valid serialized transaction
+     */
+    @NonNull
+    static PackedTransaction<?, ?> fromBytes(@NonNull final HieroClient client, @NonNull final ByteBuffer bytes) {
+        return DefaultPackedTransaction.fromBytes(client, bytes);
+    }
+
     /**
      * Unpacks the packed transaction into its original transaction type. Each call to this method will return a new
      * instance.
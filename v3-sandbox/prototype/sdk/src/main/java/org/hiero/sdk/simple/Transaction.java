@@ -39,4 +39,14 @@ public interface Transaction<T extends Transaction, R extends Response> {
      * @return a {@link PackedTransaction} representing the frozen state of this transaction
      */
     PackedTransaction<T, R> packTransaction(@NonNull HieroClient client);
+
+    /**
+     * Returns the size in bytes of the encoded transaction body, without signatures. The body is built for a newly
+     * generated transaction ID and the node that {@link #packTransaction(HieroClient)} would use, but the transaction
+     * is not packed or signed.
+     *
+     * @param client the Hiero client used to build the transaction body
+     * @return the size of the encoded transaction body
+     */
+    int bodySize(@NonNull HieroClient client);
 }
@@ -3,12 +3,24 @@ package org.hiero.sdk.simple.grpc;
 import com.google.protobuf.MessageLite;
 import io.grpc.MethodDescriptor;
 import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
 
 /**
  * A simple gRPC client interface for making calls to a gRPC service.
+ * <p>
+ * Messages are marshalled by the default protobuf marshaller of gRPC. Setting the system property
+ * {@value #POOLED_MARSHALLERS_PROPERTY} to {@code true} enables marshallers that serialize requests into buffers that
+ * are reused per thread, which reduces the allocations per call at high transaction rates.
+ * <p>
+ * Requests are compressed as defined by the {@link GrpcCompression} of the client, which can be overridden per call.
  */
 public interface GrpcClient {
 
+    /**
+     * The system property that enables the pooled marshallers for all method descriptors of the SDK.
+     */
+    String POOLED_MARSHALLERS_PROPERTY = "hiero.grpc.pooledMarshallers";
+
     /**
      * Calls a gRPC method with the specified input message and returns a {@link CompletableFuture} that will complete
      * with the output message.
@@ -22,4 +34,18 @@ public interface GrpcClient {
     <I extends MessageLite, O extends MessageLite> CompletableFuture<O> call(
             MethodDescriptor<I, O> methodDescriptor, I input);
 
+    /**
+     * Calls a gRPC method with the specified input message and compression and returns a {@link CompletableFuture}
+     * that will complete with the output message.
+     *
+     * @param <I>              the type of the input message
+     * @param <O>              the type of the output message
+     * @param methodDescriptor the MethodDescriptor for the gRPC method to call
+     * @param input            the input message to send
+     * @param compression      the compression of the input message, replaces the compression of the client
+     * @return a CompletableFuture that will complete with the output message
+     */
+    <I extends MessageLite, O extends MessageLite> CompletableFuture<O> call(
+            MethodDescriptor<I, O> methodDescriptor, I input, @NonNull GrpcCompression compression);
+
 }
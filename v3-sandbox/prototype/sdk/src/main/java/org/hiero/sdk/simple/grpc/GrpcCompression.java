@@ -0,0 +1,80 @@
+package org.hiero.sdk.simple.grpc;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Defines whether the request of a gRPC call is compressed. A request is compressed by the given compressor if its
+ * serialized size is at least the given threshold. Small requests like most transactions do not get smaller by
+ * compression and are always sent as they are, while contract bytecode uploads and file appends can be compressed.
+ * <p>
+ * Responses are compressed by the node if it supports one of the compressors that the client accepts, which includes
+ * {@value #GZIP}.
+ *
+ * @param compressor the name of the compressor, {@value #GZIP} or {@value #IDENTITY}
+ * @param threshold  the minimum serialized size in bytes of a request to be compressed
+ */
+public record GrpcCompression(@NonNull String compressor, int threshold) {
+
+    /**
+     * The name of the gzip compressor.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * The name of the compressor that does not compress.
+     */
+    public static final String IDENTITY = "identity";
+
+    /**
+     * Requests are never compressed.
+     */
+    public static final GrpcCompression NONE = new GrpcCompression(IDENTITY, 0);
+
+    /**
+     * The default threshold for {@link #gzip()}. Smaller requests do not get smaller enough to be worth the time of
+     * compressing them.
+     */
+    public static final int DEFAULT_THRESHOLD = 4 * 1024;
+
+    public GrpcCompression {
+        Objects.requireNonNull(compressor, "compressor must not be null");
+        if (!GZIP.equals(compressor) && !IDENTITY.equals(compressor)) {
+            throw new IllegalArgumentException("Unsupported compressor: " + compressor);
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must be non-negative");
+        }
+    }
+
+    /**
+     * Returns a compression that compresses requests of at least {@link #DEFAULT_THRESHOLD} bytes by gzip.
+     *
+     * @return the compression
+     */
+    @NonNull
+    public static GrpcCompression gzip() {
+        return gzip(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns a compression that compresses requests of at least the given size by gzip.
+     *
+     * @param threshold the minimum serialized size in bytes of a request to be compressed
+     * @return the compression
+     */
+    @NonNull
+    public static GrpcCompression gzip(final int threshold) {
+        return new GrpcCompression(GZIP, threshold);
+    }
+
+    /**
+     * Returns whether a request of the given serialized size is compressed.
+     *
+     * @param serializedSize the serialized size of the request in bytes
+     * @return true if the request is compressed
+     */
+    public boolean compresses(final int serializedSize) {
+        return !IDENTITY.equals(compressor) && serializedSize >= threshold;
+    }
+}
@@ -0,0 +1,88 @@
+package org.hiero.sdk.simple.internal;
+
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import java.util.Objects;
+import org.hiero.sdk.simple.ExchangeRate;
+import org.hiero.sdk.simple.Receipt;
+import org.hiero.sdk.simple.TransactionStatus;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class of receipts that keep the receipt as it has been received from the network and decode its fields only
+ * when they are read. A caller that only checks the status does not pay for converting the other fields.
+ * <p>
+ * The receipts have been Java records before. A record converts all of its components in the canonical constructor,
+ * so receipts are classes that keep the protobuf instead. The accessors kept their names, so code that reads receipts
+ * still compiles. The canonical constructors and record patterns are gone, receipts are only created by the responses
+ * of this SDK. Two receipts are equal if they are of the same class and have the same transaction ID and protobuf.
+ */
+public abstract class AbstractReceipt implements Receipt {
+
+    private final TransactionId transactionId;
+
+    private final TransactionReceipt protobuf;
+
+    @Nullable
+    private volatile ExchangeRate exchangeRate;
+
+    protected AbstractReceipt(@NonNull final TransactionId transactionId,
+            @NonNull final TransactionReceipt protobuf) {
+        this.transactionId = Objects.requireNonNull(transactionId, "transactionId must not be null");
+        this.protobuf = Objects.requireNonNull(protobuf, "protobuf must not be null");
+    }
+
+    @Override
+    public TransactionId transactionId() {
+        return transactionId;
+    }
+
+    @Override
+    public TransactionStatus status() {
+        return ProtobufUtil.fromProtobuf(protobuf.getStatus());
+    }
+
+    @Override
+    public ExchangeRate exchangeRate() {
+        ExchangeRate result = exchangeRate;
+        if (result == null) {
+            result = ProtobufUtil.fromProtobuf(protobuf.getExchangeRate());
+            exchangeRate = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the receipt as it has been received from the network.
+     *
+     * @return the protobuf of the receipt
+     */
+    @NonNull
+    protected TransactionReceipt protobuf() {
+        return protobuf;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AbstractReceipt that = (AbstractReceipt) o;
+        return transactionId.equals(that.transactionId) && protobuf.equals(that.protobuf);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transactionId, protobuf);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[transactionId=" + transactionId + ", status=" + status() + "]";
+    }
+}
@@ -0,0 +1,101 @@
+package org.hiero.sdk.simple.internal;
+
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import org.hiero.sdk.simple.Receipt;
+import org.hiero.sdk.simple.Record;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class of records that keep the record as it has been received from the network and decode its fields only when
+ * they are read. Records can carry large transfer lists and contract results, which are never converted if they are
+ * not read. Like the receipts (see {@link AbstractReceipt}) the records have been Java records before and kept the
+ * names of their accessors.
+ *
+ * @param <R> the type of the receipt of the record
+ */
+public abstract class AbstractRecord<R extends Receipt> implements Record<R> {
+
+    private final TransactionId transactionId;
+
+    private final TransactionRecord protobuf;
+
+    private final BiFunction<TransactionId, TransactionReceipt, R> receiptFactory;
+
+    @Nullable
+    private volatile R receipt;
+
+    @Nullable
+    private volatile Instant consensusTimestamp;
+
+    protected AbstractRecord(@NonNull final TransactionId transactionId, @NonNull final TransactionRecord protobuf,
+            @NonNull final BiFunction<TransactionId, TransactionReceipt, R> receiptFactory) {
+        this.transactionId = Objects.requireNonNull(transactionId, "transactionId must not be null");
+        this.protobuf = Objects.requireNonNull(protobuf, "protobuf must not be null");
+        this.receiptFactory = Objects.requireNonNull(receiptFactory, "receiptFactory must not be null");
+    }
+
+    @Override
+    public TransactionId transactionId() {
+        return transactionId;
+    }
+
+    @Override
+    public R receipt() {
+        R result = receipt;
+        if (result == null) {
+            result = receiptFactory.apply(transactionId, protobuf.getReceipt());
+            receipt = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Instant consensusTimestamp() {
+        Instant result = consensusTimestamp;
+        if (result == null) {
+            result = ProtobufUtil.fromProtobuf(protobuf.getConsensusTimestamp());
+            consensusTimestamp = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the record as it has been received from the network.
+     *
+     * @return the protobuf of the record
+     */
+    @NonNull
+    protected TransactionRecord protobuf() {
+        return protobuf;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AbstractRecord<?> that = (AbstractRecord<?>) o;
+        return transactionId.equals(that.transactionId) && protobuf.equals(that.protobuf);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transactionId, protobuf);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[transactionId=" + transactionId + ", consensusTimestamp="
+                + consensusTimestamp() + "]";
+    }
+}
@@ -34,12 +34,47 @@ public abstract class AbstractTransaction<R extends Response, T extends Transact
     @Override
     @NonNull
     public PackedTransaction<T, R> packTransaction(@NonNull final HieroClient client) {
-        final AccountId nodeAccount = client.getNetworkSettings().getConsensusNodes().iterator().next().getAccountId();
-        final TransactionBody transactionBody = buildTransactionBody(client.generateTransactionId(), nodeAccount);
+        final AccountId nodeAccount = client.getConsensusNodes().iterator().next().getAccountId();
+        return packTransaction(client, client.generateTransactionId(), nodeAccount);
+    }
+
+    /**
+     * Returns a frozen representation of the transaction that uses the given transaction ID and is addressed to the
+     * given node. This is used by helpers that send several related transactions (like the chunks of a large topic
+     * message) and need to control the IDs and the distribution over the nodes.
+     *
+     * @param client        the Hiero client used to freeze the transaction
+     * @param transactionId the transaction ID
+     * @param nodeAccount   the account ID of the node the transaction is sent to
+     * @return a {@link PackedTransaction} representing the frozen state of this transaction
+     */
+    @NonNull
+    public PackedTransaction<T, R> packTransaction(@NonNull final HieroClient client,
+            @NonNull final TransactionId transactionId, @NonNull final AccountId nodeAccount) {
+        Objects.requireNonNull(client, "client must not be null");
+        final TransactionBody transactionBody = buildTransactionBody(transactionId, nodeAccount);
         final TransactionProtobuffSupport<R, T> transactionFactory = getTransactionFactory();
         return new DefaultPackedTransaction(transactionBody, transactionFactory, client);
     }
 
+    @Override
+    public int bodySize(@NonNull final HieroClient client) {
+        Objects.requireNonNull(client, "client must not be null");
+        final AccountId nodeAccount = client.getConsensusNodes().iterator().next().getAccountId();
+        return bodySize(client.generateTransactionId(), nodeAccount);
+    }
+
+    /**
+     * Returns the size in bytes of the encoded transaction body for the given transaction ID and node.
+     *
+     * @param transactionId the transaction ID
+     * @param nodeAccount   the account ID of the node the transaction is sent to
+     * @return the size of the encoded transaction body
+     */
+    public int bodySize(@NonNull final TransactionId transactionId, @NonNull final AccountId nodeAccount) {
+        return buildTransactionBody(transactionId, nodeAccount).getSerializedSize();
+    }
+
     @NonNull
     private TransactionBody buildTransactionBody(@NonNull final TransactionId transactionId,
             @NonNull final AccountId nodeAccount) {
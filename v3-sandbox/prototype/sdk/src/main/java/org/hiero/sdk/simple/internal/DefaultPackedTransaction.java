@@ -1,54 +1,190 @@
 package org.hiero.sdk.simple.internal;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.Transaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import org.hiero.sdk.simple.HieroClient;
 import org.hiero.sdk.simple.PackedTransaction;
 import org.hiero.sdk.simple.Response;
 import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.internal.network.key.PublicKeyWithECDSA;
+import org.hiero.sdk.simple.internal.network.key.PublicKeyWithED25519;
 import org.hiero.sdk.simple.internal.util.ProtobufUtil;
 import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
 import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.keys.SignedMessage;
+import org.hiero.sdk.simple.signing.SignableNodeTransactionBodyBytes;
+import org.hiero.sdk.simple.transactions.spi.TransactionContext;
 import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public final class DefaultPackedTransaction<R extends Response, T extends org.hiero.sdk.simple.Transaction<T, R>> implements
         PackedTransaction<T, R> {
 
-    private final Map<PublicKey, byte[]> transactionSignatures = new HashMap<>();
+    // signatures can be added by async signers from other threads
+    private final Map<PublicKey, byte[]> transactionSignatures = new ConcurrentHashMap<>();
 
     private final TransactionBody transactionBody;
 
+    private final byte[] transactionBodyBytes;
+
+    private final TransactionContext context;
+
     private final HieroClient client;
 
     private final TransactionProtobuffSupport<R, T> transactionFactory;
 
+    // the keys the prefixes of a sent transaction must be unique against, null if the full keys are sent
+    @Nullable
+    private volatile Set<ByteString> requiredKeyPrefixes;
+
     public DefaultPackedTransaction(
             @NonNull final TransactionBody transactionBody,
             @NonNull final TransactionProtobuffSupport<R, T> transactionFactory,
             @NonNull final HieroClient client) {
-        this.transactionBody = Objects.requireNonNull(transactionBody, "transactionBody must not be null");
-        this.client = Objects.requireNonNull(client, "client must not be null");
-        this.transactionFactory = Objects.requireNonNull(transactionFactory, "transactionFactory must not be null");
+        this(Objects.requireNonNull(transactionBody, "transactionBody must not be null"),
+                transactionBody.toByteArray(), transactionFactory, client);
         if (client.signTransactionsAutomaticallyWithOperator()) {
             sign(client.getOperatorAccount().keyPair());
         }
     }
 
+    private DefaultPackedTransaction(
+            @NonNull final TransactionBody transactionBody,
+            @NonNull final byte[] transactionBodyBytes,
+            @NonNull final TransactionProtobuffSupport<R, T> transactionFactory,
+            @NonNull final HieroClient client) {
+        this.transactionBody = transactionBody;
+        this.transactionBodyBytes = transactionBodyBytes;
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.transactionFactory = Objects.requireNonNull(transactionFactory, "transactionFactory must not be null");
+        this.context = new TransactionContext(client,
+                ProtobufUtil.fromProtobuf(transactionBody.getTransactionID()),
+                ProtobufUtil.fromProtobuf(transactionBody.getNodeAccountID()),
+                transactionBody);
+    }
+
+    /**
+     * Restores a packed transaction from the bytes of a protobuf {@code Transaction}, as written by
+     * {@link #writeTo(ByteBuffer)}. The body bytes and signatures are parsed in place and copied only once into the
+     * restored transaction, which does not reference the buffer afterward. The signatures of the transaction are kept
+     * exactly as given, the transaction is not signed with the operator of the client automatically. All remaining
+     * bytes of the buffer are consumed.
+     *
+     * @param client the Hiero client used to send the transaction
+     * @param bytes  the bytes of the transaction
+     * @return the restored transaction
+     * @throws IllegalArgumentException if the bytes are not a valid transaction, a signature does not carry the full
+     *                                  public key or the type of the transaction is not supported
+     */
+    @NonNull
+    public static DefaultPackedTransaction<?, ?> fromBytes(@NonNull final HieroClient client,
+            @NonNull final ByteBuffer bytes) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        try {
+            final CodedInputStream input = CodedInputStream.newInstance(bytes.slice());
+            input.enableAliasing(true);
+            final Transaction transaction = Transaction.parseFrom(input);
+            final ByteString bodyBytes;
+            final SignatureMap signatureMap;
+            if (transaction.getSignedTransactionBytes().isEmpty()) {
+                bodyBytes = transaction.getBodyBytes();
+                signatureMap = transaction.getSigMap();
+            } else {
+                final SignedTransaction signedTransaction =
+                        SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
+                bodyBytes = signedTransaction.getBodyBytes();
+                signatureMap = signedTransaction.getSigMap();
+            }
+            // the body is parsed from the copy so that it does not share memory with the buffer
+            final byte[] transactionBodyBytes = bodyBytes.toByteArray();
+            final TransactionBody transactionBody = TransactionBody.parseFrom(transactionBodyBytes);
+            final DefaultPackedTransaction<?, ?> restored = restore(transactionBody, transactionBodyBytes,
+                    TransactionProtobuffSupport.of(transactionBody.getDataCase()), client);
+            for (final SignaturePair signaturePair : signatureMap.getSigPairList()) {
+                final PublicKey publicKey = toPublicKey(signaturePair);
+                final byte[] signature = toSignature(signaturePair);
+                if (restored.transactionSignatures.putIfAbsent(publicKey, signature) != null) {
+                    throw new IllegalArgumentException("transaction contains several signatures of key '"
+                            + publicKey + "'");
+                }
+            }
+            bytes.position(bytes.limit());
+            return restored;
+        } catch (IOException e) {
+            // parsing from memory only fails for invalid bytes
+            throw new IllegalArgumentException("Invalid transaction bytes", e);
+        }
+    }
+
+    @NonNull
+    private static <R extends Response, T extends org.hiero.sdk.simple.Transaction<T, R>> DefaultPackedTransaction<R, T> restore(
+            @NonNull final TransactionBody transactionBody, @NonNull final byte[] transactionBodyBytes,
+            @NonNull final TransactionProtobuffSupport<R, T> transactionFactory, @NonNull final HieroClient client) {
+        return new DefaultPackedTransaction<>(transactionBody, transactionBodyBytes, transactionFactory, client);
+    }
+
+    @NonNull
+    private static PublicKey toPublicKey(@NonNull final SignaturePair signaturePair) {
+        final ByteString pubKeyPrefix = signaturePair.getPubKeyPrefix();
+        return switch (signaturePair.getSignatureCase()) {
+            case ED25519 -> {
+                requireFullKey(pubKeyPrefix, 32);
+                yield new PublicKeyWithED25519(pubKeyPrefix.toByteArray());
+            }
+            case ECDSA_SECP256K1 -> {
+                requireFullKey(pubKeyPrefix, 33);
+                yield new PublicKeyWithECDSA(pubKeyPrefix.toByteArray());
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unsupported signature type: " + signaturePair.getSignatureCase());
+        };
+    }
+
+    private static void requireFullKey(@NonNull final ByteString pubKeyPrefix, final int keyLength) {
+        if (pubKeyPrefix.size() != keyLength) {
+            throw new IllegalArgumentException("Signature contains a public key prefix of " + pubKeyPrefix.size()
+                    + " bytes instead of the full key of " + keyLength + " bytes");
+        }
+    }
+
+    @NonNull
+    private static byte[] toSignature(@NonNull final SignaturePair signaturePair) {
+        return signaturePair.getSignatureCase() == SignaturePair.SignatureCase.ED25519
+                ? signaturePair.getEd25519().toByteArray()
+                : signaturePair.getECDSASecp256K1().toByteArray();
+    }
+
     @Override
     public TransactionId transactionId() {
-        return ProtobufUtil.fromProtobuf(transactionBody.getTransactionID());
+        return context.transactionId();
     }
 
     @Override
@@ -60,23 +196,65 @@ public final class DefaultPackedTransaction<R extends Response, T extends org.hi
         if (transactionSignatures.containsKey(publicKey)) {
             throw new IllegalStateException("transaction is already signed with public key '" + publicKey + "'");
         }
-        final byte[] transactionBytes = transactionBody.toByteArray();
-        final byte[] signature = transactionSigner.apply(transactionBytes);
-        transactionSignatures.put(publicKey, signature);
+        return addSignature(publicKey, transactionSigner.apply(transactionBodyBytes.clone()));
+    }
+
+    @Override
+    public @NonNull PackedTransaction addSignature(@NonNull final PublicKey publicKey,
+            @NonNull final byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+        if (transactionSignatures.putIfAbsent(publicKey, signature.clone()) != null) {
+            throw new IllegalStateException("transaction is already signed with public key '" + publicKey + "'");
+        }
         return this;
     }
 
+    @Override
+    public @NonNull PackedTransaction addSignature(@NonNull final SignableNodeTransactionBodyBytes body,
+            @NonNull final PublicKey publicKey, @NonNull final byte[] signature) {
+        Objects.requireNonNull(body, "body must not be null");
+        // the transaction is addressed to a single node, so the signatures do not need to be stored per body
+        if (!body.nodeAccountId().equals(context.nodeAccountId())
+                || !body.transactionId().equals(context.transactionId())
+                || !Arrays.equals(body.signableTransactionBodyBytes(), transactionBodyBytes)) {
+            throw new IllegalArgumentException("body does not belong to this transaction");
+        }
+        return addSignature(publicKey, signature);
+    }
+
+    @Override
+    public @NonNull List<SignableNodeTransactionBodyBytes> signableNodeBodyBytesList() {
+        return List.of(new SignableNodeTransactionBodyBytes(
+                context.nodeAccountId(),
+                context.transactionId(),
+                transactionBodyBytes));
+    }
+
+    @Override
+    public boolean verifySignatures() {
+        // SignedMessage reports malformed keys and signatures as invalid
+        return transactionSignatures.entrySet().stream()
+                .map(entry -> new SignedMessage(entry.getKey(), transactionBodyBytes, entry.getValue()))
+                .allMatch(SignedMessage::verify);
+    }
+
     @Override
     public CompletableFuture<R> send() {
         Objects.requireNonNull(client, "client must not be null");
-        final Transaction protobufTransaction = createProtobufTransaction();
-        final GrpcClient grpcClient = client.getGrpcClient();
+        final Transaction protobufTransaction = createProtobufTransaction(true);
+        final GrpcClient grpcClient;
+        try {
+            grpcClient = getGrpcClientForNode();
+        } catch (final IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
         final MethodDescriptor<Transaction, TransactionResponse> methodDescriptor = transactionFactory.getMethodDescriptor();
         return grpcClient.call(methodDescriptor, protobufTransaction).handle((response, throwable) -> {
             if (throwable != null) {
                 throw new RuntimeException("Transaction execution failed", throwable);
             }
-            return transactionFactory.createResponse(client, protobufTransaction, response);
+            return transactionFactory.createResponse(context, response);
         });
     }
 
@@ -86,17 +264,150 @@ public final class DefaultPackedTransaction<R extends Response, T extends org.hi
         return send().get(timeout, TimeUnit.MILLISECONDS);
     }
 
-    private Transaction createProtobufTransaction() {
-        final SignatureMap.Builder signatureBuilder = SignatureMap.newBuilder();
-        transactionSignatures.entrySet().forEach(entry -> {
-            signatureBuilder.addSigPair(ProtobufUtil.toSignaturePairProtobuf(entry.getKey(), entry.getValue()));
-        });
+    /**
+     * Returns the gRPC client for the node the transaction has been created for. The body contains the account ID of
+     * that node, so sending it to any other node would fail with {@code INVALID_NODE_ACCOUNT}.
+     *
+     * @return the gRPC client
+     * @throws IllegalStateException if the node is no longer part of the network of the client
+     */
+    @NonNull
+    private GrpcClient getGrpcClientForNode() {
+        return client.getGrpcClient(context.nodeAccountId());
+    }
+
+    @Override
+    public int size() {
+        return encodedSize(true);
+    }
+
+    @Override
+    public int serializedSize() {
+        return encodedSize(false);
+    }
+
+    private int encodedSize(final boolean shortenPrefixes) {
+        final List<Map.Entry<PublicKey, byte[]>> signatures = List.copyOf(transactionSignatures.entrySet());
+        final int[] prefixLengths = prefixLengths(signatures, toPubKeyPrefixes(signatures), shortenPrefixes);
+        int signatureMapSize = 0;
+        for (int i = 0; i < prefixLengths.length; i++) {
+            final Map.Entry<PublicKey, byte[]> signature = signatures.get(i);
+            final int signatureField = signature.getKey().algorithm() == KeyAlgorithm.ECDSA
+                    ? SignaturePair.ECDSA_SECP256K1_FIELD_NUMBER
+                    : SignaturePair.ED25519_FIELD_NUMBER;
+            final int pairSize = bytesFieldSize(SignaturePair.PUBKEYPREFIX_FIELD_NUMBER, prefixLengths[i])
+                    + bytesFieldSize(signatureField, signature.getValue().length);
+            signatureMapSize += messageFieldSize(SignatureMap.SIGPAIR_FIELD_NUMBER, pairSize);
+        }
+        return bytesFieldSize(Transaction.BODYBYTES_FIELD_NUMBER, transactionBodyBytes.length)
+                + messageFieldSize(Transaction.SIGMAP_FIELD_NUMBER, signatureMapSize);
+    }
+
+    @NonNull
+    private static List<ByteString> toPubKeyPrefixes(@NonNull final List<Map.Entry<PublicKey, byte[]>> signatures) {
+        return signatures.stream()
+                .map(entry -> ProtobufUtil.toPubKeyPrefix(entry.getKey()))
+                .toList();
+    }
+
+    // full keys unless short prefixes are enabled, ECDSA keys are always sent in full so that hollow accounts can be
+    // completed
+    @NonNull
+    private int[] prefixLengths(@NonNull final List<Map.Entry<PublicKey, byte[]>> signatures,
+            @NonNull final List<ByteString> publicKeys, final boolean shortenPrefixes) {
+        final Set<ByteString> requiredKeys = requiredKeyPrefixes;
+        if (!shortenPrefixes || requiredKeys == null) {
+            return publicKeys.stream().mapToInt(ByteString::size).toArray();
+        }
+        final int[] lengths = ProtobufUtil.shortestUniquePrefixLengths(publicKeys, requiredKeys);
+        for (int i = 0; i < lengths.length; i++) {
+            if (signatures.get(i).getKey().algorithm() == KeyAlgorithm.ECDSA) {
+                lengths[i] = publicKeys.get(i).size();
+            }
+        }
+        return lengths;
+    }
+
+    @Override
+    public int bodySize() {
+        return transactionBodyBytes.length;
+    }
+
+    // empty bytes fields are not written
+    private static int bytesFieldSize(final int fieldNumber, final int length) {
+        return length == 0 ? 0 : messageFieldSize(fieldNumber, length);
+    }
+
+    private static int messageFieldSize(final int fieldNumber, final int length) {
+        return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(length)
+                + length;
+    }
+
+    @Override
+    public @NonNull PackedTransaction<T, R> withShortPublicKeyPrefixes(@NonNull final Set<PublicKey> requiredKeys) {
+        Objects.requireNonNull(requiredKeys, "requiredKeys must not be null");
+        requiredKeyPrefixes = requiredKeys.stream()
+                .map(ProtobufUtil::toPubKeyPrefix)
+                .collect(Collectors.toUnmodifiableSet());
+        return this;
+    }
+
+    @Override
+    public int publicKeyPrefixSavings() {
+        final List<Map.Entry<PublicKey, byte[]>> signatures = List.copyOf(transactionSignatures.entrySet());
+        final List<ByteString> publicKeys = toPubKeyPrefixes(signatures);
+        final int[] prefixLengths = prefixLengths(signatures, publicKeys, true);
+        int savings = 0;
+        for (int i = 0; i < prefixLengths.length; i++) {
+            savings += publicKeys.get(i).size() - prefixLengths[i];
+        }
+        return savings;
+    }
+
+    @Override
+    public @NonNull byte[] toBytes() {
+        return createProtobufTransaction(false).toByteArray();
+    }
+
+    @Override
+    public void writeTo(@NonNull final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        final Transaction transaction = createProtobufTransaction(false);
+        if (buffer.remaining() < transaction.getSerializedSize()) {
+            throw new BufferOverflowException();
+        }
+        try {
+            final CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            transaction.writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not write transaction", e);
+        }
+    }
+
+    // the body bytes are never modified, so they can be shared with the protobuf message
+    private Transaction createProtobufTransaction(final boolean shortenPrefixes) {
         return Transaction.newBuilder()
-                .setBodyBytes(transactionBody.toByteString())
-                .setSigMap(signatureBuilder.build())
+                .setBodyBytes(UnsafeByteOperations.unsafeWrap(transactionBodyBytes))
+                .setSigMap(createSignatureMap(shortenPrefixes))
                 .build();
     }
 
+    // the serialized form keeps the full public keys so that the signers are known when it is restored, transactions
+    // that are sent only carry the shortest prefixes that still identify the signers unambiguously if enabled
+    private SignatureMap createSignatureMap(final boolean shortenPrefixes) {
+        final List<Map.Entry<PublicKey, byte[]>> signatures = List.copyOf(transactionSignatures.entrySet());
+        final List<ByteString> publicKeys = toPubKeyPrefixes(signatures);
+        final int[] prefixLengths = prefixLengths(signatures, publicKeys, shortenPrefixes);
+        final SignatureMap.Builder signatureBuilder = SignatureMap.newBuilder();
+        for (int i = 0; i < prefixLengths.length; i++) {
+            final Map.Entry<PublicKey, byte[]> signature = signatures.get(i);
+            signatureBuilder.addSigPair(ProtobufUtil.toSignaturePairProtobuf(signature.getKey().algorithm(),
+                    publicKeys.get(i).substring(0, prefixLengths[i]), signature.getValue()));
+        }
+        return signatureBuilder.build();
+    }
+
     @Override
     public T unpack() {
         return transactionFactory.unpack(transactionBody);
@@ -1,11 +1,12 @@
 package org.hiero.sdk.simple.internal;
 
-import org.hiero.sdk.simple.ExchangeRate;
-import org.hiero.sdk.simple.Receipt;
-import org.hiero.sdk.simple.TransactionStatus;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
 import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
 
-public record DefaultReceipt(TransactionId transactionId, TransactionStatus status,
-                             ExchangeRate exchangeRate) implements Receipt {
+public final class DefaultReceipt extends AbstractReceipt {
 
+    public DefaultReceipt(@NonNull final TransactionId transactionId, @NonNull final TransactionReceipt protobuf) {
+        super(transactionId, protobuf);
+    }
 }
@@ -1,9 +1,12 @@
 package org.hiero.sdk.simple.internal;
 
-import java.time.Instant;
-import org.hiero.sdk.simple.Record;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
 
-public record DefaultRecord(DefaultReceipt receipt, Instant consensusTimestamp) implements
-        Record<DefaultReceipt> {
+public final class DefaultRecord extends AbstractRecord<DefaultReceipt> {
 
+    public DefaultRecord(@NonNull final TransactionId transactionId, @NonNull final TransactionRecord protobuf) {
+        super(transactionId, protobuf, DefaultReceipt::new);
+    }
 }
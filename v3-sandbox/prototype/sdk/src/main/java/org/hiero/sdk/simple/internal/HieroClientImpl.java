@@ -10,25 +10,29 @@ import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
 import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
 import com.hedera.hashgraph.sdk.proto.TransactionRecord;
 import io.grpc.MethodDescriptor;
-import java.time.Instant;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
-import org.hiero.sdk.simple.ExchangeRate;
 import org.hiero.sdk.simple.HieroClient;
 import org.hiero.sdk.simple.Receipt;
 import org.hiero.sdk.simple.Record;
-import org.hiero.sdk.simple.TransactionStatus;
 import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.grpc.GrpcCompression;
 import org.hiero.sdk.simple.internal.grpc.GrpcClientImpl;
-import org.hiero.sdk.simple.internal.grpc.GrpcMethodDescriptorFactory;
+import org.hiero.sdk.simple.internal.grpc.HieroMethodDescriptors;
+import org.hiero.sdk.simple.internal.network.AddressBookRefresher;
+import org.hiero.sdk.simple.internal.network.ConsensusNetwork;
 import org.hiero.sdk.simple.internal.util.ProtobufUtil;
 import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
 import org.hiero.sdk.simple.network.Network;
 import org.hiero.sdk.simple.network.TransactionId;
 import org.hiero.sdk.simple.network.settings.NetworkSettings;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public final class HieroClientImpl implements HieroClient {
 
@@ -38,11 +42,44 @@ public final class HieroClientImpl implements HieroClient {
 
     private final NetworkSettings networkSettings;
 
+    private final ConsensusNetwork consensusNetwork;
+
+    @Nullable
+    private final AddressBookRefresher addressBookRefresher;
+
+    private final GrpcCompression grpcCompression;
+
     public HieroClientImpl(@NonNull final Account operatorAccount, @NonNull final NetworkSettings networkSettings,
             @NonNull final Executor executor) {
+        this(operatorAccount, networkSettings, executor, GrpcCompression.NONE);
+    }
+
+    public HieroClientImpl(@NonNull final Account operatorAccount, @NonNull final NetworkSettings networkSettings,
+            @NonNull final Executor executor, @NonNull final GrpcCompression grpcCompression) {
+        this.grpcCompression = Objects.requireNonNull(grpcCompression, "grpcCompression must not be null");
         this.operatorAccount = Objects.requireNonNull(operatorAccount, "operatorAccount must not be null");
         this.networkSettings = Objects.requireNonNull(networkSettings, "networkSettings must not be null");
         this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        this.consensusNetwork = new ConsensusNetwork(networkSettings.getConsensusNodes(), executor);
+        this.addressBookRefresher = networkSettings.getMirrorNodeAddress()
+                .map(address -> new AddressBookRefresher(consensusNetwork, address,
+                        AddressBookRefresher.DEFAULT_REFRESH_INTERVAL, AddressBookRefresher.DEFAULT_REFRESH_TIMEOUT,
+                        executor))
+                .orElse(null);
+    }
+
+    /**
+     * Returns the network of consensus nodes used by this client. The background refresh of the address book is
+     * started on the first access.
+     *
+     * @return the consensus network
+     */
+    @NonNull
+    private ConsensusNetwork getConsensusNetwork() {
+        if (addressBookRefresher != null) {
+            addressBookRefresher.start();
+        }
+        return consensusNetwork;
     }
 
     @Override
@@ -65,12 +102,8 @@ public final class HieroClientImpl implements HieroClient {
         final Query query = Query.newBuilder()
                 .setTransactionGetReceipt(typesQuery)
                 .build();
-        final MethodDescriptor<Query, Response> methodDescriptor = GrpcMethodDescriptorFactory.getOrCreateMethodDescriptor(
-                "proto.CryptoService",
-                "getTxRecordByTxID",
-                com.hedera.hashgraph.sdk.proto.Query::getDefaultInstance,
-                Response::getDefaultInstance);
-        ;
+        final MethodDescriptor<Query, Response> methodDescriptor =
+                HieroMethodDescriptors.CryptoService.GET_TRANSACTION_RECEIPTS;
         return getGrpcClient().call(methodDescriptor, query).handle((response, throwable) -> {
             if (throwable != null) {
                 throw new RuntimeException("Transaction execution failed", throwable);
@@ -101,28 +134,40 @@ public final class HieroClientImpl implements HieroClient {
 
     @Override
     public CompletableFuture<Receipt> queryTransactionReceipt(final @NonNull TransactionId transactionId) {
-        return queryTransactionReceipt(transactionId, (id, protoReceipt) -> {
-            final TransactionStatus status = ProtobufUtil.fromProtobuf(protoReceipt.getStatus());
-            final ExchangeRate exchangeRate = ProtobufUtil.fromProtobuf(protoReceipt.getExchangeRate());
-            return new DefaultReceipt(id, status, exchangeRate);
-        });
+        return queryTransactionReceipt(transactionId, DefaultReceipt::new);
     }
 
     @Override
     public @NonNull CompletableFuture<Record> queryTransactionRecord(@NonNull TransactionId transactionId) {
-        return queryTransactionRecord(transactionId, (id, protoRecord) -> {
-            final TransactionReceipt protoReceipt = protoRecord.getReceipt();
-            final TransactionStatus status = ProtobufUtil.fromProtobuf(protoReceipt.getStatus());
-            final ExchangeRate exchangeRate = ProtobufUtil.fromProtobuf(protoReceipt.getExchangeRate());
-            final DefaultReceipt receipt = new DefaultReceipt(id, status, exchangeRate);
-            final Instant consensusTimestamp = ProtobufUtil.fromProtobuf(protoRecord.getConsensusTimestamp());
-            return new DefaultRecord(receipt, consensusTimestamp);
-        });
+        return queryTransactionRecord(transactionId, DefaultRecord::new);
     }
 
     @Override
     public @NonNull GrpcClient getGrpcClient() {
-        return new GrpcClientImpl(networkSettings.getConsensusNodes().iterator().next(), executor);
+        return getGrpcClient(getConsensusNetwork().selectNode());
+    }
+
+    @Override
+    public @NonNull GrpcClient getGrpcClient(@NonNull final ConsensusNode node) {
+        return new GrpcClientImpl(getConsensusNetwork().getChannel(node), grpcCompression);
+    }
+
+    @Override
+    public @NonNull GrpcClient getGrpcClient(@NonNull final AccountId nodeAccountId) {
+        return getConsensusNetwork().findChannel(nodeAccountId)
+                .<GrpcClient>map(channel -> new GrpcClientImpl(channel, grpcCompression))
+                .orElseThrow(() -> new IllegalStateException(
+                        "Node " + nodeAccountId + " is no longer part of the network"));
+    }
+
+    @Override
+    public @NonNull Set<ConsensusNode> getConsensusNodes() {
+        return getConsensusNetwork().getNodes();
+    }
+
+    @Override
+    public @NonNull GrpcCompression getGrpcCompression() {
+        return grpcCompression;
     }
 
     @NonNull
@@ -139,4 +184,12 @@ public final class HieroClientImpl implements HieroClient {
     public @NonNull Network getNetwork() {
         return new Network(networkSettings.getNetworkIdentifier(), networkSettings.getNetworkName().orElse(null), networkSettings.getId());
     }
+
+    @Override
+    public void close() {
+        if (addressBookRefresher != null) {
+            addressBookRefresher.close();
+        }
+        consensusNetwork.close();
+    }
 }
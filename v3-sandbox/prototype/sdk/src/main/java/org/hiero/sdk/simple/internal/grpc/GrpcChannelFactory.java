@@ -1,7 +1,11 @@
 package org.hiero.sdk.simple.internal.grpc;
 
-import io.grpc.Channel;
+import io.grpc.ChannelCredentials;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.TlsChannelCredentials;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -10,14 +14,55 @@ import org.jspecify.annotations.NonNull;
 
 public final class GrpcChannelFactory {
 
-    public static Channel createChannel(@NonNull final ConsensusNode node, @NonNull Executor executor) {
+    private static final String TLS_PORT_SUFFIX = ":443";
+
+    /**
+     * Creates a channel to a consensus node. Nodes on the {@link ConsensusNode#TLS_PORT} are connected with TLS and
+     * only accept the certificate whose hash is published in the address book, all other nodes in plaintext.
+     *
+     * @param node     the consensus node
+     * @param executor the executor used for callbacks
+     * @return the channel
+     */
+    public static ManagedChannel createChannel(@NonNull final ConsensusNode node, @NonNull Executor executor) {
         Objects.requireNonNull(node, "node must not be null");
-        final ManagedChannelBuilder<?> channelBuilder = ManagedChannelBuilder.forTarget(node.getAddress())
-                .usePlaintext();
+        final ChannelCredentials credentials;
+        if (!node.usesTls()) {
+            credentials = InsecureChannelCredentials.create();
+        } else if (node.certificateHash() != null) {
+            credentials = TlsChannelCredentials.newBuilder()
+                    .trustManager(new NodeCertificateTrustManager(node.certificateHash()))
+                    .build();
+        } else {
+            credentials = TlsChannelCredentials.create();
+        }
+        final ManagedChannelBuilder<?> channelBuilder = Grpc.newChannelBuilder(node.getAddress(), credentials);
         return channelBuilder.keepAliveTimeout(10L, TimeUnit.SECONDS)
                 .keepAliveWithoutCalls(true)
                 .disableRetry()
                 .executor(executor)
                 .build();
     }
+
+    /**
+     * Creates a channel to a mirror node. Addresses on port 443 are connected with TLS, all other addresses in
+     * plaintext.
+     *
+     * @param address  the mirror node address in the form {@code host:port}
+     * @param executor the executor used for callbacks
+     * @return the channel
+     */
+    public static ManagedChannel createMirrorChannel(@NonNull final String address, @NonNull Executor executor) {
+        Objects.requireNonNull(address, "address must not be null");
+        final ManagedChannelBuilder<?> channelBuilder = ManagedChannelBuilder.forTarget(address);
+        if (address.endsWith(TLS_PORT_SUFFIX)) {
+            channelBuilder.useTransportSecurity();
+        } else {
+            channelBuilder.usePlaintext();
+        }
+        return channelBuilder.keepAliveTimeout(10L, TimeUnit.SECONDS)
+                .disableRetry()
+                .executor(executor)
+                .build();
+    }
 }
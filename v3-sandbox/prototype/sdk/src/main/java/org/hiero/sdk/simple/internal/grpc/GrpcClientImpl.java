@@ -10,26 +10,45 @@ import io.grpc.MethodDescriptor;
 import io.grpc.Status;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import org.hiero.sdk.simple.grpc.GrpcClient;
-import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.grpc.GrpcCompression;
 import org.jspecify.annotations.NonNull;
 
 public final class GrpcClientImpl implements GrpcClient {
 
+    private static final CallOptions GZIP = CallOptions.DEFAULT.withCompression(GrpcCompression.GZIP);
+
     private final Channel channel;
 
-    public GrpcClientImpl(@NonNull final ConsensusNode node, @NonNull final Executor executor) {
-        this.channel = GrpcChannelFactory.createChannel(node, executor);
+    private final GrpcCompression compression;
+
+    public GrpcClientImpl(@NonNull final Channel channel) {
+        this(channel, GrpcCompression.NONE);
+    }
+
+    public GrpcClientImpl(@NonNull final Channel channel, @NonNull final GrpcCompression compression) {
+        this.channel = Objects.requireNonNull(channel, "channel must not be null");
+        this.compression = Objects.requireNonNull(compression, "compression must not be null");
     }
 
     @Override
     public <I extends MessageLite, O extends MessageLite> CompletableFuture<O> call(
             MethodDescriptor<I, O> methodDescriptor, I input) {
+        return call(methodDescriptor, input, compression);
+    }
+
+    @Override
+    public <I extends MessageLite, O extends MessageLite> CompletableFuture<O> call(
+            MethodDescriptor<I, O> methodDescriptor, I input, @NonNull GrpcCompression compression) {
         Objects.requireNonNull(methodDescriptor, "methodDescriptor must not be null");
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(compression, "compression must not be null");
         final CompletableFuture<O> future = new CompletableFuture<>();
-        final ClientCall<I, O> call = channel.newCall(methodDescriptor,
-                CallOptions.DEFAULT);
+        // the serialized size is memoized by the message and reused by the marshaller
+        final CallOptions callOptions = compression.compresses(input.getSerializedSize())
+                ? GZIP
+                : CallOptions.DEFAULT;
+        final ClientCall<I, O> call = channel.newCall(methodDescriptor, callOptions);
         call.start(new Listener<>() {
 
             @Override
@@ -4,54 +4,84 @@ import static io.grpc.MethodDescriptor.generateFullMethodName;
 
 import com.google.protobuf.MessageLite;
 import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
 import io.grpc.protobuf.lite.ProtoLiteUtils;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
+import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.jspecify.annotations.NonNull;
 
+/**
+ * Creates the method descriptors of the gRPC calls. The descriptors of all services of the network are constants of
+ * {@link HieroMethodDescriptors}, which is generated from the service definitions of the protobuf module and should be
+ * used instead of looking up a descriptor by its name.
+ */
 public class GrpcMethodDescriptorFactory {
 
     public static final Map<String, MethodDescriptor<?, ?>> METHOD_DESCRIPTORS = new ConcurrentHashMap<>();
 
-    private static final Lock LOCK = new java.util.concurrent.locks.ReentrantLock();
+    private static final boolean POOLED_MARSHALLERS = Boolean.getBoolean(GrpcClient.POOLED_MARSHALLERS_PROPERTY);
 
-    private static <ReqT, RespT> Optional<MethodDescriptor<ReqT, RespT>> fromCache(String identifier) {
-        if (METHOD_DESCRIPTORS.containsKey(identifier)) {
-            final MethodDescriptor<ReqT, RespT> cachedValue = (MethodDescriptor<ReqT, RespT>) METHOD_DESCRIPTORS.get(
-                    identifier);
-            return Optional.ofNullable(cachedValue);
-        }
-        return Optional.empty();
+    public static <Req extends MessageLite, Resp extends MessageLite> MethodDescriptor<Req, Resp> getOrCreateMethodDescriptor(
+            String serviceName,
+            String methodName, Supplier<Req> defaultRequestSupplier, Supplier<Resp> defaultResponseSupplier) {
+        return getOrCreateMethodDescriptor(serviceName, methodName, MethodType.UNARY, defaultRequestSupplier,
+                defaultResponseSupplier);
     }
 
     public static <Req extends MessageLite, Resp extends MessageLite> MethodDescriptor<Req, Resp> getOrCreateMethodDescriptor(
             String serviceName,
-            String methodName, Supplier<Req> defaultRequestSupplier, Supplier<Resp> defaultResponseSupplier) {
-        final String identifier = serviceName + "." + methodName;
-        final Optional<MethodDescriptor<Req, Resp>> fromCache = fromCache(identifier);
-        if (fromCache.isPresent()) {
-            return fromCache.get();
+            String methodName, MethodType methodType, Supplier<Req> defaultRequestSupplier,
+            Supplier<Resp> defaultResponseSupplier) {
+        final String identifier = generateFullMethodName(serviceName, methodName);
+        final MethodDescriptor<?, ?> cached = METHOD_DESCRIPTORS.get(identifier);
+        if (cached != null) {
+            return (MethodDescriptor<Req, Resp>) cached;
         }
-        LOCK.lock();
-        try {
-            final Optional<MethodDescriptor<Req, Resp>> fromCacheCheck2 = fromCache(identifier);
-            if (fromCacheCheck2.isPresent()) {
-                return fromCacheCheck2.get();
-            }
-            final MethodDescriptor<Req, Resp> methodDescriptor =
-                    MethodDescriptor.<Req, Resp>newBuilder()
-                            .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
-                            .setFullMethodName(generateFullMethodName(serviceName, methodName))
-                            .setSampledToLocalTracing(true)
-                            .setRequestMarshaller(ProtoLiteUtils.marshaller(defaultRequestSupplier.get()))
-                            .setResponseMarshaller(ProtoLiteUtils.marshaller(defaultResponseSupplier.get()))
-                            .build();
-            METHOD_DESCRIPTORS.put(identifier, methodDescriptor);
-            return methodDescriptor;
-        } finally {
-            LOCK.unlock();
+        final MethodDescriptor<Req, Resp> methodDescriptor = createMethodDescriptor(serviceName, methodName,
+                methodType, defaultRequestSupplier.get(), defaultResponseSupplier.get());
+        final MethodDescriptor<?, ?> concurrent = METHOD_DESCRIPTORS.putIfAbsent(identifier, methodDescriptor);
+        return concurrent == null ? methodDescriptor : (MethodDescriptor<Req, Resp>) concurrent;
+    }
+
+    /**
+     * Creates the descriptor of a method. Used by the generated {@link HieroMethodDescriptors}.
+     *
+     * @param serviceName     the full name of the service
+     * @param methodName      the name of the method
+     * @param methodType      the type of the method
+     * @param defaultRequest  the default instance of the request message
+     * @param defaultResponse the default instance of the response message
+     * @param <Req>           the type of the request message
+     * @param <Resp>          the type of the response message
+     * @return the descriptor
+     */
+    @NonNull
+    static <Req extends MessageLite, Resp extends MessageLite> MethodDescriptor<Req, Resp> createMethodDescriptor(
+            @NonNull final String serviceName, @NonNull final String methodName,
+            @NonNull final MethodType methodType, @NonNull final Req defaultRequest,
+            @NonNull final Resp defaultResponse) {
+        Objects.requireNonNull(serviceName, "serviceName must not be null");
+        Objects.requireNonNull(methodName, "methodName must not be null");
+        Objects.requireNonNull(methodType, "methodType must not be null");
+        Objects.requireNonNull(defaultRequest, "defaultRequest must not be null");
+        Objects.requireNonNull(defaultResponse, "defaultResponse must not be null");
+        return MethodDescriptor.<Req, Resp>newBuilder()
+                .setType(methodType)
+                .setFullMethodName(generateFullMethodName(serviceName, methodName))
+                .setSampledToLocalTracing(true)
+                .setRequestMarshaller(marshaller(defaultRequest))
+                .setResponseMarshaller(marshaller(defaultResponse))
+                .build();
+    }
+
+    private static <T extends MessageLite> Marshaller<T> marshaller(T defaultInstance) {
+        if (POOLED_MARSHALLERS) {
+            return new PooledProtoMarshaller<>(defaultInstance);
         }
+        return ProtoLiteUtils.marshaller(defaultInstance);
     }
 }
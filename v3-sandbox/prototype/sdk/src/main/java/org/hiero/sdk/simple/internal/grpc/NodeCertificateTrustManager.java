@@ -0,0 +1,81 @@
+package org.hiero.sdk.simple.internal.grpc;
+
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedTrustManager;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Trusts exactly the TLS certificate of a consensus node whose hash is published in the address book. Consensus nodes
+ * use self-signed certificates that are not issued for their host names, so neither the issuer nor the host name is
+ * checked.
+ */
+final class NodeCertificateTrustManager extends X509ExtendedTrustManager {
+
+    private final String certificateHash;
+
+    NodeCertificateTrustManager(@NonNull final String certificateHash) {
+        Objects.requireNonNull(certificateHash, "certificateHash must not be null");
+        this.certificateHash = certificateHash.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void checkServerTrusted(final X509Certificate[] chain, final String authType) throws CertificateException {
+        if (chain == null || chain.length == 0) {
+            throw new CertificateException("Node did not present a certificate");
+        }
+        final String hash;
+        try {
+            hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-384").digest(chain[0].getEncoded()));
+        } catch (NoSuchAlgorithmException | CertificateEncodingException e) {
+            throw new CertificateException("Can not hash the certificate of the node", e);
+        }
+        if (!MessageDigest.isEqual(hash.getBytes(StandardCharsets.US_ASCII),
+                certificateHash.getBytes(StandardCharsets.US_ASCII))) {
+            throw new CertificateException("Certificate of the node does not match the hash of the address book");
+        }
+    }
+
+    @Override
+    public void checkServerTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
+            throws CertificateException {
+        checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine)
+            throws CertificateException {
+        checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(final X509Certificate[] chain, final String authType) throws CertificateException {
+        throw new CertificateException("Client certificates are not supported");
+    }
+
+    @Override
+    public void checkClientTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
+            throws CertificateException {
+        checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine)
+            throws CertificateException {
+        checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+    }
+}
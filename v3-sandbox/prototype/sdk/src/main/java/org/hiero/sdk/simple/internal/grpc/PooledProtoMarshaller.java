@@ -0,0 +1,190 @@
+package org.hiero.sdk.simple.internal.grpc;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.Status;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Marshaller for protobuf messages that avoids the per message allocations of
+ * {@link io.grpc.protobuf.lite.ProtoLiteUtils#marshaller(MessageLite)}. A message is serialized into a buffer that is
+ * reused by the calling thread and handed to the transport with a single write, instead of going through a
+ * {@link CodedOutputStream} that allocates its own buffer for every message. Responses are read into the same reused
+ * buffer and parsed from there. Parsing them in place from the {@link io.grpc.HasByteBuffer} views of the transport
+ * did not reduce the allocations for the small responses of the network and was slower, so it is not done.
+ *
+ * @param <T> the type of the message
+ */
+final class PooledProtoMarshaller<T extends MessageLite> implements PrototypeMarshaller<T> {
+
+    // larger messages are not pooled, so that a thread does not keep a large buffer forever
+    private static final int MAX_POOLED_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[4096]);
+
+    private final T defaultInstance;
+
+    private final Parser<T> parser;
+
+    PooledProtoMarshaller(@NonNull final T defaultInstance) {
+        this.defaultInstance = Objects.requireNonNull(defaultInstance, "defaultInstance must not be null");
+        this.parser = (Parser<T>) defaultInstance.getParserForType();
+    }
+
+    @Override
+    public Class<T> getMessageClass() {
+        return (Class<T>) defaultInstance.getClass();
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return defaultInstance;
+    }
+
+    @Override
+    public InputStream stream(@NonNull final T value) {
+        return new MessageStream(value, parser);
+    }
+
+    @Override
+    public T parse(@NonNull final InputStream stream) {
+        // the in-process transport hands over the stream that has been created by this marshaller
+        if (stream instanceof PooledProtoMarshaller.MessageStream messageStream
+                && messageStream.parser == parser) {
+            final MessageLite message = messageStream.message;
+            if (message != null) {
+                return (T) message;
+            }
+        }
+        try {
+            if (stream instanceof KnownLength) {
+                return parseKnownLength(stream, stream.available());
+            }
+            return parseFrom(CodedInputStream.newInstance(stream));
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        }
+    }
+
+    @NonNull
+    private T parseKnownLength(@NonNull final InputStream stream, final int size) throws IOException {
+        final byte[] buffer = size <= MAX_POOLED_SIZE ? buffer(size) : new byte[size];
+        int read = 0;
+        while (read < size) {
+            final int count = stream.read(buffer, read, size - read);
+            if (count == -1) {
+                break;
+            }
+            read += count;
+        }
+        if (read != size) {
+            throw new IOException("Wrong size: " + size + " != " + read);
+        }
+        return parseFrom(CodedInputStream.newInstance(buffer, 0, size));
+    }
+
+    @NonNull
+    private T parseFrom(@NonNull final CodedInputStream input) throws InvalidProtocolBufferException {
+        input.setSizeLimit(Integer.MAX_VALUE);
+        final T message = parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+        input.checkLastTagWas(0);
+        return message;
+    }
+
+    @NonNull
+    private static byte[] buffer(final int size) {
+        byte[] buffer = BUFFERS.get();
+        if (buffer.length < size) {
+            buffer = new byte[Math.max(size, Math.min(MAX_POOLED_SIZE, buffer.length * 2))];
+            BUFFERS.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Stream of a message that is serialized when the transport drains it. Reading the stream byte by byte is only
+     * supported as a fallback and serializes the message into a new array.
+     */
+    private static final class MessageStream extends InputStream implements Drainable, KnownLength {
+
+        private final Parser<?> parser;
+
+        @Nullable
+        private MessageLite message;
+
+        @Nullable
+        private ByteArrayInputStream partial;
+
+        private MessageStream(@NonNull final MessageLite message, @NonNull final Parser<?> parser) {
+            this.message = message;
+            this.parser = parser;
+        }
+
+        @Override
+        public int drainTo(@NonNull final OutputStream target) throws IOException {
+            final int written;
+            if (message != null) {
+                written = message.getSerializedSize();
+                final byte[] buffer = written <= MAX_POOLED_SIZE ? buffer(written) : new byte[written];
+                final CodedOutputStream output = CodedOutputStream.newInstance(buffer, 0, written);
+                message.writeTo(output);
+                output.checkNoSpaceLeft();
+                target.write(buffer, 0, written);
+                message = null;
+            } else if (partial != null) {
+                written = (int) partial.transferTo(target);
+                partial = null;
+            } else {
+                written = 0;
+            }
+            return written;
+        }
+
+        @Override
+        public int read() {
+            final ByteArrayInputStream stream = partial();
+            return stream == null ? -1 : stream.read();
+        }
+
+        @Override
+        public int read(@NonNull final byte[] b, final int off, final int len) {
+            final ByteArrayInputStream stream = partial();
+            if (stream == null) {
+                return -1;
+            }
+            return stream.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            if (message != null) {
+                return message.getSerializedSize();
+            } else if (partial != null) {
+                return partial.available();
+            }
+            return 0;
+        }
+
+        @Nullable
+        private ByteArrayInputStream partial() {
+            if (message != null) {
+                partial = new ByteArrayInputStream(message.toByteArray());
+                message = null;
+            }
+            return partial;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.hiero.sdk.simple.internal.network;
+
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.NodeAddress;
+import com.hedera.hashgraph.sdk.proto.ServiceEndpoint;
+import com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ClientCall.Listener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hiero.sdk.simple.internal.grpc.GrpcChannelFactory;
+import org.hiero.sdk.simple.internal.grpc.HieroMethodDescriptors;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keeps the node set of a {@link ConsensusNetwork} in sync with the address book of the network. The address book is
+ * streamed from the {@code NetworkService.getNodes} endpoint of a mirror node. Once a stream completed, the collected
+ * nodes replace the node set of the network atomically. Every stream has a deadline, so a stalled mirror node only
+ * delays the refresh until the deadline is exceeded. Nodes are connected on the plaintext port if they advertise it and
+ * on the TLS port otherwise.
+ */
+public final class AddressBookRefresher implements AutoCloseable {
+
+    /**
+     * The default interval between two address book refreshes.
+     */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(10);
+
+    /**
+     * The default deadline of a single address book stream.
+     */
+    public static final Duration DEFAULT_REFRESH_TIMEOUT = Duration.ofMinutes(1);
+
+    private final static System.Logger logger = System.getLogger(AddressBookRefresher.class.getName());
+
+    private static final FileID ADDRESS_BOOK_FILE_ID = FileID.newBuilder().setFileNum(102).build();
+
+    private final ConsensusNetwork network;
+
+    private final ManagedChannel mirrorChannel;
+
+    private final Duration refreshInterval;
+
+    private final Duration refreshTimeout;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile boolean closed;
+
+    public AddressBookRefresher(@NonNull final ConsensusNetwork network, @NonNull final String mirrorNodeAddress,
+            @NonNull final Duration refreshInterval, @NonNull final Duration refreshTimeout,
+            @NonNull final Executor executor) {
+        this.network = Objects.requireNonNull(network, "network must not be null");
+        Objects.requireNonNull(mirrorNodeAddress, "mirrorNodeAddress must not be null");
+        this.refreshInterval = Objects.requireNonNull(refreshInterval, "refreshInterval must not be null");
+        this.refreshTimeout = Objects.requireNonNull(refreshTimeout, "refreshTimeout must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("refreshInterval must be positive");
+        }
+        if (refreshTimeout.isNegative() || refreshTimeout.isZero()) {
+            throw new IllegalArgumentException("refreshTimeout must be positive");
+        }
+        this.mirrorChannel = GrpcChannelFactory.createMirrorChannel(mirrorNodeAddress, executor);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hiero-address-book-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the periodic refresh. The first refresh is executed immediately. Calling this method more than once has
+     * no effect.
+     */
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    refresh().join();
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Address book refresh failed", e);
+                }
+            }, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Streams the current address book from the mirror node and updates the network once the stream completed. The
+     * stream is cancelled if it does not complete within the refresh timeout.
+     *
+     * @return a future that completes with the new node set
+     */
+    @NonNull
+    public CompletableFuture<Set<ConsensusNode>> refresh() {
+        final MethodDescriptor<AddressBookQuery, NodeAddress> methodDescriptor =
+                HieroMethodDescriptors.MirrorNetworkService.GET_NODES;
+        final AddressBookQuery query = AddressBookQuery.newBuilder()
+                .setFileId(ADDRESS_BOOK_FILE_ID)
+                .build();
+        final CompletableFuture<Set<ConsensusNode>> future = new CompletableFuture<>();
+        final Set<ConsensusNode> nodes = new HashSet<>();
+        final ClientCall<AddressBookQuery, NodeAddress> call = mirrorChannel.newCall(methodDescriptor,
+                CallOptions.DEFAULT.withDeadlineAfter(refreshTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        call.start(new Listener<>() {
+
+            @Override
+            public void onMessage(NodeAddress nodeAddress) {
+                toConsensusNode(nodeAddress).ifPresent(nodes::add);
+                call.request(1);
+            }
+
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+                if (!status.isOk()) {
+                    future.completeExceptionally(
+                            new RuntimeException("Address book query failed with status: " + status,
+                                    status.asException()));
+                } else if (closed) {
+                    future.completeExceptionally(new IllegalStateException("Address book refresher is closed"));
+                } else if (nodes.isEmpty()) {
+                    future.completeExceptionally(new IllegalStateException("Address book query returned no nodes"));
+                } else {
+                    network.update(nodes);
+                    future.complete(Set.copyOf(nodes));
+                }
+            }
+        }, new Metadata());
+        call.sendMessage(query);
+        call.halfClose();
+        call.request(1);
+        return future;
+    }
+
+    /**
+     * Converts a node of the address book to the consensus node that is used by the client. A node can advertise
+     * several service endpoints but a client uses one channel per node, so one endpoint is picked in this order:
+     * plaintext endpoints before TLS endpoints (nodes that only advertise the TLS port are connected by TLS), then
+     * endpoints with an IPv4 address before endpoints with a domain name (no name resolution is needed), then the order
+     * of the address book. Endpoints with neither an address nor a domain name are ignored.
+     *
+     * @param nodeAddress the node of the address book
+     * @return the consensus node, or empty if the node has no account ID or no usable endpoint
+     */
+    @NonNull
+    private static Optional<ConsensusNode> toConsensusNode(@NonNull final NodeAddress nodeAddress) {
+        if (!nodeAddress.hasNodeAccountId()) {
+            return Optional.empty();
+        }
+        final String account = nodeAddress.getNodeAccountId().getShardNum() + "."
+                + nodeAddress.getNodeAccountId().getRealmNum() + "."
+                + nodeAddress.getNodeAccountId().getAccountNum();
+        final String certificateHash = nodeAddress.getNodeCertHash().isEmpty()
+                ? null
+                : nodeAddress.getNodeCertHash().toString(StandardCharsets.US_ASCII);
+        // the sort is stable, so endpoints of the same kind keep the order of the address book
+        return nodeAddress.getServiceEndpointList().stream()
+                .sorted(Comparator.comparing(AddressBookRefresher::isTlsEndpoint)
+                        .thenComparing(endpoint -> endpoint.getIpAddressV4().size() != 4))
+                .flatMap(endpoint -> toHost(endpoint).stream()
+                        .map(host -> new ConsensusNode(host, Integer.toString(endpoint.getPort()), account,
+                                isTlsEndpoint(endpoint) ? certificateHash : null)))
+                .findFirst();
+    }
+
+    private static boolean isTlsEndpoint(@NonNull final ServiceEndpoint endpoint) {
+        return Integer.toString(endpoint.getPort()).equals(ConsensusNode.TLS_PORT);
+    }
+
+    @NonNull
+    private static Optional<String> toHost(@NonNull final ServiceEndpoint endpoint) {
+        final byte[] ip = endpoint.getIpAddressV4().toByteArray();
+        if (ip.length == 4) {
+            return Optional.of((ip[0] & 0xFF) + "." + (ip[1] & 0xFF) + "." + (ip[2] & 0xFF) + "." + (ip[3] & 0xFF));
+        }
+        if (!endpoint.getDomainName().isBlank()) {
+            return Optional.of(endpoint.getDomainName());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        // cancels a running stream
+        mirrorChannel.shutdownNow();
+    }
+}
@@ -0,0 +1,203 @@
+package org.hiero.sdk.simple.internal.network;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import java.lang.System.Logger.Level;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hiero.sdk.simple.internal.grpc.GrpcChannelFactory;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Holds the consensus nodes that are currently used by a client together with one gRPC channel per node address.
+ * <p>
+ * The node set can be replaced at runtime (for example by an {@link AddressBookRefresher}). A replacement is atomic:
+ * readers always see a consistent snapshot of nodes and channels. Channels of nodes that are no longer part of the
+ * network are shut down {@link #SHUTDOWN_DELAY} after the swap, so that calls of callers that picked the channel from
+ * the old snapshot can still complete. Channels of new nodes are created and asked to connect eagerly. Channels are
+ * keyed by the node address so that a node whose account ID changed (see HIP-1299) keeps its connection. Once the
+ * network is closed all updates are ignored, so no channel is created after the close, and the channels of removed
+ * nodes that are still waiting for their shutdown are shut down together with all other channels.
+ */
+public final class ConsensusNetwork implements AutoCloseable {
+
+    /**
+     * The time the channel of a removed node stays open after the swap. Matches the default timeout of a client, see
+     * {@link org.hiero.sdk.simple.HieroClient#getDefaultTimeoutInMs()}.
+     */
+    public static final Duration SHUTDOWN_DELAY = Duration.ofSeconds(30);
+
+    private final static System.Logger logger = System.getLogger(ConsensusNetwork.class.getName());
+
+    private final Executor executor;
+
+    private final AtomicReference<Snapshot> snapshot;
+
+    // guarded by this
+    private boolean closed;
+
+    // guarded by this
+    private final Set<ManagedChannel> retiredChannels = new HashSet<>();
+
+    public ConsensusNetwork(@NonNull final Set<ConsensusNode> nodes, @NonNull final Executor executor) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("nodes must not be empty");
+        }
+        this.snapshot = new AtomicReference<>(createSnapshot(nodes, Map.of(), false));
+    }
+
+    /**
+     * Returns the consensus nodes that are currently part of the network.
+     *
+     * @return the current consensus nodes
+     */
+    @NonNull
+    public Set<ConsensusNode> getNodes() {
+        return snapshot.get().nodes();
+    }
+
+    /**
+     * Selects a node for a new request.
+     *
+     * @return a node of the current network
+     */
+    @NonNull
+    public ConsensusNode selectNode() {
+        final List<ConsensusNode> nodes = snapshot.get().nodeList();
+        return nodes.get(ThreadLocalRandom.current().nextInt(nodes.size()));
+    }
+
+    /**
+     * Returns the channel for the given node.
+     *
+     * @param node the node
+     * @return the channel for the node
+     * @throws IllegalArgumentException if the node is not part of the current network
+     */
+    @NonNull
+    public ManagedChannel getChannel(@NonNull final ConsensusNode node) {
+        Objects.requireNonNull(node, "node must not be null");
+        final ManagedChannel channel = snapshot.get().channels().get(node.getAddress());
+        if (channel == null) {
+            throw new IllegalArgumentException("Node '" + node + "' is not part of the current network");
+        }
+        return channel;
+    }
+
+    /**
+     * Returns the channel for the node with the given account ID. The node and its channel are taken from the same
+     * snapshot of the network.
+     *
+     * @param nodeAccountId the account ID of the node
+     * @return the channel for the node, or empty if no node with the account ID is part of the current network
+     */
+    @NonNull
+    public Optional<ManagedChannel> findChannel(@NonNull final AccountId nodeAccountId) {
+        Objects.requireNonNull(nodeAccountId, "nodeAccountId must not be null");
+        final Snapshot current = snapshot.get();
+        return current.nodeList().stream()
+                .filter(node -> nodeAccountId.equals(node.getAccountId()))
+                .findFirst()
+                .map(node -> current.channels().get(node.getAddress()));
+    }
+
+    /**
+     * Replaces the node set of the network. Empty node sets and updates of a closed network are ignored since a
+     * network without nodes can not be used.
+     *
+     * @param nodes the new node set
+     */
+    public void update(@NonNull final Set<ConsensusNode> nodes) {
+        Objects.requireNonNull(nodes, "nodes must not be null");
+        if (nodes.isEmpty()) {
+            logger.log(Level.WARNING, "Ignoring update with empty node set");
+            return;
+        }
+        final Snapshot oldSnapshot;
+        final Snapshot newSnapshot;
+        final Set<ManagedChannel> removedChannels = new HashSet<>();
+        synchronized (this) {
+            if (closed) {
+                logger.log(Level.DEBUG, "Ignoring update of closed network");
+                return;
+            }
+            oldSnapshot = snapshot.get();
+            if (oldSnapshot.nodes().equals(nodes)) {
+                return;
+            }
+            newSnapshot = createSnapshot(nodes, oldSnapshot.channels(), true);
+            snapshot.set(newSnapshot);
+            oldSnapshot.channels().forEach((address, channel) -> {
+                if (newSnapshot.channels().get(address) != channel) {
+                    logger.log(Level.DEBUG, "Closing channel to removed node {0} in {1}", address, SHUTDOWN_DELAY);
+                    removedChannels.add(channel);
+                }
+            });
+            retiredChannels.addAll(removedChannels);
+        }
+        if (!removedChannels.isEmpty()) {
+            CompletableFuture.delayedExecutor(SHUTDOWN_DELAY.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> shutdownRetiredChannels(removedChannels));
+        }
+        logger.log(Level.INFO, "Updated consensus network to {0} nodes", nodes.size());
+    }
+
+    @NonNull
+    private Snapshot createSnapshot(@NonNull final Set<ConsensusNode> nodes,
+            @NonNull final Map<String, ManagedChannel> existingChannels, final boolean warmUp) {
+        final Map<String, ManagedChannel> channels = new HashMap<>();
+        nodes.forEach(node -> channels.computeIfAbsent(node.getAddress(), address -> {
+            final ManagedChannel existing = existingChannels.get(address);
+            if (existing != null) {
+                return existing;
+            }
+            final ManagedChannel channel = GrpcChannelFactory.createChannel(node, executor);
+            if (warmUp) {
+                // connect eagerly so that the first call to a new node does not pay for the handshake
+                final ConnectivityState state = channel.getState(true);
+                logger.log(Level.DEBUG, "Created channel to node {0} in state {1}", address, state);
+            }
+            return channel;
+        }));
+        return new Snapshot(Set.copyOf(nodes), List.copyOf(nodes), Map.copyOf(channels));
+    }
+
+    private void shutdownRetiredChannels(@NonNull final Set<ManagedChannel> channels) {
+        synchronized (this) {
+            retiredChannels.removeAll(channels);
+        }
+        // a graceful shutdown: calls that are still running complete, new calls are rejected
+        channels.forEach(ManagedChannel::shutdown);
+    }
+
+    @Override
+    public void close() {
+        final Set<ManagedChannel> channels;
+        synchronized (this) {
+            closed = true;
+            channels = Set.copyOf(retiredChannels);
+            retiredChannels.clear();
+        }
+        snapshot.get().channels().values().forEach(ManagedChannel::shutdown);
+        channels.forEach(ManagedChannel::shutdown);
+    }
+
+    private record Snapshot(@NonNull Set<ConsensusNode> nodes, @NonNull List<ConsensusNode> nodeList,
+                            @NonNull Map<String, ManagedChannel> channels) {
+    }
+}
@@ -0,0 +1,99 @@
+package org.hiero.sdk.simple.internal.network.key;
+
+import com.google.auto.service.AutoService;
+import java.util.Objects;
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.keys.spi.CryptoBackend;
+import org.hiero.sdk.simple.network.keys.spi.DigestAlgorithm;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The default {@link CryptoBackend} that is based on the lightweight API of BouncyCastle.
+ */
+@AutoService(CryptoBackend.class)
+public final class BouncyCastleCryptoBackend implements CryptoBackend {
+
+    /**
+     * The name of the backend.
+     */
+    public static final String NAME = "bouncycastle";
+
+    @Override
+    public @NonNull String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(@NonNull final KeyAlgorithm algorithm) {
+        return true;
+    }
+
+    @Override
+    public @NonNull PrivateKey generatePrivateKey(@NonNull final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return switch (algorithm) {
+            case ED25519 -> KeyUtilitiesED25519.createPrivateKey();
+            case ECDSA -> KeyUtilitiesECDSA.createPrivateKey();
+        };
+    }
+
+    @Override
+    public @NonNull byte[] sign(@NonNull final PrivateKey privateKey, @NonNull final byte[] message) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        if (privateKey instanceof PrivateKeyWithED25519 ed25519Key) {
+            return KeyUtilitiesED25519.sign(ed25519Key, message);
+        }
+        if (privateKey instanceof PrivateKeyWithECDSA ecdsaKey) {
+            return KeyUtilitiesECDSA.sign(ecdsaKey, message);
+        }
+        throw new IllegalArgumentException("Unsupported private key: " + privateKey.getClass().getName());
+    }
+
+    @Override
+    public int sign(@NonNull final PrivateKey privateKey, @NonNull final byte[] message,
+            @NonNull final byte[] signature, final int offset) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        if (privateKey instanceof PrivateKeyWithECDSA ecdsaKey) {
+            // writes r and s directly into the buffer
+            return KeyUtilitiesECDSA.sign(ecdsaKey, message, signature, offset);
+        }
+        return CryptoBackend.super.sign(privateKey, message, signature, offset);
+    }
+
+    @Override
+    public boolean verify(@NonNull final PublicKey publicKey, @NonNull final byte[] message,
+            @NonNull final byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        if (publicKey instanceof PublicKeyWithED25519 ed25519Key) {
+            return KeyUtilitiesED25519.verify(ed25519Key, message, signature);
+        }
+        if (publicKey instanceof PublicKeyWithECDSA ecdsaKey) {
+            return KeyUtilitiesECDSA.verify(ecdsaKey, message, signature);
+        }
+        throw new IllegalArgumentException("Unsupported public key: " + publicKey.getClass().getName());
+    }
+
+    @Override
+    public boolean supportsDigest(@NonNull final DigestAlgorithm algorithm) {
+        return true;
+    }
+
+    @Override
+    public @NonNull byte[] digest(@NonNull final DigestAlgorithm algorithm, @NonNull final byte[] message) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        final Digest digest = switch (algorithm) {
+            case SHA_384 -> new SHA384Digest();
+            case KECCAK_256 -> new KeccakDigest(256);
+        };
+        digest.update(message, 0, message.length);
+        final byte[] result = new byte[digest.getDigestSize()];
+        digest.doFinal(result, 0);
+        return result;
+    }
+}
@@ -0,0 +1,171 @@
+package org.hiero.sdk.simple.internal.network.key;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyPair;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Generates many key pairs at once. The keys are generated in batches of {@link #BATCH_SIZE}. The keys of a batch are
+ * generated in parallel on the common fork/join pool, the next batch only once the stream has consumed the previous
+ * one. This way at most one batch is held in memory, independent of the number of generated keys. The stream can not
+ * be split, so this also holds if the caller makes it parallel.
+ * <p>
+ * The keys prototype contains the same generator for its own key classes. The two prototypes do not depend on each
+ * other, so the generator can not be shared until the key classes are merged.
+ */
+public final class BulkKeyGenerator {
+
+    /**
+     * The number of keys that are generated in parallel at once.
+     */
+    public static final int BATCH_SIZE = 1024;
+
+    private static final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    });
+
+    private BulkKeyGenerator() {
+    }
+
+    /**
+     * Generates random key pairs.
+     *
+     * @param algorithm the key algorithm
+     * @param count     the number of key pairs
+     * @return a sequential stream of the key pairs
+     */
+    @NonNull
+    public static Stream<KeyPair> generate(@NonNull final KeyAlgorithm algorithm, final int count) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return generateInBatches(count, index -> KeyPair.generate(algorithm));
+    }
+
+    /**
+     * Generates key pairs that are derived deterministically from the given seed and their index.
+     *
+     * @param algorithm the key algorithm
+     * @param count     the number of key pairs
+     * @param seed      the seed
+     * @return a sequential stream of the key pairs
+     */
+    @NonNull
+    public static Stream<KeyPair> generate(@NonNull final KeyAlgorithm algorithm, final int count, final long seed) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        // every key only depends on the seed and its index, so the result does not depend on the thread scheduling
+        return generateInBatches(count, index -> KeyPair.of(derive(algorithm, seed, index)));
+    }
+
+    /**
+     * Creates {@code count} key pairs by calling the generator for every index, in parallel batches of
+     * {@link #BATCH_SIZE}. The spliterator of the returned stream never splits, so at most one batch is generated ahead
+     * of the consumer even if the caller makes the stream parallel.
+     *
+     * @param count     the number of key pairs
+     * @param generator the generator of the key pair for an index
+     * @return a sequential stream of the key pairs, ordered by index
+     */
+    @NonNull
+    private static Stream<KeyPair> generateInBatches(final int count, @NonNull final IntFunction<KeyPair> generator) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        return StreamSupport.stream(new BatchSpliterator(count, generator), false);
+    }
+
+    /**
+     * Generates the next batch once the previous one has been consumed.
+     */
+    private static final class BatchSpliterator implements Spliterator<KeyPair> {
+
+        private final int count;
+
+        private final IntFunction<KeyPair> generator;
+
+        private List<KeyPair> batch = List.of();
+
+        private int position;
+
+        private int generated;
+
+        private BatchSpliterator(final int count, @NonNull final IntFunction<KeyPair> generator) {
+            this.count = count;
+            this.generator = Objects.requireNonNull(generator, "generator must not be null");
+        }
+
+        @Override
+        public boolean tryAdvance(@NonNull final Consumer<? super KeyPair> action) {
+            Objects.requireNonNull(action, "action must not be null");
+            if (position == batch.size()) {
+                if (generated == count) {
+                    return false;
+                }
+                final int end = (int) Math.min(count, (long) generated + BATCH_SIZE);
+                batch = IntStream.range(generated, end).parallel().mapToObj(generator).toList();
+                generated = end;
+                position = 0;
+            }
+            action.accept(batch.get(position++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<KeyPair> trySplit() {
+            // splitting would let a parallel stream generate several batches at once
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) count - generated + batch.size() - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | NONNULL;
+        }
+    }
+
+    @NonNull
+    private static PrivateKey derive(@NonNull final KeyAlgorithm algorithm, final long seed, final int index) {
+        int counter = 0;
+        while (true) {
+            final byte[] material = hash(seed, index, counter++);
+            switch (algorithm) {
+                case ED25519 -> {
+                    return KeyUtilitiesED25519.createPrivateKeyFromBytes(material);
+                }
+                case ECDSA -> {
+                    final BigInteger d = new BigInteger(1, material);
+                    // rejection sampling keeps the scalar uniform in [1, n-1]
+                    if (d.signum() > 0 && d.compareTo(KeyUtilitiesECDSA.ECDSA_SECP256K1_CURVE.getN()) < 0) {
+                        return new PrivateKeyWithECDSA(d);
+                    }
+                }
+            }
+        }
+    }
+
+    @NonNull
+    private static byte[] hash(final long seed, final int index, final int counter) {
+        final MessageDigest digest = sha256.get();
+        digest.update(ByteBuffer.allocate(16).putLong(seed).putInt(index).putInt(counter).flip());
+        return digest.digest();
+    }
+}
@@ -0,0 +1,116 @@
+package org.hiero.sdk.simple.internal.network.key;
+
+import java.lang.System.Logger.Level;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.spi.CryptoBackend;
+import org.hiero.sdk.simple.network.keys.spi.DigestAlgorithm;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Loads all available {@link CryptoBackend} implementations by using Java SPI and selects the backend for each key
+ * algorithm and each digest algorithm once. The backend defined by the {@link CryptoBackend#BACKEND_PROPERTY} system property is used for all
+ * algorithms it supports, the {@link BouncyCastleCryptoBackend} for all others.
+ */
+public final class CryptoBackendLoader {
+
+    private final static System.Logger logger = System.getLogger(CryptoBackendLoader.class.getName());
+
+    private final static CryptoBackendLoader instance = new CryptoBackendLoader();
+
+    private final Set<CryptoBackend> backends;
+
+    private final Map<KeyAlgorithm, CryptoBackend> selected;
+
+    private final Map<DigestAlgorithm, CryptoBackend> selectedDigests;
+
+    private CryptoBackendLoader() {
+        this.backends = ServiceLoader.load(CryptoBackend.class).stream()
+                .map(Provider::get)
+                .collect(Collectors.toUnmodifiableSet());
+        final String requested = System.getProperty(CryptoBackend.BACKEND_PROPERTY, BouncyCastleCryptoBackend.NAME);
+        final CryptoBackend defaultBackend = forName(BouncyCastleCryptoBackend.NAME);
+        final CryptoBackend requestedBackend = backends.stream()
+                .filter(backend -> Objects.equals(backend.getName(), requested))
+                .findFirst()
+                .orElseGet(() -> {
+                    logger.log(Level.WARNING, "Crypto backend ''{0}'' not found, using ''{1}''", requested,
+                            BouncyCastleCryptoBackend.NAME);
+                    return defaultBackend;
+                });
+        final Map<KeyAlgorithm, CryptoBackend> map = new EnumMap<>(KeyAlgorithm.class);
+        for (KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            final CryptoBackend backend = requestedBackend.supports(algorithm) ? requestedBackend : defaultBackend;
+            logger.log(Level.DEBUG, "Using crypto backend ''{0}'' for {1}", backend.getName(), algorithm);
+            map.put(algorithm, backend);
+        }
+        this.selected = Collections.unmodifiableMap(map);
+        final Map<DigestAlgorithm, CryptoBackend> digestMap = new EnumMap<>(DigestAlgorithm.class);
+        for (DigestAlgorithm algorithm : DigestAlgorithm.values()) {
+            final CryptoBackend backend = requestedBackend.supportsDigest(algorithm) ? requestedBackend
+                    : defaultBackend;
+            logger.log(Level.DEBUG, "Using crypto backend ''{0}'' for {1}", backend.getName(), algorithm);
+            digestMap.put(algorithm, backend);
+        }
+        this.selectedDigests = Collections.unmodifiableMap(digestMap);
+    }
+
+    /**
+     * Returns all loaded backends.
+     *
+     * @return all loaded backends
+     */
+    @NonNull
+    public Set<CryptoBackend> all() {
+        return backends;
+    }
+
+    /**
+     * Returns the backend that is used for the given algorithm.
+     *
+     * @param algorithm the key algorithm
+     * @return the backend for the algorithm
+     */
+    @NonNull
+    public CryptoBackend forAlgorithm(@NonNull final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return selected.get(algorithm);
+    }
+
+    /**
+     * Returns the backend that is used for the given digest algorithm.
+     *
+     * @param algorithm the digest algorithm
+     * @return the backend for the digest algorithm
+     */
+    @NonNull
+    public CryptoBackend forDigest(@NonNull final DigestAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return selectedDigests.get(algorithm);
+    }
+
+    @NonNull
+    private CryptoBackend forName(@NonNull final String name) {
+        return backends.stream()
+                .filter(backend -> Objects.equals(backend.getName(), name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Crypto backend '" + name + "' not found"));
+    }
+
+    /**
+     * Returns the singleton instance of this class.
+     *
+     * @return the singleton instance of this class
+     */
+    @NonNull
+    public static CryptoBackendLoader getInstance() {
+        return instance;
+    }
+}
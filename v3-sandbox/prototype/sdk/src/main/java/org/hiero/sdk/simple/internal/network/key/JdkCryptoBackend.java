@@ -0,0 +1,199 @@
+package org.hiero.sdk.simple.internal.network.key;
+
+import com.google.auto.service.AutoService;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.spec.EdECPoint;
+import java.security.spec.EdECPrivateKeySpec;
+import java.security.spec.EdECPublicKeySpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.NamedParameterSpec;
+import java.util.Objects;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.keys.spi.CryptoBackend;
+import org.hiero.sdk.simple.network.keys.spi.DigestAlgorithm;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A {@link CryptoBackend} that uses the EdDSA implementation of the JDK (or of any other installed JCA provider for
+ * {@code Ed25519}). The JDK does not support the secp256k1 curve anymore, so ECDSA is not supported by this backend.
+ * The JDK has no Keccak-256 digest either, only the standardized SHA3-256, so only SHA-384 digests are supported.
+ */
+@AutoService(CryptoBackend.class)
+public final class JdkCryptoBackend implements CryptoBackend {
+
+    /**
+     * The name of the backend.
+     */
+    public static final String NAME = "jdk";
+
+    private static final String ALGORITHM = "Ed25519";
+
+    private static final ThreadLocal<Signature> signature = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not supported by the JDK", e);
+        }
+    });
+
+    private static final ThreadLocal<KeyFactory> keyFactory = ThreadLocal.withInitial(() -> {
+        try {
+            return KeyFactory.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not supported by the JDK", e);
+        }
+    });
+
+    @Override
+    public @NonNull String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(@NonNull final KeyAlgorithm algorithm) {
+        return algorithm == KeyAlgorithm.ED25519;
+    }
+
+    @Override
+    public @NonNull PrivateKey generatePrivateKey(@NonNull final KeyAlgorithm algorithm) {
+        checkAlgorithm(algorithm);
+        try {
+            final EdECPrivateKey privateKey = (EdECPrivateKey) KeyPairGenerator.getInstance(ALGORITHM)
+                    .generateKeyPair()
+                    .getPrivate();
+            final byte[] keyData = privateKey.getBytes()
+                    .orElseThrow(() -> new IllegalStateException("Generated key does not expose its bytes"));
+            return KeyUtilitiesED25519.createPrivateKeyFromBytes(keyData);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error generating Ed25519 key", e);
+        }
+    }
+
+    @Override
+    public @NonNull byte[] sign(@NonNull final PrivateKey privateKey, @NonNull final byte[] message) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        checkAlgorithm(privateKey.algorithm());
+        try {
+            final Signature signer = signature.get();
+            signer.initSign(toJdkKey(privateKey));
+            signer.update(message);
+            return signer.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Error signing message", e);
+        }
+    }
+
+    @Override
+    public boolean verify(@NonNull final PublicKey publicKey, @NonNull final byte[] message,
+            @NonNull final byte[] signature) {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+        checkAlgorithm(publicKey.algorithm());
+        try {
+            final Signature verifier = JdkCryptoBackend.signature.get();
+            verifier.initVerify(toJdkKey(publicKey));
+            verifier.update(message);
+            return verifier.verify(signature);
+        } catch (InvalidKeySpecException | InvalidKeyException | SignatureException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean supportsDigest(@NonNull final DigestAlgorithm algorithm) {
+        return algorithm == DigestAlgorithm.SHA_384;
+    }
+
+    @Override
+    public @NonNull byte[] digest(@NonNull final DigestAlgorithm algorithm, @NonNull final byte[] message) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        if (!supportsDigest(algorithm)) {
+            throw new IllegalArgumentException("Unsupported digest algorithm: " + algorithm);
+        }
+        try {
+            return MessageDigest.getInstance("SHA-384").digest(message);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-384 is not supported by the JDK", e);
+        }
+    }
+
+    /**
+     * Returns the JCA form of the key. The SDK keys keep the JCA key after the first call, so it is only created once
+     * per key.
+     */
+    private static java.security.@NonNull PrivateKey toJdkKey(@NonNull final PrivateKey privateKey)
+            throws InvalidKeySpecException {
+        if (privateKey instanceof PrivateKeyWithED25519 ed25519Key) {
+            java.security.PrivateKey result = ed25519Key.jdkKey();
+            if (result == null) {
+                result = createJdkKey(ed25519Key.keyData());
+                ed25519Key.jdkKey(result);
+            }
+            return result;
+        }
+        return createJdkKey(privateKey.toBytes(KeyEncoding.RAW));
+    }
+
+    private static java.security.@NonNull PublicKey toJdkKey(@NonNull final PublicKey publicKey)
+            throws InvalidKeySpecException {
+        if (publicKey instanceof PublicKeyWithED25519 ed25519Key) {
+            java.security.PublicKey result = ed25519Key.jdkKey();
+            if (result == null) {
+                result = createJdkKey(toPoint(ed25519Key.keyData()));
+                ed25519Key.jdkKey(result);
+            }
+            return result;
+        }
+        return createJdkKey(toPoint(publicKey.toBytes(KeyEncoding.RAW)));
+    }
+
+    private static java.security.@NonNull PrivateKey createJdkKey(@NonNull final byte[] keyData)
+            throws InvalidKeySpecException {
+        return keyFactory.get().generatePrivate(new EdECPrivateKeySpec(NamedParameterSpec.ED25519, keyData));
+    }
+
+    private static java.security.@NonNull PublicKey createJdkKey(@NonNull final EdECPoint point)
+            throws InvalidKeySpecException {
+        return keyFactory.get().generatePublic(new EdECPublicKeySpec(NamedParameterSpec.ED25519, point));
+    }
+
+    /**
+     * Converts the RFC 8032 encoding of a point (little endian y coordinate, highest bit is the sign of x) to an
+     * {@link EdECPoint}.
+     */
+    @NonNull
+    private static EdECPoint toPoint(@NonNull final byte[] encoded) {
+        if (encoded.length != 32) {
+            throw new IllegalArgumentException("Ed25519 public key must be 32 bytes");
+        }
+        final boolean xOdd = (encoded[31] & 0x80) != 0;
+        final byte[] y = new byte[32];
+        for (int i = 0; i < 32; i++) {
+            y[i] = encoded[31 - i];
+        }
+        y[0] &= 0x7F;
+        return new EdECPoint(xOdd, new BigInteger(1, y));
+    }
+
+    private static void checkAlgorithm(@NonNull final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        if (algorithm != KeyAlgorithm.ED25519) {
+            throw new IllegalArgumentException("Unsupported key algorithm: " + algorithm);
+        }
+    }
+}
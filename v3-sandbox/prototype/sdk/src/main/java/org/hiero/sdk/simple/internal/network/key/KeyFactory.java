@@ -1,9 +1,7 @@
 package org.hiero.sdk.simple.internal.network.key;
 
-import java.io.IOException;
+import java.math.BigInteger;
 import java.util.Objects;
-import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
-import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.bouncycastle.util.encoders.Hex;
 import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
@@ -32,13 +30,7 @@ public final class KeyFactory {
     @NonNull
     public static PrivateKey createPrivateKey(@NonNull final KeyAlgorithm algorithm) {
         Objects.requireNonNull(algorithm, "algorithm must not be null");
-        if (algorithm == KeyAlgorithm.ED25519) {
-            return KeyUtilitiesED25519.createPrivateKey();
-        } else if (algorithm == KeyAlgorithm.ECDSA) {
-            return KeyUtilitiesECDSA.createPrivateKey();
-        } else {
-            throw new IllegalArgumentException("Unsupported signature algorithm: " + algorithm);
-        }
+        return CryptoBackendLoader.getInstance().forAlgorithm(algorithm).generatePrivateKey(algorithm);
     }
 
     /**
@@ -54,30 +46,32 @@ public final class KeyFactory {
     }
 
     /**
-     * Infers the key algorithm from the encoded private key.
+     * Infers the key algorithm from the encoded private key. Raw keys of 32 or 64 bytes are treated as ED25519 keys,
+     * since a raw ECDSA key of 32 bytes can not be told apart from an ED25519 key. PKCS#8 and SEC1 encoded keys carry
+     * their algorithm.
      *
      * @param privateKey the encoded private key bytes
      * @return the detected key algorithm
+     * @throws IllegalArgumentException if the bytes are not a private key of a known format and algorithm
      */
     @NonNull
     public static KeyAlgorithm getAlgorithmForPrivateKey(@NonNull final byte[] privateKey) {
-        //TODO: can we remove this if to make the code cleaner?
-        if ((privateKey.length == Ed25519.SECRET_KEY_SIZE)
-                || (privateKey.length == Ed25519.SECRET_KEY_SIZE + Ed25519.PUBLIC_KEY_SIZE)) {
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        return getAlgorithmForPrivateKey(KeyFormatSniffer.sniff(privateKey));
+    }
+
+    @NonNull
+    private static KeyAlgorithm getAlgorithmForPrivateKey(final KeyFormatSniffer.@NonNull Result sniffed) {
+        final KeyFormatSniffer.Kind kind = sniffed.kind();
+        // raw keys of 33 or 65 bytes are detected as ECDSA public keys
+        if (kind == KeyFormatSniffer.Kind.RAW && sniffed.algorithm() != KeyAlgorithm.ECDSA) {
             return KeyAlgorithm.ED25519;
         }
-        try {
-            final PrivateKeyInfo privateKeyInfo = PrivateKeyInfo.getInstance(privateKey);
-            if (privateKeyInfo.getPrivateKeyAlgorithm()
-                    .equals(new AlgorithmIdentifier(KeyUtilitiesED25519.ID_ED25519))) {
-                return KeyAlgorithm.ED25519;
-            } else {
-                return KeyAlgorithm.ECDSA;
-            }
-        } catch (ClassCastException | IllegalArgumentException e) {
-            //TODO: Does this makes sense????
-            return KeyAlgorithm.ECDSA;
+        if ((kind == KeyFormatSniffer.Kind.PKCS8_DER || kind == KeyFormatSniffer.Kind.SEC1_DER)
+                && sniffed.algorithm() != null) {
+            return sniffed.algorithm();
         }
+        throw new IllegalArgumentException("Unsupported private key format: " + kind);
     }
 
     /**
@@ -85,15 +79,18 @@ public final class KeyFactory {
      *
      * @param privateKey the encoded private key bytes
      * @return the private key
+     * @throws IllegalArgumentException if the bytes are not a private key of a known format and algorithm
      */
     @NonNull
     public static PrivateKey createPrivateKey(@NonNull final byte[] privateKey) {
-        final KeyAlgorithm algorithm = getAlgorithmForPrivateKey(privateKey);
-        return createPrivateKey(privateKey, algorithm);
+        Objects.requireNonNull(privateKey, "privateKey must not be null");
+        final KeyFormatSniffer.Result sniffed = KeyFormatSniffer.sniff(privateKey);
+        return createPrivateKey(privateKey, sniffed, getAlgorithmForPrivateKey(sniffed));
     }
 
     /**
-     * Creates a private key from its binary representation for the specified algorithm.
+     * Creates a private key from its binary representation for the specified algorithm. Raw keys (32 or 64 bytes for
+     * ED25519, 32 bytes for ECDSA), PKCS#8 DER and SEC1 DER (ECDSA only) encodings are supported.
      *
      * @param privateKey the encoded private key bytes
      * @param algorithm  the key algorithm the bytes belong to
@@ -104,30 +101,24 @@ public final class KeyFactory {
     public static PrivateKey createPrivateKey(@NonNull final byte[] privateKey, @NonNull final KeyAlgorithm algorithm) {
         Objects.requireNonNull(algorithm, "algorithm must not be null");
         Objects.requireNonNull(privateKey, "privateKey must not be null");
-        if (algorithm == KeyAlgorithm.ED25519) {
-            if ((privateKey.length == Ed25519.SECRET_KEY_SIZE)
-                    || (privateKey.length == Ed25519.SECRET_KEY_SIZE + Ed25519.PUBLIC_KEY_SIZE)) {
-                return KeyUtilitiesED25519.createPrivateKeyFromBytes(privateKey);
-            }
-            //TODO: can we remove this if to make the code cleaner?
-            if ((privateKey.length == Ed25519.SECRET_KEY_SIZE)
-                    || (privateKey.length == Ed25519.SECRET_KEY_SIZE + Ed25519.PUBLIC_KEY_SIZE)) {
-                return KeyUtilitiesED25519.createPrivateKeyFromBytes(privateKey);
+        return createPrivateKey(privateKey, KeyFormatSniffer.sniff(privateKey), algorithm);
+    }
+
+    @NonNull
+    private static PrivateKey createPrivateKey(@NonNull final byte[] privateKey,
+            final KeyFormatSniffer.@NonNull Result sniffed, @NonNull final KeyAlgorithm algorithm) {
+        final boolean raw = sniffed.kind() == KeyFormatSniffer.Kind.RAW;
+        final boolean container = sniffed.kind() == KeyFormatSniffer.Kind.PKCS8_DER
+                || sniffed.kind() == KeyFormatSniffer.Kind.SEC1_DER;
+        if (raw || (container && sniffed.algorithm() == algorithm)) {
+            final byte[] keyData = sniffed.keyBytes(privateKey);
+            if (algorithm == KeyAlgorithm.ED25519) {
+                return KeyUtilitiesED25519.createPrivateKeyFromBytes(keyData);
             }
-            final PrivateKeyInfo privateKeyInfo = PrivateKeyInfo.getInstance(privateKey);
-            if (privateKeyInfo.getPrivateKeyAlgorithm()
-                    .equals(new AlgorithmIdentifier(KeyUtilitiesED25519.ID_ED25519))) {
-                try {
-                    return KeyUtilitiesED25519.createPrivateKeyFromPrivateKeyInfo(privateKeyInfo);
-                } catch (IOException e) {
-                    throw new RuntimeException("Error creating key with algorithm " + algorithm, e);
-                }
+            if (algorithm == KeyAlgorithm.ECDSA && keyData.length > 0 && keyData.length <= 32) {
+                return new PrivateKeyWithECDSA(new BigInteger(1, keyData));
             }
         }
-        if (algorithm == KeyAlgorithm.ECDSA) {
-            final PrivateKeyInfo privateKeyInfo = PrivateKeyInfo.getInstance(privateKey);
-            return KeyUtilitiesECDSA.createPrivateKeyFromPrivateKeyInfo(privateKeyInfo);
-        }
         throw new IllegalArgumentException(
                 "The provided private key does not match the provided algorithm: " + algorithm);
     }
@@ -161,15 +152,35 @@ public final class KeyFactory {
     }
 
     /**
-     * Creates a public key from its binary representation.
+     * Creates a public key from its binary representation. Raw keys (32 bytes for ED25519, 33 or 65 bytes for ECDSA)
+     * and SPKI DER encodings are supported, the algorithm is auto-detected.
      *
      * @param publicKey the encoded public key bytes
      * @return the public key
-     * @throws UnsupportedOperationException until implemented
+     * @throws IllegalArgumentException if the format or algorithm of the bytes is not supported
      */
     @NonNull
     public static PublicKey createPublicKey(@NonNull final byte[] publicKey) {
-        throw new UnsupportedOperationException("PublicKeyFactory.create is not implemented yet");
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        final KeyFormatSniffer.Result sniffed = KeyFormatSniffer.sniff(publicKey);
+        if (sniffed.kind() != KeyFormatSniffer.Kind.RAW && sniffed.kind() != KeyFormatSniffer.Kind.SPKI_DER) {
+            throw new IllegalArgumentException("Unsupported public key format: " + sniffed.kind());
+        }
+        final byte[] keyData = sniffed.keyBytes(publicKey);
+        // ECDSA public keys are never 32 bytes long, so raw keys without detected algorithm are ED25519 keys
+        final KeyAlgorithm algorithm = sniffed.algorithm() != null ? sniffed.algorithm()
+                : sniffed.kind() == KeyFormatSniffer.Kind.RAW ? KeyAlgorithm.ED25519 : null;
+        if (algorithm == KeyAlgorithm.ED25519 && keyData.length == Ed25519.PUBLIC_KEY_SIZE) {
+            return new PublicKeyWithED25519(keyData);
+        }
+        if (algorithm == KeyAlgorithm.ECDSA && keyData.length == 33) {
+            return new PublicKeyWithECDSA(keyData);
+        }
+        if (algorithm == KeyAlgorithm.ECDSA && keyData.length == 65) {
+            return new PublicKeyWithECDSA(
+                    KeyUtilitiesECDSA.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(keyData));
+        }
+        throw new IllegalArgumentException("Unsupported public key algorithm or length");
     }
 
     /**
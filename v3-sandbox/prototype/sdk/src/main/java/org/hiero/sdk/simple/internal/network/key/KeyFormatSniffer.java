@@ -0,0 +1,325 @@
+package org.hiero.sdk.simple.internal.network.key;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Classifies encoded keys by their length and DER tag bytes.
+ * <p>
+ * The sniffer walks the outer DER structure once, without an ASN.1 parser and without throwing for input that does
+ * not match any known format. Trying {@code PrivateKeyInfo.getInstance} and catching the exception is expensive when
+ * many keys of mixed formats are imported, since every miss creates and fills a stack trace. The result also points
+ * at the key material inside the encoding, so the caller does not need to parse the structure a second time.
+ */
+public final class KeyFormatSniffer {
+
+    /**
+     * The detected container of an encoded key.
+     */
+    public enum Kind {
+
+        /**
+         * Raw key bytes without any container.
+         */
+        RAW,
+
+        /**
+         * A DER encoded PKCS#8 {@code PrivateKeyInfo}.
+         */
+        PKCS8_DER,
+
+        /**
+         * A DER encoded X.509 {@code SubjectPublicKeyInfo}.
+         */
+        SPKI_DER,
+
+        /**
+         * A DER encoded SEC1 {@code ECPrivateKey} without PKCS#8 container.
+         */
+        SEC1_DER,
+
+        /**
+         * A PEM encoded key.
+         */
+        PEM,
+
+        /**
+         * Bytes that do not match any known format.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * The result of sniffing an encoded key.
+     *
+     * @param kind      the detected container
+     * @param algorithm the detected algorithm, {@code null} if it can not be derived from the bytes alone (raw 32
+     *                  byte keys) or is not supported
+     * @param keyOffset the offset of the key material in the encoded bytes
+     * @param keyLength the length of the key material
+     */
+    public record Result(@NonNull Kind kind, @Nullable KeyAlgorithm algorithm, int keyOffset, int keyLength) {
+
+        /**
+         * Returns a copy of the key material.
+         *
+         * @param data the encoded bytes that have been sniffed
+         * @return the key material
+         */
+        @NonNull
+        public byte[] keyBytes(@NonNull final byte[] data) {
+            return Arrays.copyOfRange(data, keyOffset, keyOffset + keyLength);
+        }
+    }
+
+    private static final Result UNKNOWN = new Result(Kind.UNKNOWN, null, 0, 0);
+
+    private static final int TAG_INTEGER = 0x02;
+
+    private static final int TAG_BIT_STRING = 0x03;
+
+    private static final int TAG_OCTET_STRING = 0x04;
+
+    private static final int TAG_OID = 0x06;
+
+    private static final int TAG_SEQUENCE = 0x30;
+
+    private static final int TAG_CONTEXT_0 = 0xA0;
+
+    // DER encoded OIDs including tag and length
+    private static final byte[] OID_ED25519 = {0x06, 0x03, 0x2B, 0x65, 0x70};
+
+    private static final byte[] OID_EC_PUBLIC_KEY = {0x06, 0x07, 0x2A, (byte) 0x86, 0x48, (byte) 0xCE, 0x3D, 0x02,
+            0x01};
+
+    private static final byte[] OID_SECP256K1 = {0x06, 0x05, 0x2B, (byte) 0x81, 0x04, 0x00, 0x0A};
+
+    private static final byte[] PEM_PREFIX = "-----BEGIN".getBytes(StandardCharsets.US_ASCII);
+
+    private KeyFormatSniffer() {
+    }
+
+    /**
+     * Classifies the given encoded key.
+     *
+     * @param data the encoded key
+     * @return the classification, {@link Kind#UNKNOWN} if the bytes do not match a known format
+     */
+    @NonNull
+    public static Result sniff(@NonNull final byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+        if (isPem(data)) {
+            return new Result(Kind.PEM, null, 0, data.length);
+        }
+        // raw keys are random bytes that can form a valid DER SEQUENCE by chance (a 32 byte key starting with
+        // 0x30 0x1E), so the DER result is only used if the structure has been recognised
+        final Result der = sniffDer(data);
+        if (der.kind() != Kind.UNKNOWN) {
+            return der;
+        }
+        return sniffRaw(data);
+    }
+
+    private static boolean isPem(@NonNull final byte[] data) {
+        int pos = 0;
+        while (pos < data.length && Character.isWhitespace(data[pos])) {
+            pos++;
+        }
+        return data.length - pos >= PEM_PREFIX.length
+                && Arrays.equals(data, pos, pos + PEM_PREFIX.length, PEM_PREFIX, 0, PEM_PREFIX.length);
+    }
+
+    @NonNull
+    private static Result sniffRaw(@NonNull final byte[] data) {
+        return switch (data.length) {
+            case 32 -> new Result(Kind.RAW, null, 0, 32);
+            case 64 -> new Result(Kind.RAW, KeyAlgorithm.ED25519, 0, 64);
+            case 33 -> data[0] == 0x02 || data[0] == 0x03
+                    ? new Result(Kind.RAW, KeyAlgorithm.ECDSA, 0, 33) : UNKNOWN;
+            case 65 -> data[0] == 0x04 ? new Result(Kind.RAW, KeyAlgorithm.ECDSA, 0, 65) : UNKNOWN;
+            default -> UNKNOWN;
+        };
+    }
+
+    @NonNull
+    private static Result sniffDer(@NonNull final byte[] data) {
+        if (data.length < 2 || (data[0] & 0xFF) != TAG_SEQUENCE || end(data, 0, data.length) != data.length) {
+            return UNKNOWN;
+        }
+        final int first = contentStart(data, 0);
+        if (first >= data.length) {
+            return UNKNOWN;
+        }
+        final int tag = data[first] & 0xFF;
+        if (tag == TAG_SEQUENCE) {
+            return sniffSpki(data, first);
+        }
+        if (tag == TAG_INTEGER) {
+            final int next = end(data, first, data.length);
+            if (next < 0 || next >= data.length) {
+                return UNKNOWN;
+            }
+            final int nextTag = data[next] & 0xFF;
+            if (nextTag == TAG_SEQUENCE) {
+                return sniffPkcs8(data, next);
+            }
+            if (nextTag == TAG_OCTET_STRING) {
+                return sniffSec1(data, first, data.length, null);
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * {@code SubjectPublicKeyInfo ::= SEQUENCE { algorithm AlgorithmIdentifier, subjectPublicKey BIT STRING }}
+     */
+    @NonNull
+    private static Result sniffSpki(@NonNull final byte[] data, final int algorithmIdentifier) {
+        final int bitString = end(data, algorithmIdentifier, data.length);
+        if (bitString < 0 || bitString >= data.length || (data[bitString] & 0xFF) != TAG_BIT_STRING) {
+            return UNKNOWN;
+        }
+        final int bitStringEnd = end(data, bitString, data.length);
+        final int content = contentStart(data, bitString);
+        // the first content byte holds the number of unused bits, keys always use whole bytes
+        if (bitStringEnd != data.length || content >= bitStringEnd || data[content] != 0) {
+            return UNKNOWN;
+        }
+        final KeyAlgorithm algorithm = algorithm(data, algorithmIdentifier);
+        return new Result(Kind.SPKI_DER, algorithm, content + 1, bitStringEnd - content - 1);
+    }
+
+    /**
+     * {@code PrivateKeyInfo ::= SEQUENCE { version INTEGER, algorithm AlgorithmIdentifier, privateKey OCTET STRING }}
+     */
+    @NonNull
+    private static Result sniffPkcs8(@NonNull final byte[] data, final int algorithmIdentifier) {
+        final int octetString = end(data, algorithmIdentifier, data.length);
+        if (octetString < 0 || octetString >= data.length || (data[octetString] & 0xFF) != TAG_OCTET_STRING) {
+            return UNKNOWN;
+        }
+        final int octetStringEnd = end(data, octetString, data.length);
+        if (octetStringEnd < 0) {
+            return UNKNOWN;
+        }
+        final int content = contentStart(data, octetString);
+        final KeyAlgorithm algorithm = algorithm(data, algorithmIdentifier);
+        if (algorithm == null || content >= octetStringEnd) {
+            return new Result(Kind.PKCS8_DER, null, content, octetStringEnd - content);
+        }
+        final int contentTag = data[content] & 0xFF;
+        if (end(data, content, octetStringEnd) != octetStringEnd) {
+            return UNKNOWN;
+        }
+        // ED25519 keys and legacy ECDSA keys are wrapped in a second OCTET STRING
+        if (contentTag == TAG_OCTET_STRING) {
+            final int key = contentStart(data, content);
+            return new Result(Kind.PKCS8_DER, algorithm, key, octetStringEnd - key);
+        }
+        if (algorithm == KeyAlgorithm.ECDSA && contentTag == TAG_SEQUENCE) {
+            return sniffSec1(data, contentStart(data, content), octetStringEnd, Kind.PKCS8_DER);
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * {@code ECPrivateKey ::= SEQUENCE { version INTEGER, privateKey OCTET STRING, parameters [0] OPTIONAL, ... }}
+     */
+    @NonNull
+    private static Result sniffSec1(@NonNull final byte[] data, final int version, final int limit,
+            @Nullable final Kind container) {
+        if (version >= limit || (data[version] & 0xFF) != TAG_INTEGER) {
+            return UNKNOWN;
+        }
+        final int octetString = end(data, version, limit);
+        if (octetString < 0 || octetString >= limit || (data[octetString] & 0xFF) != TAG_OCTET_STRING) {
+            return UNKNOWN;
+        }
+        final int octetStringEnd = end(data, octetString, limit);
+        if (octetStringEnd < 0) {
+            return UNKNOWN;
+        }
+        final int key = contentStart(data, octetString);
+        if (container != null) {
+            // the curve has already been checked in the AlgorithmIdentifier of the container
+            return new Result(container, KeyAlgorithm.ECDSA, key, octetStringEnd - key);
+        }
+        KeyAlgorithm algorithm = KeyAlgorithm.ECDSA;
+        if (octetStringEnd < limit && (data[octetStringEnd] & 0xFF) == TAG_CONTEXT_0) {
+            final int parametersEnd = end(data, octetStringEnd, limit);
+            if (parametersEnd < 0
+                    || !matches(data, contentStart(data, octetStringEnd), parametersEnd, OID_SECP256K1)) {
+                algorithm = null;
+            }
+        }
+        return new Result(Kind.SEC1_DER, algorithm, key, octetStringEnd - key);
+    }
+
+    /**
+     * {@code AlgorithmIdentifier ::= SEQUENCE { algorithm OBJECT IDENTIFIER, parameters ANY OPTIONAL }}
+     */
+    @Nullable
+    private static KeyAlgorithm algorithm(@NonNull final byte[] data, final int algorithmIdentifier) {
+        if ((data[algorithmIdentifier] & 0xFF) != TAG_SEQUENCE) {
+            return null;
+        }
+        final int limit = end(data, algorithmIdentifier, data.length);
+        final int oid = contentStart(data, algorithmIdentifier);
+        if (limit < 0 || oid >= limit || (data[oid] & 0xFF) != TAG_OID) {
+            return null;
+        }
+        if (matches(data, oid, limit, OID_ED25519)) {
+            return KeyAlgorithm.ED25519;
+        }
+        if (matches(data, oid, limit, OID_EC_PUBLIC_KEY)
+                && matches(data, oid + OID_EC_PUBLIC_KEY.length, limit, OID_SECP256K1)) {
+            return KeyAlgorithm.ECDSA;
+        }
+        return null;
+    }
+
+    private static boolean matches(@NonNull final byte[] data, final int offset, final int limit,
+            @NonNull final byte[] expected) {
+        return offset >= 0 && limit - offset >= expected.length
+                && Arrays.equals(data, offset, offset + expected.length, expected, 0, expected.length);
+    }
+
+    /**
+     * Returns the offset of the first content byte of the element at the given offset. The length of the element
+     * must have been checked by {@link #end(byte[], int, int)} before.
+     */
+    private static int contentStart(@NonNull final byte[] data, final int tagOffset) {
+        final int first = data[tagOffset + 1] & 0xFF;
+        return first < 0x80 ? tagOffset + 2 : tagOffset + 2 + (first & 0x7F);
+    }
+
+    /**
+     * Returns the offset after the element at the given offset or -1 if its length is malformed or exceeds the
+     * limit.
+     */
+    private static int end(@NonNull final byte[] data, final int tagOffset, final int limit) {
+        if (tagOffset + 1 >= limit) {
+            return -1;
+        }
+        final int first = data[tagOffset + 1] & 0xFF;
+        int pos = tagOffset + 2;
+        int length;
+        if (first < 0x80) {
+            length = first;
+        } else {
+            final int count = first & 0x7F;
+            if (count == 0 || count > 3 || pos + count > limit) {
+                return -1;
+            }
+            length = 0;
+            for (int i = 0; i < count; i++) {
+                length = (length << 8) | (data[pos++] & 0xFF);
+            }
+        }
+        return length > limit - pos ? -1 : pos + length;
+    }
+}
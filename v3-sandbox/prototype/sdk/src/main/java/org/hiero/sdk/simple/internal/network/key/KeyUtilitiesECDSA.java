@@ -6,27 +6,26 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.util.Objects;
-import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.DERBitString;
-import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.sec.ECPrivateKey;
-import org.bouncycastle.asn1.sec.SECNamedCurves;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.asn1.x9.X962Parameters;
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.AsymmetricCipherKeyPair;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.digests.KeccakDigest;
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.generators.ECKeyPairGenerator;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.crypto.params.ECKeyGenerationParameters;
 import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
-import org.bouncycastle.crypto.params.ECPublicKeyParameters;
 import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.bouncycastle.math.ec.ECPoint;
-import org.bouncycastle.util.Arrays;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.FixedPointUtil;
+import org.bouncycastle.util.BigIntegers;
 import org.hiero.sdk.simple.network.keys.KeyEncoding;
 import org.hiero.sdk.simple.network.keys.PrivateKey;
 import org.hiero.sdk.simple.network.keys.PublicKey;
@@ -34,12 +33,28 @@ import org.jspecify.annotations.NonNull;
 
 public final class KeyUtilitiesECDSA {
 
-    static final X9ECParameters ECDSA_SECP256K1_CURVE = SECNamedCurves.getByName("secp256k1");
+    // the custom curve implements the field arithmetic of secp256k1 on int arrays instead of big integers
+    static final X9ECParameters ECDSA_SECP256K1_CURVE = CustomNamedCurves.getByName("secp256k1");
     static final ECDomainParameters ECDSA_SECP256K1_DOMAIN = new ECDomainParameters(
             ECDSA_SECP256K1_CURVE.getCurve(),
             ECDSA_SECP256K1_CURVE.getG(),
             ECDSA_SECP256K1_CURVE.getN(),
             ECDSA_SECP256K1_CURVE.getH());
+
+    /**
+     * The size of a signature ({@code r||s}) in bytes.
+     */
+    public static final int SIGNATURE_SIZE = 64;
+
+    private static final FixedPointCombMultiplier BASE_POINT_MULTIPLIER = new FixedPointCombMultiplier();
+
+    private static final ThreadLocal<SigningContext> signingContext = ThreadLocal.withInitial(SigningContext::new);
+
+    static {
+        // build the comb table for the generator once instead of on the first signature
+        FixedPointUtil.precompute(ECDSA_SECP256K1_DOMAIN.getG());
+    }
+
     private static final ThreadLocal<SecureRandom> secureRandom = new ThreadLocal<SecureRandom>() {
         @Override
         protected SecureRandom initialValue() {
@@ -52,26 +67,8 @@ public final class KeyUtilitiesECDSA {
 
     @NonNull
     public static PublicKey createPublicKey(@NonNull final PrivateKeyWithECDSA privateKey) {
-        final ECPoint q = ECDSA_SECP256K1_DOMAIN.getG().multiply(privateKey.keyData());
-        final ECPublicKeyParameters publicParams = new ECPublicKeyParameters(q, ECDSA_SECP256K1_DOMAIN);
-        return createPublicKey(publicParams.getQ().getEncoded(true));
-    }
-
-    @NonNull
-    private static PublicKey createPublicKey(@NonNull final byte[] publicKey) {
-        // Validate the key if it's not all zero public key, see HIP-540
-        if (java.util.Arrays.equals(publicKey, new byte[33])) {
-            return new PublicKeyWithECDSA(publicKey);
-        }
-        if (publicKey.length == 33 || publicKey.length == 65) {
-            return new PublicKeyWithECDSA(
-                    // compress and validate the key
-                    ECDSA_SECP256K1_CURVE.getCurve().decodePoint(publicKey).getEncoded(true));
-        }
-
-        // Assume a DER-encoded public key descriptor
-        final SubjectPublicKeyInfo subjectPublicKeyInfo = SubjectPublicKeyInfo.getInstance(publicKey);
-        return createPublicKey(subjectPublicKeyInfo.getPublicKeyData().getBytes());
+        final ECPoint q = BASE_POINT_MULTIPLIER.multiply(ECDSA_SECP256K1_DOMAIN.getG(), privateKey.keyData());
+        return new PublicKeyWithECDSA(q);
     }
 
     @NonNull
@@ -86,34 +83,38 @@ public final class KeyUtilitiesECDSA {
     }
 
     @NonNull
-    public static PrivateKey createPrivateKeyFromPrivateKeyInfo(@NonNull final PrivateKeyInfo privateKeyInfo) {
-        try {
-            final ECPrivateKey privateKey = ECPrivateKey.getInstance(privateKeyInfo.parsePrivateKey());
-            return new PrivateKeyWithECDSA(privateKey.getKey());
-        } catch (IllegalArgumentException e) {
-            // Try legacy import
-            try {
-                final ASN1OctetString privateKey = (ASN1OctetString) privateKeyInfo.parsePrivateKey();
-                return new PrivateKeyWithECDSA(new BigInteger(1, privateKey.getOctets()));
-            } catch (IOException ex) {
-                throw new RuntimeException("Error creating private key", ex);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error creating private key", e);
-        }
+    public static byte[] sign(@NonNull final PrivateKeyWithECDSA privateKey, @NonNull final byte[] message) {
+        final byte[] signature = new byte[SIGNATURE_SIZE];
+        sign(privateKey, message, signature, 0);
+        return signature;
     }
 
-    @NonNull
-    public static byte[] sign(@NonNull final PrivateKeyWithECDSA privateKey, @NonNull final byte[] message) {
+    /**
+     * Signs a message and writes the signature ({@code r||s}, 64 bytes) into the given buffer. The digests and the
+     * signer are reused per thread, so only the big integer arithmetic of the signature itself allocates.
+     *
+     * @param privateKey the private key
+     * @param message    the message to sign
+     * @param signature  the buffer the signature is written to
+     * @param offset     the offset in the buffer
+     * @return the number of bytes written
+     */
+    public static int sign(@NonNull final PrivateKeyWithECDSA privateKey, @NonNull final byte[] message,
+            @NonNull final byte[] signature, final int offset) {
         Objects.requireNonNull(privateKey, "privateKey must not be null");
         Objects.requireNonNull(message, "message must not be null");
-        final byte[] hash = KeyUtilitiesECDSA.calcKeccak256(message);
-        final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
-        signer.init(true, new ECPrivateKeyParameters(privateKey.keyData(), ECDSA_SECP256K1_DOMAIN));
-        final BigInteger[] bigSig = signer.generateSignature(hash);
-        final byte[] sigBytes = Arrays.copyOf(bigIntTo32Bytes(bigSig[0]), 64);
-        System.arraycopy(bigIntTo32Bytes(bigSig[1]), 0, sigBytes, 32, 32);
-        return sigBytes;
+        Objects.requireNonNull(signature, "signature must not be null");
+        if (offset < 0 || signature.length - offset < SIGNATURE_SIZE) {
+            throw new IllegalArgumentException("signature buffer too small");
+        }
+        final SigningContext context = signingContext.get();
+        context.digest.update(message, 0, message.length);
+        context.digest.doFinal(context.hash, 0);
+        context.signer.init(true, privateKey.privateKeyParameters());
+        final BigInteger[] bigSig = context.signer.generateSignature(context.hash);
+        BigIntegers.asUnsignedByteArray(bigSig[0], signature, offset, 32);
+        BigIntegers.asUnsignedByteArray(bigSig[1], signature, offset + 32, 32);
+        return SIGNATURE_SIZE;
     }
 
     @NonNull
@@ -143,16 +144,18 @@ public final class KeyUtilitiesECDSA {
         Objects.requireNonNull(publicKey, "publicKey must not be null");
         Objects.requireNonNull(message, "message must not be null");
         Objects.requireNonNull(signature, "signature must not be null");
-        final byte[] hash = KeyUtilitiesECDSA.calcKeccak256(message);
-        final ECDSASigner signer = new ECDSASigner();
-        signer.init(
-                false,
-                new ECPublicKeyParameters(
-                        KeyUtilitiesECDSA.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(publicKey.keyData()),
-                        KeyUtilitiesECDSA.ECDSA_SECP256K1_DOMAIN));
-        final BigInteger r = new BigInteger(1, java.util.Arrays.copyOf(signature, 32));
-        final BigInteger s = new BigInteger(1, java.util.Arrays.copyOfRange(signature, 32, 64));
-        return signer.verifySignature(hash, r, s);
+        // the signature is r and s as 32 byte big endian integers
+        if (signature.length != 64) {
+            return false;
+        }
+        // the digest and the signer of the signing context are reused, verification does not use the k calculator
+        final SigningContext context = signingContext.get();
+        context.digest.update(message, 0, message.length);
+        context.digest.doFinal(context.hash, 0);
+        context.signer.init(false, publicKey.publicKeyParameters());
+        final BigInteger r = BigIntegers.fromUnsignedByteArray(signature, 0, 32);
+        final BigInteger s = BigIntegers.fromUnsignedByteArray(signature, 32, 32);
+        return context.signer.verifySignature(context.hash, r, s);
     }
 
     @NonNull
@@ -176,10 +179,16 @@ public final class KeyUtilitiesECDSA {
         throw new IllegalArgumentException("Unsupported key encoding: " + encoding);
     }
 
-    private static byte[] calcKeccak256(byte[] message) {
-        var digest = new Keccak.Digest256();
-        digest.update(message);
-        return digest.digest();
+    /**
+     * Per thread state for signing and verification. The HMAC k calculator resets itself on every init of the signer.
+     */
+    private static final class SigningContext {
+
+        private final KeccakDigest digest = new KeccakDigest(256);
+
+        private final byte[] hash = new byte[32];
+
+        private final ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
     }
 
     private static byte[] bigIntTo32Bytes(BigInteger n) {
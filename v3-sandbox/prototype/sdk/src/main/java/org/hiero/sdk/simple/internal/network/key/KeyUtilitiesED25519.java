@@ -5,7 +5,6 @@ import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.Objects;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
-import org.bouncycastle.asn1.ASN1OctetString;
 import org.bouncycastle.asn1.DEROctetString;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
@@ -82,7 +81,14 @@ public final class KeyUtilitiesED25519 {
         Objects.requireNonNull(publicKey, "publicKey must not be null");
         Objects.requireNonNull(message, "message must not be null");
         Objects.requireNonNull(signature, "signature must not be null");
-        return Ed25519.verify(signature, 0, publicKey.keyData(), 0, message, 0, message.length);
+        if (signature.length != Ed25519.SIGNATURE_SIZE) {
+            return false;
+        }
+        final Ed25519.PublicPoint publicPoint = publicKey.publicPoint();
+        if (publicPoint == null) {
+            return false;
+        }
+        return Ed25519.verify(signature, 0, publicPoint, message, 0, message.length);
     }
 
     public static @NonNull byte[] toBytes(@NonNull final PublicKeyWithED25519 publicKey,
@@ -124,16 +130,4 @@ public final class KeyUtilitiesED25519 {
         }
         return new PrivateKeyWithED25519(Arrays.copyOfRange(privateKey, 0, Ed25519.SECRET_KEY_SIZE), null);
     }
-
-    @NonNull
-    public static PrivateKey createPrivateKeyFromPrivateKeyInfo(@NonNull final PrivateKeyInfo privateKeyInfo)
-            throws IOException {
-        Objects.requireNonNull(privateKeyInfo, "privateKeyInfo must not be null");
-        if (!privateKeyInfo.getPrivateKeyAlgorithm().equals(new AlgorithmIdentifier(KeyUtilitiesED25519.ID_ED25519))) {
-            throw new IllegalArgumentException(
-                    "Unsupported private key algorithm: " + privateKeyInfo.getPrivateKeyAlgorithm());
-        }
-        var privateKey = (ASN1OctetString) privateKeyInfo.parsePrivateKey();
-        return new PrivateKeyWithED25519(privateKey.getOctets(), null);
-    }
 }
@@ -1,22 +1,63 @@
 package org.hiero.sdk.simple.internal.network.key;
 
 import java.math.BigInteger;
+import java.util.Objects;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
 import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
 import org.hiero.sdk.simple.network.keys.KeyEncoding;
 import org.hiero.sdk.simple.network.keys.PrivateKey;
 import org.hiero.sdk.simple.network.keys.PublicKey;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record PrivateKeyWithECDSA(BigInteger keyData) implements PrivateKey {
+/**
+ * ECDSA (secp256k1) private key. The public key is derived lazily on first use and cached, since deriving it needs a
+ * full scalar multiplication on the curve.
+ */
+public final class PrivateKeyWithECDSA implements PrivateKey {
+
+    private final BigInteger keyData;
+
+    private final ECPrivateKeyParameters privateKeyParameters;
+
+    @Nullable
+    private volatile PublicKey publicKey;
+
+    public PrivateKeyWithECDSA(@NonNull final BigInteger keyData) {
+        this.keyData = Objects.requireNonNull(keyData, "keyData must not be null");
+        this.privateKeyParameters = new ECPrivateKeyParameters(keyData, KeyUtilitiesECDSA.ECDSA_SECP256K1_DOMAIN);
+    }
+
+    @NonNull
+    public BigInteger keyData() {
+        return keyData;
+    }
+
+    @NonNull
+    ECPrivateKeyParameters privateKeyParameters() {
+        return privateKeyParameters;
+    }
 
     @Override
     public PublicKey createPublicKey() {
-        return KeyUtilitiesECDSA.createPublicKey(this);
+        PublicKey result = publicKey;
+        if (result == null) {
+            // deriving twice in a race is harmless, the result is always the same immutable key
+            result = KeyUtilitiesECDSA.createPublicKey(this);
+            publicKey = result;
+        }
+        return result;
     }
 
     @Override
     public byte[] sign(byte[] message) {
-        return KeyUtilitiesECDSA.sign(this, message);
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ECDSA).sign(this, message);
+    }
+
+    @Override
+    public int sign(@NonNull byte[] message, @NonNull byte[] signature, int offset) {
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ECDSA)
+                .sign(this, message, signature, offset);
     }
 
     @Override
@@ -28,4 +69,17 @@ public record PrivateKeyWithECDSA(BigInteger keyData) implements PrivateKey {
     public KeyAlgorithm algorithm() {
         return KeyAlgorithm.ECDSA;
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PrivateKeyWithECDSA other && keyData.equals(other.keyData);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyData.hashCode();
+    }
 }
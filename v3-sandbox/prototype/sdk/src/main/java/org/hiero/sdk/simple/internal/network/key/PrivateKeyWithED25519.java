@@ -1,27 +1,80 @@
 package org.hiero.sdk.simple.internal.network.key;
 
 import java.util.Arrays;
+import java.util.Objects;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
 import org.hiero.sdk.simple.network.keys.KeyEncoding;
 import org.hiero.sdk.simple.network.keys.PrivateKey;
 import org.hiero.sdk.simple.network.keys.PublicKey;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record PrivateKeyWithED25519(byte[] keyData, KeyParameter keyParameter) implements PrivateKey {
+/**
+ * ED25519 private key with an optional chain code. The public key is derived lazily on first use and cached, as is
+ * the JCA form of the key if the key is used by the {@link JdkCryptoBackend}.
+ */
+public final class PrivateKeyWithED25519 implements PrivateKey {
 
-    public PrivateKeyWithED25519 {
-        keyData = Arrays.copyOf(keyData, keyData.length);
+    private final byte[] keyData;
+
+    @Nullable
+    private final KeyParameter keyParameter;
+
+    @Nullable
+    private volatile PublicKey publicKey;
+
+    private volatile java.security.@Nullable PrivateKey jdkKey;
+
+    public PrivateKeyWithED25519(@NonNull final byte[] keyData, @Nullable final KeyParameter keyParameter) {
+        Objects.requireNonNull(keyData, "keyData must not be null");
+        this.keyData = Arrays.copyOf(keyData, keyData.length);
+        this.keyParameter = keyParameter;
+    }
+
+    /**
+     * Returns the raw key bytes. The array is shared with this key and must not be modified, so it is only available
+     * inside this package.
+     *
+     * @return the raw key bytes
+     */
+    @NonNull
+    byte[] keyData() {
+        return keyData;
+    }
+
+    @Nullable
+    public KeyParameter keyParameter() {
+        return keyParameter;
+    }
+
+    /**
+     * Returns the JCA form of this key that has been stored by the {@link JdkCryptoBackend}.
+     *
+     * @return the JCA key or {@code null} if the key has not been used by the JDK backend yet
+     */
+    java.security.@Nullable PrivateKey jdkKey() {
+        return jdkKey;
+    }
+
+    void jdkKey(java.security.@NonNull PrivateKey jdkKey) {
+        this.jdkKey = jdkKey;
     }
 
     @Override
     public PublicKey createPublicKey() {
-        return KeyUtilitiesED25519.createPublicKey(this);
+        PublicKey result = publicKey;
+        if (result == null) {
+            // deriving twice in a race is harmless, the result is always the same immutable key
+            result = KeyUtilitiesED25519.createPublicKey(this);
+            publicKey = result;
+        }
+        return result;
     }
 
     @Override
     public byte[] sign(byte[] message) {
-        return KeyUtilitiesED25519.sign(this, message);
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ED25519).sign(this, message);
     }
 
     @Override
@@ -33,4 +86,17 @@ public record PrivateKeyWithED25519(byte[] keyData, KeyParameter keyParameter) i
     public KeyAlgorithm algorithm() {
         return KeyAlgorithm.ED25519;
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PrivateKeyWithED25519 other && Arrays.equals(keyData, other.keyData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keyData);
+    }
 }
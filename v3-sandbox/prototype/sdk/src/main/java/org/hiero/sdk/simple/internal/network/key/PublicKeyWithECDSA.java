@@ -1,21 +1,99 @@
 package org.hiero.sdk.simple.internal.network.key;
 
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import java.util.Arrays;
+import java.util.Objects;
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.math.ec.ECPoint;
 import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
 import org.hiero.sdk.simple.network.keys.KeyEncoding;
 import org.hiero.sdk.simple.network.keys.PublicKey;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record PublicKeyWithECDSA(byte[] keyData) implements PublicKey {
+/**
+ * ECDSA (secp256k1) public key in compressed form. The decoded curve point is kept once it is known, so repeated
+ * verifications neither decompress the point again nor rebuild the precomputed tables that BouncyCastle attaches to
+ * the point instance.
+ */
+public final class PublicKeyWithECDSA implements PublicKey {
 
-    public PublicKeyWithECDSA {
-        keyData = Arrays.copyOf(keyData, keyData.length);
+    private final byte[] keyData;
+
+    private final ByteString keyDataBytes;
+
+    private volatile com.hedera.hashgraph.sdk.proto.@Nullable Key protobufKey;
+
+    @Nullable
+    private volatile ECPublicKeyParameters publicKeyParameters;
+
+    public PublicKeyWithECDSA(@NonNull final byte[] keyData) {
+        Objects.requireNonNull(keyData, "keyData must not be null");
+        this.keyData = Arrays.copyOf(keyData, keyData.length);
+        this.keyDataBytes = UnsafeByteOperations.unsafeWrap(this.keyData);
+    }
+
+    PublicKeyWithECDSA(@NonNull final ECPoint q) {
+        Objects.requireNonNull(q, "q must not be null");
+        final ECPoint normalized = q.normalize();
+        this.keyData = normalized.getEncoded(true);
+        this.keyDataBytes = UnsafeByteOperations.unsafeWrap(this.keyData);
+        this.publicKeyParameters = new ECPublicKeyParameters(normalized, KeyUtilitiesECDSA.ECDSA_SECP256K1_DOMAIN);
+    }
+
+    /**
+     * Returns the raw key bytes. The array is shared with this key and must not be modified, so it is only available
+     * inside this package.
+     *
+     * @return the raw key bytes
+     */
+    @NonNull
+    byte[] keyData() {
+        return keyData;
+    }
+
+    /**
+     * Returns the raw key bytes as a {@link ByteString}. The bytes are shared with this key and not copied, this is
+     * safe because the key data is never modified.
+     *
+     * @return the raw key bytes
+     */
+    @NonNull
+    public ByteString keyDataBytes() {
+        return keyDataBytes;
+    }
+
+    /**
+     * Returns the protobuf form of this key. The message is created on the first call and reused afterward.
+     *
+     * @return the protobuf key
+     */
+    public com.hedera.hashgraph.sdk.proto.@NonNull Key protobufKey() {
+        com.hedera.hashgraph.sdk.proto.Key result = protobufKey;
+        if (result == null) {
+            result = com.hedera.hashgraph.sdk.proto.Key.newBuilder().setECDSASecp256K1(keyDataBytes).build();
+            protobufKey = result;
+        }
+        return result;
+    }
+
+    @NonNull
+    ECPublicKeyParameters publicKeyParameters() {
+        ECPublicKeyParameters result = publicKeyParameters;
+        if (result == null) {
+            // decoding twice in a race is harmless, both results describe the same point
+            final ECPoint q = KeyUtilitiesECDSA.ECDSA_SECP256K1_CURVE.getCurve().decodePoint(keyData).normalize();
+            result = new ECPublicKeyParameters(q, KeyUtilitiesECDSA.ECDSA_SECP256K1_DOMAIN);
+            publicKeyParameters = result;
+        }
+        return result;
     }
 
     @Override
     public boolean verify(byte[] message, byte[] signature) {
-        return KeyUtilitiesECDSA.verify(this, message, signature);
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ECDSA).verify(this, message, signature);
     }
 
     @Override
@@ -27,4 +105,17 @@ public record PublicKeyWithECDSA(byte[] keyData) implements PublicKey {
     public KeyAlgorithm algorithm() {
         return KeyAlgorithm.ECDSA;
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PublicKeyWithECDSA other && Arrays.equals(keyData, other.keyData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keyData);
+    }
 }
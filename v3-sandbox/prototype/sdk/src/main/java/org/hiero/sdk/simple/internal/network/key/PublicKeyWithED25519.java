@@ -1,20 +1,113 @@
 package org.hiero.sdk.simple.internal.network.key;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import java.util.Arrays;
+import java.util.Objects;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
 import org.hiero.sdk.simple.network.keys.KeyEncoding;
 import org.hiero.sdk.simple.network.keys.PublicKey;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record PublicKeyWithED25519(byte[] keyData) implements PublicKey {
+/**
+ * ED25519 public key. The decoded point, or the fact that the key is not a valid point, is kept after the first
+ * verification so that repeated verifications with the same key do not decompress the key again. The same holds for
+ * the JCA form of the key that is used by the {@link JdkCryptoBackend}.
+ */
+public final class PublicKeyWithED25519 implements PublicKey {
 
-    public PublicKeyWithED25519 {
-        keyData = Arrays.copyOf(keyData, keyData.length);
+    private final byte[] keyData;
+
+    private final ByteString keyDataBytes;
+
+    private volatile com.hedera.hashgraph.sdk.proto.@Nullable Key protobufKey;
+
+    private volatile Ed25519.@Nullable PublicPoint publicPoint;
+
+    private volatile boolean invalidPoint;
+
+    private volatile java.security.@Nullable PublicKey jdkKey;
+
+    public PublicKeyWithED25519(@NonNull final byte[] keyData) {
+        Objects.requireNonNull(keyData, "keyData must not be null");
+        this.keyData = Arrays.copyOf(keyData, keyData.length);
+        this.keyDataBytes = UnsafeByteOperations.unsafeWrap(this.keyData);
+    }
+
+    /**
+     * Returns the raw key bytes. The array is shared with this key and must not be modified, so it is only available
+     * inside this package.
+     *
+     * @return the raw key bytes
+     */
+    @NonNull
+    byte[] keyData() {
+        return keyData;
+    }
+
+    /**
+     * Returns the raw key bytes as a {@link ByteString}. The bytes are shared with this key and not copied, this is
+     * safe because the key data is never modified.
+     *
+     * @return the raw key bytes
+     */
+    @NonNull
+    public ByteString keyDataBytes() {
+        return keyDataBytes;
+    }
+
+    /**
+     * Returns the protobuf form of this key. The message is created on the first call and reused afterward.
+     *
+     * @return the protobuf key
+     */
+    public com.hedera.hashgraph.sdk.proto.@NonNull Key protobufKey() {
+        com.hedera.hashgraph.sdk.proto.Key result = protobufKey;
+        if (result == null) {
+            result = com.hedera.hashgraph.sdk.proto.Key.newBuilder().setEd25519(keyDataBytes).build();
+            protobufKey = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the decoded point of this key.
+     *
+     * @return the decoded point or {@code null} if the key is not a valid point
+     */
+    Ed25519.@Nullable PublicPoint publicPoint() {
+        Ed25519.PublicPoint result = publicPoint;
+        if (result == null && !invalidPoint) {
+            // invalid keys are remembered as well, so they are not decoded again on every verification
+            result = keyData.length == Ed25519.PUBLIC_KEY_SIZE
+                    ? Ed25519.validatePublicKeyPartialExport(keyData, 0) : null;
+            if (result == null) {
+                invalidPoint = true;
+            } else {
+                publicPoint = result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the JCA form of this key that has been stored by the {@link JdkCryptoBackend}.
+     *
+     * @return the JCA key or {@code null} if the key has not been used by the JDK backend yet
+     */
+    java.security.@Nullable PublicKey jdkKey() {
+        return jdkKey;
+    }
+
+    void jdkKey(java.security.@NonNull PublicKey jdkKey) {
+        this.jdkKey = jdkKey;
     }
 
     @Override
     public boolean verify(byte[] message, byte[] signature) {
-        return KeyUtilitiesED25519.verify(this, message, signature);
+        return CryptoBackendLoader.getInstance().forAlgorithm(KeyAlgorithm.ED25519).verify(this, message, signature);
     }
 
     @Override
@@ -26,4 +119,17 @@ public record PublicKeyWithED25519(byte[] keyData) implements PublicKey {
     public KeyAlgorithm algorithm() {
         return KeyAlgorithm.ED25519;
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof PublicKeyWithED25519 other && Arrays.equals(keyData, other.keyData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(keyData);
+    }
 }
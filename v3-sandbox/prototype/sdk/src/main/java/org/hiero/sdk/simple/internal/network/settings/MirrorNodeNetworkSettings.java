@@ -0,0 +1,52 @@
+package org.hiero.sdk.simple.internal.network.settings;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Network settings that add a mirror node address to other network settings.
+ *
+ * @param settings          the network settings
+ * @param mirrorNodeAddress the mirror node address
+ * @see NetworkSettings#withMirrorNodeAddress(String)
+ */
+public record MirrorNodeNetworkSettings(@NonNull NetworkSettings settings, @NonNull String mirrorNodeAddress)
+        implements NetworkSettings {
+
+    public MirrorNodeNetworkSettings {
+        Objects.requireNonNull(settings, "settings must not be null");
+        Objects.requireNonNull(mirrorNodeAddress, "mirrorNodeAddress must not be null");
+        if (mirrorNodeAddress.isBlank()) {
+            throw new IllegalArgumentException("mirrorNodeAddress must not be blank");
+        }
+    }
+
+    @Override
+    public @NonNull byte[] getId() {
+        return settings.getId();
+    }
+
+    @Override
+    public @NonNull String getNetworkIdentifier() {
+        return settings.getNetworkIdentifier();
+    }
+
+    @Override
+    public @NonNull Optional<String> getNetworkName() {
+        return settings.getNetworkName();
+    }
+
+    @Override
+    public @NonNull Set<ConsensusNode> getConsensusNodes() {
+        return settings.getConsensusNodes();
+    }
+
+    @Override
+    public @NonNull Optional<String> getMirrorNodeAddress() {
+        return Optional.of(mirrorNodeAddress);
+    }
+}
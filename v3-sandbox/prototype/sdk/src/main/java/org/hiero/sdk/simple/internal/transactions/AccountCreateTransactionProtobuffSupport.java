@@ -1,7 +1,6 @@
 package org.hiero.sdk.simple.internal.transactions;
 
 import com.google.auto.service.AutoService;
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.CryptoCreateTransactionBody;
 import com.hedera.hashgraph.sdk.proto.Transaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
@@ -9,14 +8,13 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
 import java.time.Duration;
 import java.util.Objects;
-import org.hiero.sdk.simple.HieroClient;
-import org.hiero.sdk.simple.internal.grpc.GrpcMethodDescriptorFactory;
+import org.hiero.sdk.simple.internal.grpc.HieroMethodDescriptors;
 import org.hiero.sdk.simple.internal.util.ProtobufUtil;
 import org.hiero.sdk.simple.network.Hbar;
 import org.hiero.sdk.simple.network.HbarUnit;
-import org.hiero.sdk.simple.network.TransactionId;
 import org.hiero.sdk.simple.transactions.AccountCreateResponse;
 import org.hiero.sdk.simple.transactions.AccountCreateTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionContext;
 import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
 import org.jspecify.annotations.NonNull;
 
@@ -29,6 +27,11 @@ public class AccountCreateTransactionProtobuffSupport implements
         return AccountCreateTransaction.class;
     }
 
+    @Override
+    public TransactionBody.@NonNull DataCase getBodyDataCase() {
+        return TransactionBody.DataCase.CRYPTOCREATEACCOUNT;
+    }
+
     @Override
     public AccountCreateTransaction unpack(TransactionBody transactionBody) {
         final CryptoCreateTransactionBody cryptoCreateBody = transactionBody.getCryptoCreateAccount();
@@ -44,23 +47,14 @@ public class AccountCreateTransactionProtobuffSupport implements
 
     @Override
     public MethodDescriptor<Transaction, TransactionResponse> getMethodDescriptor() {
-        return GrpcMethodDescriptorFactory.getOrCreateMethodDescriptor(
-                "proto.CryptoService",
-                "createAccount",
-                com.hedera.hashgraph.sdk.proto.Transaction::getDefaultInstance,
-                com.hedera.hashgraph.sdk.proto.TransactionResponse::getDefaultInstance);
+        return HieroMethodDescriptors.CryptoService.CREATE_ACCOUNT;
     }
 
     @Override
-    public AccountCreateResponse createResponse(HieroClient client, Transaction protoTransaction,
-            TransactionResponse protoResponse) {
-        try {
-            final TransactionBody body = TransactionBody.parseFrom(protoTransaction.getBodyBytes());
-            final TransactionId transactionId = ProtobufUtil.fromProtobuf(body.getTransactionID());
-            return new AccountCreateResponse(client, transactionId);
-        } catch (InvalidProtocolBufferException e) {
-            throw new RuntimeException("Error in converting protobuff objects", e);
-        }
+    public AccountCreateResponse createResponse(@NonNull final TransactionContext context,
+            @NonNull final TransactionResponse protoResponse) {
+        Objects.requireNonNull(context, "context must not be null");
+        return new AccountCreateResponse(context.client(), context.transactionId());
     }
 
     @Override
@@ -0,0 +1,85 @@
+package org.hiero.sdk.simple.internal.transactions;
+
+import com.google.auto.service.AutoService;
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.TransferList;
+import io.grpc.MethodDescriptor;
+import java.util.Map;
+import java.util.Objects;
+import org.hiero.sdk.simple.internal.grpc.HieroMethodDescriptors;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.HbarUnit;
+import org.hiero.sdk.simple.transactions.CryptoTransferResponse;
+import org.hiero.sdk.simple.transactions.CryptoTransferTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionContext;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.jspecify.annotations.NonNull;
+
+@SuppressWarnings("rawtypes") // @AutoService can not name the generic service interface exactly
+@AutoService(TransactionProtobuffSupport.class)
+public class CryptoTransferTransactionProtobuffSupport implements
+        TransactionProtobuffSupport<CryptoTransferResponse, CryptoTransferTransaction> {
+
+    @Override
+    public Class<CryptoTransferTransaction> getTransactionClass() {
+        return CryptoTransferTransaction.class;
+    }
+
+    @Override
+    public TransactionBody.@NonNull DataCase getBodyDataCase() {
+        return TransactionBody.DataCase.CRYPTOTRANSFER;
+    }
+
+    @Override
+    public CryptoTransferTransaction unpack(TransactionBody transactionBody) {
+        final CryptoTransferTransactionBody cryptoTransferBody = transactionBody.getCryptoTransfer();
+        if (cryptoTransferBody.getTokenTransfersCount() > 0) {
+            throw new IllegalArgumentException("token transfers are not supported");
+        }
+        final CryptoTransferTransaction transaction = new CryptoTransferTransaction();
+        transaction.setFee(Hbar.of(transactionBody.getTransactionFee(), HbarUnit.TINYBAR));
+        transaction.setValidDuration(ProtobufUtil.fromProtobuf(transactionBody.getTransactionValidDuration()));
+        transaction.setMemo(transactionBody.getMemo());
+        for (final AccountAmount accountAmount : cryptoTransferBody.getTransfers().getAccountAmountsList()) {
+            transaction.addHbarTransfer(ProtobufUtil.fromProtobuf(accountAmount.getAccountID()),
+                    Hbar.of(accountAmount.getAmount(), HbarUnit.TINYBAR));
+        }
+        return transaction;
+    }
+
+    @Override
+    public MethodDescriptor<Transaction, TransactionResponse> getMethodDescriptor() {
+        return HieroMethodDescriptors.CryptoService.CRYPTO_TRANSFER;
+    }
+
+    @Override
+    public CryptoTransferResponse createResponse(@NonNull final TransactionContext context,
+            @NonNull final TransactionResponse protoResponse) {
+        Objects.requireNonNull(context, "context must not be null");
+        return new CryptoTransferResponse(context.client(), context.transactionId());
+    }
+
+    @Override
+    public void updateBodyBuilderWithSpecifics(CryptoTransferTransaction transaction,
+            TransactionBody.@NonNull Builder builder) {
+        Objects.requireNonNull(builder, "builder must not be null");
+        final TransferList.Builder transferList = TransferList.newBuilder();
+        long sum = 0;
+        for (final Map.Entry<AccountId, Hbar> transfer : transaction.getHbarTransfers().entrySet()) {
+            sum += transfer.getValue().tinybar();
+            transferList.addAccountAmounts(AccountAmount.newBuilder()
+                    .setAccountID(ProtobufUtil.toProtobuf(transfer.getKey()))
+                    .setAmount(transfer.getValue().tinybar()));
+        }
+        if (sum != 0) {
+            throw new IllegalStateException("hbar transfers must sum up to zero but sum up to " + sum + " tinybar");
+        }
+        builder.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transferList));
+    }
+}
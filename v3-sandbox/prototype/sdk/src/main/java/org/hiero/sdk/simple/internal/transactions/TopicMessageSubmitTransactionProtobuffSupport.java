@@ -0,0 +1,92 @@
+package org.hiero.sdk.simple.internal.transactions;
+
+import com.google.auto.service.AutoService;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.MethodDescriptor;
+import java.util.Objects;
+import org.hiero.sdk.simple.internal.grpc.HieroMethodDescriptors;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.HbarUnit;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitResponse;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitTransaction;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitTransaction.ChunkInfo;
+import org.hiero.sdk.simple.transactions.spi.TransactionContext;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.jspecify.annotations.NonNull;
+
+@SuppressWarnings("rawtypes") // @AutoService can not name the generic service interface exactly
+@AutoService(TransactionProtobuffSupport.class)
+public class TopicMessageSubmitTransactionProtobuffSupport implements
+        TransactionProtobuffSupport<TopicMessageSubmitResponse, TopicMessageSubmitTransaction> {
+
+    @Override
+    public Class<TopicMessageSubmitTransaction> getTransactionClass() {
+        return TopicMessageSubmitTransaction.class;
+    }
+
+    @Override
+    public TransactionBody.@NonNull DataCase getBodyDataCase() {
+        return TransactionBody.DataCase.CONSENSUSSUBMITMESSAGE;
+    }
+
+    @Override
+    public TopicMessageSubmitTransaction unpack(TransactionBody transactionBody) {
+        final ConsensusSubmitMessageTransactionBody submitMessageBody = transactionBody.getConsensusSubmitMessage();
+        final TopicMessageSubmitTransaction transaction = new TopicMessageSubmitTransaction();
+        transaction.setFee(Hbar.of(transactionBody.getTransactionFee(), HbarUnit.TINYBAR));
+        transaction.setValidDuration(ProtobufUtil.fromProtobuf(transactionBody.getTransactionValidDuration()));
+        transaction.setMemo(transactionBody.getMemo());
+        if (submitMessageBody.hasTopicID()) {
+            transaction.setTopicId(ProtobufUtil.fromProtobuf(submitMessageBody.getTopicID()));
+        }
+        transaction.setMessage(submitMessageBody.getMessage().toByteArray());
+        if (submitMessageBody.hasChunkInfo()) {
+            final ConsensusMessageChunkInfo chunkInfo = submitMessageBody.getChunkInfo();
+            transaction.setChunkInfo(new ChunkInfo(
+                    ProtobufUtil.fromProtobuf(chunkInfo.getInitialTransactionID()),
+                    chunkInfo.getNumber(),
+                    chunkInfo.getTotal()));
+        }
+        return transaction;
+    }
+
+    @Override
+    public MethodDescriptor<Transaction, TransactionResponse> getMethodDescriptor() {
+        return HieroMethodDescriptors.ConsensusService.SUBMIT_MESSAGE;
+    }
+
+    @Override
+    public TopicMessageSubmitResponse createResponse(@NonNull final TransactionContext context,
+            @NonNull final TransactionResponse protoResponse) {
+        Objects.requireNonNull(context, "context must not be null");
+        return new TopicMessageSubmitResponse(context.client(), context.transactionId());
+    }
+
+    @Override
+    public void updateBodyBuilderWithSpecifics(TopicMessageSubmitTransaction transaction,
+            TransactionBody.@NonNull Builder builder) {
+        Objects.requireNonNull(builder, "builder must not be null");
+        if (transaction.getTopicId() == null) {
+            throw new IllegalStateException("topicId must be set");
+        }
+        // getMessage() already returns a copy that nobody else references, so it can be wrapped without copying
+        final ConsensusSubmitMessageTransactionBody.Builder submitMessageBuilder =
+                ConsensusSubmitMessageTransactionBody.newBuilder()
+                        .setTopicID(ProtobufUtil.toProtobuf(transaction.getTopicId()))
+                        .setMessage(UnsafeByteOperations.unsafeWrap(transaction.getMessage()));
+        final ChunkInfo chunkInfo = transaction.getChunkInfo();
+        if (chunkInfo != null) {
+            submitMessageBuilder.setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                    .setInitialTransactionID(ProtobufUtil.toProtobuf(chunkInfo.initialTransactionId()))
+                    .setNumber(chunkInfo.number())
+                    .setTotal(chunkInfo.total()));
+        }
+        builder.setConsensusSubmitMessage(submitMessageBuilder);
+    }
+}
@@ -1,19 +1,33 @@
 package org.hiero.sdk.simple.internal.util;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.proto.AccountID;
 import com.hedera.hashgraph.sdk.proto.ExchangeRateSet;
 import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
 import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import com.hedera.hashgraph.sdk.proto.Timestamp;
 import com.hedera.hashgraph.sdk.proto.TimestampSeconds;
+import com.hedera.hashgraph.sdk.proto.TopicID;
 import com.hedera.hashgraph.sdk.proto.TransactionID;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.hiero.sdk.simple.ExchangeRate;
 import org.hiero.sdk.simple.TransactionStatus;
+import org.hiero.sdk.simple.internal.network.key.PublicKeyWithECDSA;
+import org.hiero.sdk.simple.internal.network.key.PublicKeyWithED25519;
 import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.TopicId;
 import org.hiero.sdk.simple.network.TransactionId;
 import org.hiero.sdk.simple.network.keys.Key;
 import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
@@ -23,6 +37,18 @@ import org.jspecify.annotations.NonNull;
 
 public final class ProtobufUtil {
 
+    // operator and node accounts are a small set that is converted for every transaction, the least recently used
+    // entries are evicted so that accounts that are used only once do not push out the operator and node accounts
+    private static final int MAX_CACHED_ACCOUNT_IDS = 1024;
+
+    private static final Map<AccountId, AccountID> ACCOUNT_ID_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<AccountId, AccountID> eldest) {
+                    return size() > MAX_CACHED_ACCOUNT_IDS;
+                }
+            });
+
     public static TransactionID toProtobuf(@NonNull TransactionId transactionId) {
         var id = TransactionID.newBuilder();
 
@@ -37,12 +63,40 @@ public final class ProtobufUtil {
         return id.build();
     }
 
+    public static TopicID toProtobuf(@NonNull TopicId topicId) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return TopicID.newBuilder()
+                .setShardNum(topicId.shard())
+                .setRealmNum(topicId.realm())
+                .setTopicNum(topicId.num())
+                .build();
+    }
+
+    public static TopicId fromProtobuf(@NonNull TopicID topicID) {
+        Objects.requireNonNull(topicID, "topicID must not be null");
+        return new TopicId(topicID.getShardNum(), topicID.getRealmNum(), topicID.getTopicNum(), null);
+    }
+
+    /**
+     * Convert an account ID into its protobuf form. Protobuf messages are immutable, so the message of an account ID
+     * is cached and shared by all transactions that use the account as operator or node.
+     *
+     * @param accountId the account ID
+     * @return the protobuf
+     */
     public static AccountID toProtobuf(@NonNull AccountId accountId) {
-        var accountIdBuilder = AccountID.newBuilder()
+        Objects.requireNonNull(accountId, "accountId must not be null");
+        final AccountID cached = ACCOUNT_ID_CACHE.get(accountId);
+        if (cached != null) {
+            return cached;
+        }
+        final AccountID result = AccountID.newBuilder()
                 .setShardNum(accountId.shard())
-                .setRealmNum(accountId.realm());
-        accountIdBuilder.setAccountNum(accountId.num());
-        return accountIdBuilder.build();
+                .setRealmNum(accountId.realm())
+                .setAccountNum(accountId.num())
+                .build();
+        ACCOUNT_ID_CACHE.put(accountId, result);
+        return result;
     }
 
 
@@ -99,14 +153,18 @@ public final class ProtobufUtil {
     }
 
     public static com.hedera.hashgraph.sdk.proto.Key toKeyProtobuf(Key key) {
-        if (key instanceof PublicKey publicKey) {
+        if (key instanceof PublicKeyWithED25519 publicKey) {
+            return publicKey.protobufKey();
+        } else if (key instanceof PublicKeyWithECDSA publicKey) {
+            return publicKey.protobufKey();
+        } else if (key instanceof PublicKey publicKey) {
             if (publicKey.algorithm() == KeyAlgorithm.ECDSA) {
                 return com.hedera.hashgraph.sdk.proto.Key.newBuilder()
-                        .setECDSASecp256K1(ByteString.copyFrom(publicKey.toBytes(KeyEncoding.RAW)))
+                        .setECDSASecp256K1(toPubKeyPrefix(publicKey))
                         .build();
             } else {
                 return com.hedera.hashgraph.sdk.proto.Key.newBuilder()
-                        .setEd25519(ByteString.copyFrom(publicKey.toBytes(KeyEncoding.RAW)))
+                        .setEd25519(toPubKeyPrefix(publicKey))
                         .build();
             }
         } else {
@@ -114,20 +172,108 @@ public final class ProtobufUtil {
         }
     }
 
+    /**
+     * Creates the signature pair of a public key and a signature. The signature is wrapped and not copied, the caller
+     * must not modify the array afterward.
+     *
+     * @param publicKey the public key
+     * @param signature the signature
+     * @return the signature pair
+     */
     public static SignaturePair toSignaturePairProtobuf(PublicKey publicKey, byte[] signature) {
-        if (publicKey.algorithm() == KeyAlgorithm.ECDSA) {
+        return toSignaturePairProtobuf(publicKey.algorithm(), toPubKeyPrefix(publicKey), signature);
+    }
+
+    /**
+     * Creates a signature pair with the given public key prefix. The signature is wrapped and not copied, the caller
+     * must not modify the array afterward.
+     *
+     * @param algorithm    the algorithm of the signing key
+     * @param pubKeyPrefix the prefix of the raw public key
+     * @param signature    the signature
+     * @return the signature pair
+     */
+    public static SignaturePair toSignaturePairProtobuf(KeyAlgorithm algorithm, ByteString pubKeyPrefix,
+            byte[] signature) {
+        final ByteString wrappedSignature = UnsafeByteOperations.unsafeWrap(signature);
+        if (algorithm == KeyAlgorithm.ECDSA) {
             return SignaturePair.newBuilder()
-                    .setPubKeyPrefix(ByteString.copyFrom(publicKey.toBytes(KeyEncoding.RAW)))
-                    .setECDSASecp256K1(ByteString.copyFrom(signature))
+                    .setPubKeyPrefix(pubKeyPrefix)
+                    .setECDSASecp256K1(wrappedSignature)
                     .build();
         } else {
             return SignaturePair.newBuilder()
-                    .setPubKeyPrefix(ByteString.copyFrom(publicKey.toBytes(KeyEncoding.RAW)))
-                    .setEd25519(ByteString.copyFrom(signature))
+                    .setPubKeyPrefix(pubKeyPrefix)
+                    .setEd25519(wrappedSignature)
                     .build();
         }
     }
 
+    /**
+     * Returns the raw bytes of a public key as used for the public key prefix of a signature pair.
+     *
+     * @param publicKey the public key
+     * @return the raw public key bytes
+     */
+    public static ByteString toPubKeyPrefix(PublicKey publicKey) {
+        if (publicKey instanceof PublicKeyWithED25519 ed25519Key) {
+            return ed25519Key.keyDataBytes();
+        } else if (publicKey instanceof PublicKeyWithECDSA ecdsaKey) {
+            return ecdsaKey.keyDataBytes();
+        }
+        return UnsafeByteOperations.unsafeWrap(publicKey.toBytes(KeyEncoding.RAW));
+    }
+
+    /**
+     * Computes for every key the length of the shortest prefix that is neither a prefix of any other of the given keys
+     * nor of any of the other keys. The other keys are the keys that the network might match a prefix against without
+     * having a signature of them, for example keys of a threshold key that did not sign. Prefixes are at least one
+     * byte long, so that a prefix never matches all keys of a transaction, and at most as long as the key itself.
+     *
+     * @param publicKeys the raw public keys, must not contain duplicates
+     * @param otherKeys  further raw public keys the prefixes must be unique against, may contain the public keys
+     * @return the prefix length of every public key, in the order of the given public keys
+     */
+    public static int[] shortestUniquePrefixLengths(List<ByteString> publicKeys, Collection<ByteString> otherKeys) {
+        Objects.requireNonNull(publicKeys, "publicKeys must not be null");
+        Objects.requireNonNull(otherKeys, "otherKeys must not be null");
+        final Set<ByteString> signers = Set.copyOf(publicKeys);
+        final List<ByteString> keys = new ArrayList<>(publicKeys);
+        otherKeys.stream()
+                .distinct()
+                .filter(key -> !signers.contains(key))
+                .forEach(keys::add);
+        final int[] lengths = new int[keys.size()];
+        // once sorted, the longest prefix a key shares with any other key is the one shared with a neighbour
+        final Integer[] order = new Integer[keys.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        final Comparator<ByteString> comparator = ByteString.unsignedLexicographicalComparator();
+        Arrays.sort(order, (a, b) -> comparator.compare(keys.get(a), keys.get(b)));
+        for (int i = 0; i < order.length; i++) {
+            final ByteString key = keys.get(order[i]);
+            int common = 0;
+            if (i > 0) {
+                common = commonPrefixLength(key, keys.get(order[i - 1]));
+            }
+            if (i < order.length - 1) {
+                common = Math.max(common, commonPrefixLength(key, keys.get(order[i + 1])));
+            }
+            lengths[order[i]] = Math.min(key.size(), common + 1);
+        }
+        return Arrays.copyOf(lengths, publicKeys.size());
+    }
+
+    private static int commonPrefixLength(ByteString a, ByteString b) {
+        final int length = Math.min(a.size(), b.size());
+        int i = 0;
+        while (i < length && a.byteAt(i) == b.byteAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
     public static TransactionId fromProtobuf(TransactionID transactionID) {
         var accountId = transactionID.hasAccountID() ? fromProtobuf(transactionID.getAccountID()) : null;
         var validStart = transactionID.hasTransactionValidStart()
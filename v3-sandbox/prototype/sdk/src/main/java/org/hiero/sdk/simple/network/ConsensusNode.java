@@ -1,8 +1,33 @@
 package org.hiero.sdk.simple.network;
 
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record ConsensusNode(@NonNull String ip, @NonNull String port, @NonNull String account) {
+/**
+ * A consensus node of a network.
+ *
+ * @param ip              the IP address or host name of the node
+ * @param port            the gRPC port of the node
+ * @param account         the account ID of the node
+ * @param certificateHash the hex encoded SHA-384 hash of the TLS certificate of the node as published in the address
+ *                        book, or null if the node is not connected by TLS
+ */
+public record ConsensusNode(@NonNull String ip, @NonNull String port, @NonNull String account,
+                            @Nullable String certificateHash) {
+
+    /**
+     * The port on which consensus nodes accept plaintext gRPC connections.
+     */
+    public static final String PLAINTEXT_PORT = "50211";
+
+    /**
+     * The port on which consensus nodes accept TLS gRPC connections.
+     */
+    public static final String TLS_PORT = "50212";
+
+    public ConsensusNode(@NonNull final String ip, @NonNull final String port, @NonNull final String account) {
+        this(ip, port, account, null);
+    }
 
     /**
      * Get the address of the consensus node. The address is the IP address and port of the consensus node.
@@ -23,4 +48,13 @@ public record ConsensusNode(@NonNull String ip, @NonNull String port, @NonNull S
     public AccountId getAccountId() {
         return AccountId.from(account);
     }
+
+    /**
+     * Returns whether the node is connected by TLS, which is the case for the {@link #TLS_PORT}.
+     *
+     * @return true if the node is connected by TLS
+     */
+    public boolean usesTls() {
+        return TLS_PORT.equals(port);
+    }
 }
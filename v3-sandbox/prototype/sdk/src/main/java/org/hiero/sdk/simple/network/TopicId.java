@@ -0,0 +1,40 @@
+package org.hiero.sdk.simple.network;
+
+import java.util.regex.Pattern;
+import org.jspecify.annotations.NonNull;
+
+public record TopicId(long shard,
+                      long realm,
+                      long num,
+                      String checksum) implements Address {
+
+    private static final Pattern ENTITY_ID_REGEX =
+            Pattern.compile("(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)(?:-([a-z]{5}))?$");
+
+    public static TopicId from(String id) {
+        var match = ENTITY_ID_REGEX.matcher(id);
+        if (match.find()) {
+            return new TopicId(
+                    Long.parseLong(match.group(1)),
+                    Long.parseLong(match.group(2)),
+                    Long.parseLong(match.group(3)),
+                    match.group(4));
+        }
+        throw new IllegalArgumentException("Invalid Topic ID '" + id + "'");
+    }
+
+    @Override
+    public boolean validateChecksum(@NonNull Network network) {
+        throw new UnsupportedOperationException("Not yet implemented");
+    }
+
+    /**
+     *  Returns a human readable string representation of this address.
+     *
+     * @return a human readable string representation of this address
+     */
+    @Override
+    public String toString() {
+        return shard() + "." + realm() + "." + num();
+    }
+}
@@ -1,6 +1,8 @@
 package org.hiero.sdk.simple.network.keys;
 
 import java.util.Objects;
+import java.util.stream.Stream;
+import org.hiero.sdk.simple.internal.network.key.BulkKeyGenerator;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -41,4 +43,35 @@ public record KeyPair(@NonNull PrivateKey privateKey, @NonNull PublicKey publicK
     public static KeyPair generate(@NonNull final KeyAlgorithm algorithm) {
         return of(PrivateKey.generate(algorithm));
     }
+
+    /**
+     * Generates {@code count} key pairs for the given algorithm. The keys are generated in parallel in batches of
+     * {@value BulkKeyGenerator#BATCH_SIZE}, and the next batch is only generated once the stream has consumed the
+     * previous one. Very large amounts can therefore be written out while at most one batch is held in memory.
+     *
+     * @param algorithm the key algorithm
+     * @param count     the number of key pairs
+     * @return a sequential stream of the key pairs
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    @NonNull
+    public static Stream<KeyPair> generate(@NonNull final KeyAlgorithm algorithm, final int count) {
+        return BulkKeyGenerator.generate(algorithm, count);
+    }
+
+    /**
+     * Generates {@code count} key pairs that are derived deterministically from the given seed, in the same batches as
+     * {@link #generate(KeyAlgorithm, int)}. The same seed always results in the same keys, which makes load tests
+     * reproducible. The keys are only as secret as the seed and must never be used outside of tests.
+     *
+     * @param algorithm the key algorithm
+     * @param count     the number of key pairs
+     * @param seed      the seed
+     * @return a sequential stream of the key pairs
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    @NonNull
+    public static Stream<KeyPair> generate(@NonNull final KeyAlgorithm algorithm, final int count, final long seed) {
+        return BulkKeyGenerator.generate(algorithm, count, seed);
+    }
 }
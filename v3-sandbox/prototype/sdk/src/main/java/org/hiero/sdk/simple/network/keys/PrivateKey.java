@@ -1,5 +1,6 @@
 package org.hiero.sdk.simple.network.keys;
 
+import java.util.Objects;
 import org.bouncycastle.util.encoders.Hex;
 import org.hiero.sdk.simple.internal.network.key.KeyFactory;
 import org.jspecify.annotations.NonNull;
@@ -36,6 +37,26 @@ public interface PrivateKey extends Key {
     @NonNull
     byte[] sign(@NonNull byte[] message);
 
+    /**
+     * Signs a message using this private key and writes the signature into the given buffer. Implementations can
+     * override this method to avoid allocating a new signature array for every call.
+     *
+     * @param message   the message to sign
+     * @param signature the buffer the signature is written to
+     * @param offset    the offset in the buffer
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if the signature does not fit into the buffer at the offset
+     */
+    default int sign(@NonNull final byte[] message, @NonNull final byte[] signature, final int offset) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        final byte[] result = sign(message);
+        if (offset < 0 || signature.length - offset < result.length) {
+            throw new IllegalArgumentException("signature buffer too small");
+        }
+        System.arraycopy(result, 0, signature, offset, result.length);
+        return result.length;
+    }
+
     /**
      * Creates a view of this key as a {@link java.security.PrivateKey} with the given encoding format.
      *
@@ -76,6 +97,7 @@ public interface PrivateKey extends Key {
      *
      * @param privateKey the encoded private key bytes
      * @return the private key
+     * @throws IllegalArgumentException if the bytes are not a private key of a known format and algorithm
      */
     //TODO: Do we really want to have that method without the definition of the KeyAlgorithm and KeyEncoding?
     @NonNull
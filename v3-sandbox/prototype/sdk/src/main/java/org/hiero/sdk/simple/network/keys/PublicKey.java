@@ -1,5 +1,6 @@
 package org.hiero.sdk.simple.network.keys;
 
+import java.util.Objects;
 import org.hiero.sdk.simple.internal.network.key.KeyFactory;
 import org.jspecify.annotations.NonNull;
 
@@ -17,6 +18,21 @@ public interface PublicKey extends Key {
      */
     boolean verify(@NonNull byte[] message, @NonNull byte[] signature);
 
+    /**
+     * Verifies a signature against a message using this public key. The result is taken from the given cache if the
+     * same verification has been done before.
+     *
+     * @param message   the original message
+     * @param signature the signature to verify
+     * @param cache     the cache for verification results
+     * @return true if the signature is valid for the message, false otherwise
+     */
+    default boolean verify(@NonNull final byte[] message, @NonNull final byte[] signature,
+            @NonNull final VerificationCache cache) {
+        Objects.requireNonNull(cache, "cache must not be null");
+        return cache.verify(this, message, signature);
+    }
+
     /**
      * Creates a view of this key as a {@link java.security.PublicKey} with the given encoding format.
      *
@@ -0,0 +1,36 @@
+package org.hiero.sdk.simple.network.keys;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A message together with a signature and the public key the signature should be verified with.
+ *
+ * @param publicKey the public key
+ * @param message   the signed message
+ * @param signature the signature
+ */
+public record SignedMessage(@NonNull PublicKey publicKey, @NonNull byte[] message, @NonNull byte[] signature) {
+
+    public SignedMessage {
+        Objects.requireNonNull(publicKey, "publicKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(signature, "signature must not be null");
+    }
+
+    /**
+     * Verifies the signature of the message with the public key.
+     *
+     * @return true if the signature is valid, false if it is invalid or the key or the signature is malformed
+     */
+    public boolean verify() {
+        try {
+            return publicKey.verify(message, signature);
+        } catch (RuntimeException e) {
+            // the backends fail with different runtime exceptions for malformed input, for example a signature of the
+            // wrong length or a point that is not on the curve
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.hiero.sdk.simple.network.keys.spi;
+
+import java.util.Objects;
+import java.util.Set;
+import org.hiero.sdk.simple.internal.network.key.CryptoBackendLoader;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * SPI interface for the cryptographic operations behind {@link PrivateKey} and {@link PublicKey}. Java SPI
+ * functionality is documented at {@link java.util.ServiceLoader}.
+ * <p>
+ * The SDK uses the BouncyCastle based backend by default. Another backend can be selected by setting the system
+ * property {@value #BACKEND_PROPERTY} to the name of the backend. The selected backend is only used for the algorithms
+ * it supports, all other algorithms fall back to the default backend.
+ */
+public interface CryptoBackend {
+
+    /**
+     * The system property that defines the name of the backend that should be used.
+     */
+    String BACKEND_PROPERTY = "hiero.crypto.backend";
+
+    /**
+     * Returns the name of the backend.
+     *
+     * @return the name of the backend
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Checks if the backend supports the given algorithm.
+     *
+     * @param algorithm the key algorithm
+     * @return true if the backend supports the algorithm
+     */
+    boolean supports(@NonNull KeyAlgorithm algorithm);
+
+    /**
+     * Generates a new private key.
+     *
+     * @param algorithm the key algorithm
+     * @return a new private key
+     */
+    @NonNull
+    PrivateKey generatePrivateKey(@NonNull KeyAlgorithm algorithm);
+
+    /**
+     * Signs a message. The message is hashed as defined by the algorithm of the key (Keccak-256 for ECDSA).
+     *
+     * @param privateKey the private key
+     * @param message    the message to sign
+     * @return the signature
+     */
+    @NonNull
+    byte[] sign(@NonNull PrivateKey privateKey, @NonNull byte[] message);
+
+    /**
+     * Verifies the signature of a message.
+     *
+     * @param publicKey the public key
+     * @param message   the signed message
+     * @param signature the signature
+     * @return true if the signature is valid
+     */
+    boolean verify(@NonNull PublicKey publicKey, @NonNull byte[] message, @NonNull byte[] signature);
+
+    /**
+     * Signs a message and writes the signature into the given buffer. Backends that can write the signature directly
+     * override this method, the default implementation copies the result of {@link #sign(PrivateKey, byte[])}.
+     *
+     * @param privateKey the private key
+     * @param message    the message to sign
+     * @param signature  the buffer the signature is written to
+     * @param offset     the offset in the buffer
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if the signature does not fit into the buffer at the offset
+     */
+    default int sign(@NonNull final PrivateKey privateKey, @NonNull final byte[] message,
+            @NonNull final byte[] signature, final int offset) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        final byte[] result = sign(privateKey, message);
+        if (offset < 0 || signature.length - offset < result.length) {
+            throw new IllegalArgumentException("signature buffer too small");
+        }
+        System.arraycopy(result, 0, signature, offset, result.length);
+        return result.length;
+    }
+
+    /**
+     * Checks if the backend supports the given digest algorithm.
+     *
+     * @param algorithm the digest algorithm
+     * @return true if the backend supports the digest algorithm
+     */
+    boolean supportsDigest(@NonNull DigestAlgorithm algorithm);
+
+    /**
+     * Computes the digest of a message.
+     *
+     * @param algorithm the digest algorithm
+     * @param message   the message
+     * @return the digest of the message
+     * @throws IllegalArgumentException if the backend does not support the digest algorithm
+     */
+    @NonNull
+    byte[] digest(@NonNull DigestAlgorithm algorithm, @NonNull byte[] message);
+
+    /**
+     * Returns all available backends.
+     *
+     * @return all available backends
+     */
+    @NonNull
+    static Set<CryptoBackend> all() {
+        return CryptoBackendLoader.getInstance().all();
+    }
+
+    /**
+     * Returns the backend that is used for the given algorithm. This is the backend defined by the
+     * {@value #BACKEND_PROPERTY} system property if it supports the algorithm, otherwise the default backend.
+     *
+     * @param algorithm the key algorithm
+     * @return the backend for the algorithm
+     */
+    @NonNull
+    static CryptoBackend forAlgorithm(@NonNull final KeyAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return CryptoBackendLoader.getInstance().forAlgorithm(algorithm);
+    }
+
+    /**
+     * Returns the backend that is used for the given digest algorithm. This is the backend defined by the
+     * {@value #BACKEND_PROPERTY} system property if it supports the digest algorithm, otherwise the default backend.
+     *
+     * @param algorithm the digest algorithm
+     * @return the backend for the digest algorithm
+     */
+    @NonNull
+    static CryptoBackend forDigest(@NonNull final DigestAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm must not be null");
+        return CryptoBackendLoader.getInstance().forDigest(algorithm);
+    }
+}
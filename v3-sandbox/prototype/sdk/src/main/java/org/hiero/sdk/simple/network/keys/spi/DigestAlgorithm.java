@@ -0,0 +1,18 @@
+package org.hiero.sdk.simple.network.keys.spi;
+
+/**
+ * The digest algorithms that a {@link CryptoBackend} can support.
+ */
+public enum DigestAlgorithm {
+
+    /**
+     * SHA-384, for example the hash of a transaction.
+     */
+    SHA_384,
+
+    /**
+     * Keccak-256 as used by Ethereum, for example the hash that is signed by an ECDSA key. This is not the
+     * standardized SHA3-256, which uses a different padding.
+     */
+    KECCAK_256
+}
@@ -3,6 +3,7 @@ package org.hiero.sdk.simple.network.settings;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import org.hiero.sdk.simple.internal.network.settings.MirrorNodeNetworkSettings;
 import org.hiero.sdk.simple.internal.network.settings.NetworkSettingsProviderLoader;
 import org.hiero.sdk.simple.network.ConsensusNode;
 import org.hiero.sdk.simple.network.settings.spi.NetworkSettingsProvider;
@@ -50,6 +51,31 @@ public interface NetworkSettings {
     @NonNull
     Set<ConsensusNode> getConsensusNodes();
 
+    /**
+     * Returns the address ({@code host:port}) of a mirror node that is used to keep the consensus nodes up to date
+     * with the address book of the network. If no address is provided the consensus nodes returned by
+     * {@link #getConsensusNodes()} are used for the whole lifetime of a client. The built-in network settings do not
+     * provide an address, the refresh can be enabled by {@link #withMirrorNodeAddress(String)}.
+     *
+     * @return the mirror node address
+     */
+    @NonNull
+    default Optional<String> getMirrorNodeAddress() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns network settings that equal these settings but keep the consensus nodes up to date with the address book
+     * that is streamed from the given mirror node (see {@link #getMirrorNodeAddress()}).
+     *
+     * @param mirrorNodeAddress the address of the mirror node in the form {@code host:port}
+     * @return the network settings with the mirror node address
+     */
+    @NonNull
+    default NetworkSettings withMirrorNodeAddress(@NonNull final String mirrorNodeAddress) {
+        return new MirrorNodeNetworkSettings(this, mirrorNodeAddress);
+    }
+
     /**
      * Returns all available network settings.
      *
@@ -0,0 +1,52 @@
+package org.hiero.sdk.simple.signing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.Response;
+import org.hiero.sdk.simple.Transaction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Helper to sign many packed transactions with an {@link AsyncTransactionSigner} in a single round trip.
+ */
+public final class AsyncSigning {
+
+    private AsyncSigning() {
+    }
+
+    /**
+     * Signs all node bodies of the given transactions with one call of the signer. The signatures are added to their
+     * bodies once the signer completed.
+     *
+     * @param transactions the transactions to sign
+     * @param signer       the signer
+     * @param <T>          the type of the transactions
+     * @param <R>          the type of the responses
+     * @return a future that completes with the signed transactions
+     */
+    @NonNull
+    public static <T extends Transaction, R extends Response> CompletableFuture<List<PackedTransaction<T, R>>> signAll(
+            @NonNull final List<PackedTransaction<T, R>> transactions, @NonNull final AsyncTransactionSigner signer) {
+        Objects.requireNonNull(transactions, "transactions must not be null");
+        Objects.requireNonNull(signer, "signer must not be null");
+        final List<SignableNodeTransactionBodyBytes> bodies = new ArrayList<>();
+        final List<PackedTransaction<T, R>> owners = new ArrayList<>();
+        transactions.forEach(transaction -> transaction.signableNodeBodyBytesList().forEach(body -> {
+            bodies.add(body);
+            owners.add(transaction);
+        }));
+        return signer.sign(List.copyOf(bodies)).thenApply(signatures -> {
+            if (signatures.size() != bodies.size()) {
+                throw new IllegalStateException(
+                        "Signer returned " + signatures.size() + " signatures for " + bodies.size() + " bodies");
+            }
+            for (int i = 0; i < signatures.size(); i++) {
+                owners.get(i).addSignature(bodies.get(i), signer.getPublicKey(), signatures.get(i));
+            }
+            return List.copyOf(transactions);
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package org.hiero.sdk.simple.signing;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A signer that signs transaction bodies asynchronously, for example by calling a remote HSM or KMS. Signers receive
+ * batches of bodies so that one round trip can sign many transactions.
+ */
+public interface AsyncTransactionSigner {
+
+    /**
+     * Returns the public key that belongs to the signing key.
+     *
+     * @return the public key
+     */
+    @NonNull
+    PublicKey getPublicKey();
+
+    /**
+     * Signs the given bodies.
+     *
+     * @param bodies the bodies to sign
+     * @return a future that completes with one signature per body, in the order of the bodies
+     */
+    @NonNull
+    CompletableFuture<List<byte[]>> sign(@NonNull List<SignableNodeTransactionBodyBytes> bodies);
+}
@@ -0,0 +1,35 @@
+package org.hiero.sdk.simple.signing;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The canonical body bytes of a transaction that need to be signed, together with the node and the transaction they
+ * belong to. Signing these bytes externally (for example in an HSM) and adding the signature to the transaction
+ * results in a signature that is valid for the network.
+ *
+ * @param nodeAccountId                the account ID of the node the body is addressed to
+ * @param transactionId                the transaction ID
+ * @param signableTransactionBodyBytes the body bytes that need to be signed
+ */
+public record SignableNodeTransactionBodyBytes(@NonNull AccountId nodeAccountId,
+                                               @NonNull TransactionId transactionId,
+                                               @NonNull byte[] signableTransactionBodyBytes) {
+
+    public SignableNodeTransactionBodyBytes {
+        Objects.requireNonNull(nodeAccountId, "nodeAccountId must not be null");
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        Objects.requireNonNull(signableTransactionBodyBytes, "signableTransactionBodyBytes must not be null");
+        signableTransactionBodyBytes = Arrays.copyOf(signableTransactionBodyBytes,
+                signableTransactionBodyBytes.length);
+    }
+
+    @Override
+    @NonNull
+    public byte[] signableTransactionBodyBytes() {
+        return Arrays.copyOf(signableTransactionBodyBytes, signableTransactionBodyBytes.length);
+    }
+}
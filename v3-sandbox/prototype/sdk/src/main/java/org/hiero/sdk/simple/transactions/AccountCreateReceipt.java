@@ -1,13 +1,38 @@
 package org.hiero.sdk.simple.transactions;
 
-import org.hiero.sdk.simple.ExchangeRate;
-import org.hiero.sdk.simple.Receipt;
-import org.hiero.sdk.simple.TransactionStatus;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import org.hiero.sdk.simple.internal.AbstractReceipt;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
 import org.hiero.sdk.simple.network.AccountId;
 import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-public record AccountCreateReceipt(TransactionId transactionId,
-                                   TransactionStatus status,
-                                   ExchangeRate exchangeRate,
-                                   AccountId createdAccount) implements Receipt {
+public final class AccountCreateReceipt extends AbstractReceipt {
+
+    @Nullable
+    private volatile AccountId createdAccount;
+
+    AccountCreateReceipt(@NonNull final TransactionId transactionId, @NonNull final TransactionReceipt protobuf) {
+        super(transactionId, protobuf);
+    }
+
+    /**
+     * Returns the account that has been created by the transaction.
+     *
+     * @return the created account
+     * @throws IllegalStateException if the receipt does not contain an account
+     */
+    @NonNull
+    public AccountId createdAccount() {
+        AccountId result = createdAccount;
+        if (result == null) {
+            if (!protobuf().hasAccountID()) {
+                throw new IllegalStateException("Account ID is null in the receipt");
+            }
+            result = ProtobufUtil.fromProtobuf(protobuf().getAccountID());
+            createdAccount = result;
+        }
+        return result;
+    }
 }
@@ -1,13 +1,18 @@
 package org.hiero.sdk.simple.transactions;
 
-import java.time.Instant;
-import org.hiero.sdk.simple.Record;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import org.hiero.sdk.simple.internal.AbstractRecord;
 import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
 
-public record AccountCreateRecord(AccountCreateReceipt receipt, Instant consensusTimestamp) implements
-        Record<AccountCreateReceipt> {
+public final class AccountCreateRecord extends AbstractRecord<AccountCreateReceipt> {
+
+    AccountCreateRecord(@NonNull final TransactionId transactionId, @NonNull final TransactionRecord protobuf) {
+        super(transactionId, protobuf, AccountCreateReceipt::new);
+    }
 
     public AccountId createdAccount() {
-        return receipt.createdAccount();
+        return receipt().createdAccount();
     }
 }
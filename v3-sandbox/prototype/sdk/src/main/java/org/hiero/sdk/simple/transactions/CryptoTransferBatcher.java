@@ -0,0 +1,230 @@
+package org.hiero.sdk.simple.transactions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.keys.KeyPair;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Merges many hbar payouts into as few {@link CryptoTransferTransaction}s as possible.
+ * <p>
+ * All added transfers are netted per account, so an account that is paid several times or that pays and is paid
+ * appears only once with its net amount. The net amounts are then distributed over transactions that are each filled up
+ * to the maximum number of transfers and the maximum transaction size. An account whose amount does not fit into the
+ * remaining space of a transaction is split over two transactions. Every transaction sums up to zero on its own, so the
+ * transactions can be executed independently. Paying N accounts from one account needs
+ * {@code ceil(N / (maxTransfers - 1))} transactions.
+ * <p>
+ * Every debited account must sign the transactions it appears in, {@link #send(Map)} signs every transaction only with
+ * the keys of the accounts it debits. The size of a transaction is estimated for a single
+ * signature per debited account and the signature of the operator.
+ */
+public final class CryptoTransferBatcher {
+
+    /**
+     * The default maximum number of hbar transfers in one transaction, which is the limit of the network.
+     */
+    public static final int DEFAULT_MAX_TRANSFERS = 10;
+
+    // an account amount in the transfer list: tags and lengths, an account ID of three varints and a sint64 amount
+    private static final int TRANSFER_SIZE_BOUND = 48;
+
+    // a signature pair in the signature map: tags and lengths, a public key prefix of up to 33 bytes and a signature
+    private static final int SIGNATURE_SIZE_BOUND = 104;
+
+    // the fields around the body and the signature map in the transaction
+    private static final int ENVELOPE_SIZE_BOUND = 16;
+
+    private final HieroClient client;
+
+    private final Hbar fee;
+
+    private final int maxTransfers;
+
+    private final int maxSize;
+
+    private final Map<AccountId, Long> netAmounts = new LinkedHashMap<>();
+
+    public CryptoTransferBatcher(@NonNull final HieroClient client, @NonNull final Hbar fee) {
+        this(client, fee, DEFAULT_MAX_TRANSFERS, PackedTransaction.MAX_SIZE);
+    }
+
+    public CryptoTransferBatcher(@NonNull final HieroClient client, @NonNull final Hbar fee, final int maxTransfers,
+            final int maxSize) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.fee = Objects.requireNonNull(fee, "fee must not be null");
+        if (maxTransfers < 2) {
+            throw new IllegalArgumentException("maxTransfers must be at least 2");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxTransfers = maxTransfers;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a payout from one account to another.
+     *
+     * @param from   the paying account
+     * @param to     the paid account
+     * @param amount the positive amount
+     * @throws IllegalArgumentException if the amount is not positive or both accounts are the same
+     */
+    public synchronized void addTransfer(@NonNull final AccountId from, @NonNull final AccountId to,
+            @NonNull final Hbar amount) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        Objects.requireNonNull(amount, "amount must not be null");
+        if (amount.tinybar() <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+        if (from.equals(to)) {
+            throw new IllegalArgumentException("from and to must be different accounts");
+        }
+        addNetAmount(from, -amount.tinybar());
+        addNetAmount(to, amount.tinybar());
+    }
+
+    private void addNetAmount(@NonNull final AccountId accountId, final long tinybar) {
+        final long sum = netAmounts.merge(accountId, tinybar, Math::addExact);
+        if (sum == 0) {
+            netAmounts.remove(accountId);
+        }
+    }
+
+    /**
+     * Returns the net amount of every account of the added transfers. Accounts whose transfers cancel each other out are
+     * not contained.
+     *
+     * @return the net amount per account, negative if the account pays
+     */
+    @NonNull
+    public synchronized Map<AccountId, Hbar> getNetAmounts() {
+        final Map<AccountId, Hbar> result = new LinkedHashMap<>();
+        netAmounts.forEach((accountId, tinybar) -> result.put(accountId, new Hbar(tinybar)));
+        return result;
+    }
+
+    /**
+     * Creates the transactions that execute all added transfers and removes the transfers from this batcher.
+     *
+     * @return the transactions, each summing up to zero
+     * @throws IllegalStateException if a transaction with one debit and one credit exceeds the maximum size
+     */
+    @NonNull
+    public synchronized List<CryptoTransferTransaction> createTransactions() {
+        final List<Map.Entry<AccountId, Long>> debits = new ArrayList<>();
+        final List<Map.Entry<AccountId, Long>> credits = new ArrayList<>();
+        netAmounts.forEach((accountId, tinybar) -> {
+            if (tinybar < 0) {
+                debits.add(Map.entry(accountId, -tinybar));
+            } else {
+                credits.add(Map.entry(accountId, tinybar));
+            }
+        });
+        final int emptySize = ENVELOPE_SIZE_BOUND + SIGNATURE_SIZE_BOUND
+                + new CryptoTransferTransaction().withFee(fee).bodySize(client);
+
+        final List<CryptoTransferTransaction> transactions = new ArrayList<>();
+        CryptoTransferTransaction current = null;
+        int debitIndex = 0;
+        int creditIndex = 0;
+        long remainingDebit = debits.isEmpty() ? 0 : debits.get(0).getValue();
+        long remainingCredit = credits.isEmpty() ? 0 : credits.get(0).getValue();
+        // the debits and credits sum up to the same amount, so both run out at the same time
+        while (debitIndex < debits.size()) {
+            final AccountId debited = debits.get(debitIndex).getKey();
+            final AccountId credited = credits.get(creditIndex).getKey();
+            if (current == null || !fits(current, debited, credited, emptySize)) {
+                if (current != null && current.getHbarTransfers().isEmpty()) {
+                    throw new IllegalStateException("A transfer between two accounts exceeds the maximum size of "
+                            + maxSize + " bytes");
+                }
+                if (current != null) {
+                    transactions.add(current);
+                }
+                current = new CryptoTransferTransaction().withFee(fee);
+                continue;
+            }
+            final long amount = Math.min(remainingDebit, remainingCredit);
+            current.addHbarTransfer(debited, new Hbar(-amount));
+            current.addHbarTransfer(credited, new Hbar(amount));
+            remainingDebit -= amount;
+            remainingCredit -= amount;
+            if (remainingDebit == 0 && ++debitIndex < debits.size()) {
+                remainingDebit = debits.get(debitIndex).getValue();
+            }
+            if (remainingCredit == 0 && ++creditIndex < credits.size()) {
+                remainingCredit = credits.get(creditIndex).getValue();
+            }
+        }
+        if (current != null) {
+            transactions.add(current);
+        }
+        netAmounts.clear();
+        return transactions;
+    }
+
+    private boolean fits(@NonNull final CryptoTransferTransaction transaction, @NonNull final AccountId debited,
+            @NonNull final AccountId credited, final int emptySize) {
+        final Map<AccountId, Hbar> transfers = transaction.getHbarTransfers();
+        final int newDebits = transfers.containsKey(debited) ? 0 : 1;
+        final int transferCount = transfers.size() + newDebits + (transfers.containsKey(credited) ? 0 : 1);
+        if (transferCount > maxTransfers) {
+            return false;
+        }
+        final long debitCount = transfers.values().stream().filter(Hbar::isNegative).count() + newDebits;
+        final long size = emptySize + (long) transferCount * TRANSFER_SIZE_BOUND + debitCount * SIGNATURE_SIZE_BOUND;
+        return size <= maxSize;
+    }
+
+    /**
+     * Creates the transactions of all added transfers, signs every transaction with the keys of the accounts it debits
+     * and sends them to the network. The transactions are signed by the operator of the client as well, so the key of
+     * the operator account does not have to be passed.
+     *
+     * @param signers the key of every debited account
+     * @return a future that completes with one response per transaction once all transactions have been accepted by
+     * the nodes, and fails if any transaction has been rejected
+     * @throws IllegalArgumentException if the key of a debited account is missing, no transfer is removed in that case
+     */
+    @NonNull
+    public CompletableFuture<List<CryptoTransferResponse>> send(@NonNull final Map<AccountId, KeyPair> signers) {
+        Objects.requireNonNull(signers, "signers must not be null");
+        final AccountId operatorAccountId = client.getOperatorAccount().accountId();
+        final boolean signedByOperator = client.signTransactionsAutomaticallyWithOperator();
+        final List<CryptoTransferTransaction> transactions;
+        synchronized (this) {
+            netAmounts.forEach((accountId, tinybar) -> {
+                if (tinybar < 0 && !signers.containsKey(accountId)
+                        && !(signedByOperator && accountId.equals(operatorAccountId))) {
+                    throw new IllegalArgumentException("No key for debited account " + accountId);
+                }
+            });
+            transactions = createTransactions();
+        }
+        final List<CompletableFuture<CryptoTransferResponse>> submissions = new ArrayList<>();
+        for (final CryptoTransferTransaction transaction : transactions) {
+            final PackedTransaction<CryptoTransferTransaction, CryptoTransferResponse> packed =
+                    transaction.packTransaction(client);
+            transaction.getHbarTransfers().forEach((accountId, amount) -> {
+                // the operator has signed the transaction when it was packed
+                if (amount.isNegative() && !(signedByOperator && accountId.equals(operatorAccountId))) {
+                    packed.sign(signers.get(accountId));
+                }
+            });
+            submissions.add(packed.send());
+        }
+        return CompletableFuture.allOf(submissions.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> submissions.stream().map(CompletableFuture::join).toList());
+    }
+}
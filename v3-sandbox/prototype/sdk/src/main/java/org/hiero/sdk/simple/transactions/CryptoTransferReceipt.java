@@ -0,0 +1,13 @@
+package org.hiero.sdk.simple.transactions;
+
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import org.hiero.sdk.simple.internal.AbstractReceipt;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+
+public final class CryptoTransferReceipt extends AbstractReceipt {
+
+    CryptoTransferReceipt(@NonNull final TransactionId transactionId, @NonNull final TransactionReceipt protobuf) {
+        super(transactionId, protobuf);
+    }
+}
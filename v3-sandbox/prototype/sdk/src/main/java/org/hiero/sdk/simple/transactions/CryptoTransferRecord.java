@@ -0,0 +1,37 @@
+package org.hiero.sdk.simple.transactions;
+
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hiero.sdk.simple.internal.AbstractRecord;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.HbarUnit;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+
+public final class CryptoTransferRecord extends AbstractRecord<CryptoTransferReceipt> {
+
+    CryptoTransferRecord(@NonNull final TransactionId transactionId, @NonNull final TransactionRecord protobuf) {
+        super(transactionId, protobuf, CryptoTransferReceipt::new);
+    }
+
+    /**
+     * Returns all hbar transfers that have been executed by the transaction, including the fees paid to the node and
+     * the network. The transfers are decoded on every call.
+     *
+     * @return the amount per account, negative if the account has been debited
+     */
+    @NonNull
+    public Map<AccountId, Hbar> hbarTransfers() {
+        final Map<AccountId, Hbar> transfers = new LinkedHashMap<>();
+        for (final AccountAmount accountAmount : protobuf().getTransferList().getAccountAmountsList()) {
+            transfers.merge(ProtobufUtil.fromProtobuf(accountAmount.getAccountID()),
+                    Hbar.of(accountAmount.getAmount(), HbarUnit.TINYBAR),
+                    (current, added) -> new Hbar(current.tinybar() + added.tinybar()));
+        }
+        return transfers;
+    }
+}
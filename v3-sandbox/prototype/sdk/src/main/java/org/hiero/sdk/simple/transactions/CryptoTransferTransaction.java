@@ -0,0 +1,61 @@
+package org.hiero.sdk.simple.transactions;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.hiero.sdk.simple.internal.AbstractTransaction;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.Hbar;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Transfers hbar between accounts. Every account that is debited must sign the transaction and the amounts of all
+ * transfers must sum up to zero. Many payouts can be merged into as few transactions as possible by a
+ * {@link CryptoTransferBatcher}.
+ */
+public final class CryptoTransferTransaction extends
+        AbstractTransaction<CryptoTransferResponse, CryptoTransferTransaction> {
+
+    private final Map<AccountId, Hbar> hbarTransfers = new LinkedHashMap<>();
+
+    @NonNull
+    @Override
+    protected CryptoTransferTransaction self() {
+        return this;
+    }
+
+    /**
+     * Returns the hbar transfers of this transaction, one amount per account. A negative amount debits the account, a
+     * positive amount credits it.
+     *
+     * @return an unmodifiable view of the transfers in the order the accounts have been added
+     */
+    @NonNull
+    public Map<AccountId, Hbar> getHbarTransfers() {
+        return Collections.unmodifiableMap(hbarTransfers);
+    }
+
+    /**
+     * Adds an hbar transfer. The amount is added to the amount of an earlier transfer of the same account. An account
+     * whose amounts sum up to zero is removed.
+     *
+     * @param accountId the account
+     * @param amount    the amount, negative to debit the account
+     */
+    public void addHbarTransfer(@NonNull final AccountId accountId, @NonNull final Hbar amount) {
+        Objects.requireNonNull(accountId, "accountId must not be null");
+        Objects.requireNonNull(amount, "amount must not be null");
+        final Hbar sum = hbarTransfers.merge(accountId, amount,
+                (current, added) -> new Hbar(Math.addExact(current.tinybar(), added.tinybar())));
+        if (sum.tinybar() == 0) {
+            hbarTransfers.remove(accountId);
+        }
+    }
+
+    @NonNull
+    public CryptoTransferTransaction withHbarTransfer(@NonNull final AccountId accountId, @NonNull final Hbar amount) {
+        addHbarTransfer(accountId, amount);
+        return self();
+    }
+}
@@ -0,0 +1,235 @@
+package org.hiero.sdk.simple.transactions;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.internal.util.ProtobufUtil;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.TopicId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitTransaction.ChunkInfo;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Publishes messages to a single topic at a high rate.
+ * <p>
+ * Messages that are larger than the chunk size are split into several {@link TopicMessageSubmitTransaction}s that
+ * carry a {@link ChunkInfo} referencing the transaction ID of the first chunk. All chunks are packed and signed in
+ * parallel on the signing executor. The chunks of a message are sent one after the other in chunk order, a chunk is
+ * only sent once the previous chunk has been accepted, so no chunk is sent after a chunk of the same message failed.
+ * Chunks of different messages are sent concurrently. The signed chunks are sent round-robin to the consensus nodes of
+ * the client while at most {@code maxInFlight} submissions of this publisher are waiting for a response. Submissions
+ * only wait for the response of the node (the precheck), receipts can be queried later by the returned responses.
+ */
+public final class TopicMessagePublisher {
+
+    /**
+     * The default size of a single chunk in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /**
+     * The default maximum number of chunks a message can be split into.
+     */
+    public static final int DEFAULT_MAX_CHUNKS = 20;
+
+    /**
+     * The default maximum number of submissions that are in flight at the same time.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+    private final HieroClient client;
+
+    private final TopicId topicId;
+
+    private final Hbar fee;
+
+    private final int chunkSize;
+
+    private final int maxChunks;
+
+    private final int maxInFlight;
+
+    private final Executor signingExecutor;
+
+    private final AtomicInteger nodeIndex = new AtomicInteger();
+
+    private final Deque<Runnable> pendingSubmissions = new ArrayDeque<>();
+
+    private int inFlight = 0;
+
+    public TopicMessagePublisher(@NonNull final HieroClient client, @NonNull final TopicId topicId,
+            @NonNull final Hbar fee) {
+        this(client, topicId, fee, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_CHUNKS, DEFAULT_MAX_IN_FLIGHT,
+                ForkJoinPool.commonPool());
+    }
+
+    public TopicMessagePublisher(@NonNull final HieroClient client, @NonNull final TopicId topicId,
+            @NonNull final Hbar fee, final int chunkSize, final int maxChunks, final int maxInFlight,
+            @NonNull final Executor signingExecutor) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.topicId = Objects.requireNonNull(topicId, "topicId must not be null");
+        this.fee = Objects.requireNonNull(fee, "fee must not be null");
+        this.signingExecutor = Objects.requireNonNull(signingExecutor, "signingExecutor must not be null");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        if (maxChunks < 1) {
+            throw new IllegalArgumentException("maxChunks must be positive");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Publishes a message to the topic. The returned future completes once all chunks have been accepted by the nodes
+     * and fails with the failure of the first chunk that has not been accepted. The chunks after that chunk are not
+     * sent.
+     *
+     * @param message the message
+     * @return a future that completes with one response per chunk, in chunk order
+     * @throws IllegalArgumentException if the message needs more chunks than allowed
+     */
+    @NonNull
+    public CompletableFuture<List<TopicMessageSubmitResponse>> publish(@NonNull final byte[] message) {
+        Objects.requireNonNull(message, "message must not be null");
+        final int total = requiredChunks(message);
+        final List<ConsensusNode> nodes = List.copyOf(client.getConsensusNodes());
+        final TransactionId initialTransactionId = client.generateTransactionId();
+        CompletableFuture<List<TopicMessageSubmitResponse>> responses =
+                CompletableFuture.completedFuture(new ArrayList<>(total));
+        for (int i = 0; i < total; i++) {
+            final TransactionId transactionId = i == 0 ? initialTransactionId : client.generateTransactionId();
+            final TopicMessageSubmitTransaction transaction =
+                    createChunkTransaction(message, i, total, initialTransactionId);
+            final ConsensusNode node = nextNode(nodes);
+            final CompletableFuture<PackedTransaction<TopicMessageSubmitTransaction, TopicMessageSubmitResponse>>
+                    packed = CompletableFuture.supplyAsync(
+                    () -> transaction.packTransaction(client, transactionId, node.getAccountId()), signingExecutor);
+            responses = responses.thenCompose(previous -> packed
+                    .thenCompose(this::submit)
+                    .thenApply(response -> {
+                        previous.add(response);
+                        return previous;
+                    }));
+        }
+        return responses.thenApply(List::copyOf);
+    }
+
+    /**
+     * Returns an upper bound of the size in bytes of the encoded transaction body of every chunk the given message
+     * would be split into. The transaction IDs of the chunks are only generated when the message is published and the
+     * encoded size of their valid start varies by a few bytes, as does the encoded account ID of the node that a chunk
+     * is sent to. The sizes are therefore computed for a valid start with the longest encoding and for the node with
+     * the longest encoded account ID. The transactions are neither packed nor signed.
+     *
+     * @param message the message
+     * @return the upper bound of the body size of every chunk, in chunk order
+     * @throws IllegalArgumentException if the message needs more chunks than allowed
+     */
+    @NonNull
+    public int[] bodySizeAllChunks(@NonNull final byte[] message) {
+        Objects.requireNonNull(message, "message must not be null");
+        final int total = requiredChunks(message);
+        final TransactionId generated = client.generateTransactionId();
+        // the nanos are encoded as a varint, 999999999 needs the maximum of 5 bytes
+        final TransactionId transactionId = new TransactionId(generated.accountId(),
+                Instant.ofEpochSecond(generated.validStart().getEpochSecond(), 999_999_999));
+        final AccountId nodeAccount = client.getConsensusNodes().stream()
+                .map(ConsensusNode::getAccountId)
+                .max(Comparator.comparingInt(accountId -> ProtobufUtil.toProtobuf(accountId).getSerializedSize()))
+                .orElseThrow(() -> new IllegalStateException("client has no consensus nodes"));
+        final int[] sizes = new int[total];
+        for (int i = 0; i < total; i++) {
+            sizes[i] = createChunkTransaction(message, i, total, transactionId).bodySize(transactionId, nodeAccount);
+        }
+        return sizes;
+    }
+
+    private int requiredChunks(@NonNull final byte[] message) {
+        final int total = Math.max(1, (message.length + chunkSize - 1) / chunkSize);
+        if (total > maxChunks) {
+            throw new IllegalArgumentException(
+                    "Message of " + message.length + " bytes needs " + total + " chunks, maximum is " + maxChunks);
+        }
+        return total;
+    }
+
+    @NonNull
+    private TopicMessageSubmitTransaction createChunkTransaction(@NonNull final byte[] message, final int index,
+            final int total, @NonNull final TransactionId initialTransactionId) {
+        final byte[] chunk = Arrays.copyOfRange(message, index * chunkSize,
+                Math.min(message.length, (index + 1) * chunkSize));
+        final ChunkInfo chunkInfo = total > 1 ? new ChunkInfo(initialTransactionId, index + 1, total) : null;
+        return new TopicMessageSubmitTransaction()
+                .withTopicId(topicId)
+                .withMessage(chunk)
+                .withChunkInfo(chunkInfo)
+                .withFee(fee);
+    }
+
+    @NonNull
+    private ConsensusNode nextNode(@NonNull final List<ConsensusNode> nodes) {
+        return nodes.get(Math.floorMod(nodeIndex.getAndIncrement(), nodes.size()));
+    }
+
+    @NonNull
+    private CompletableFuture<TopicMessageSubmitResponse> submit(
+            @NonNull final PackedTransaction<TopicMessageSubmitTransaction, TopicMessageSubmitResponse> packed) {
+        final CompletableFuture<TopicMessageSubmitResponse> result = new CompletableFuture<>();
+        final Runnable submission = () -> {
+            try {
+                packed.send().whenComplete((response, throwable) -> {
+                    onSubmissionDone();
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        result.complete(response);
+                    }
+                });
+            } catch (RuntimeException e) {
+                onSubmissionDone();
+                result.completeExceptionally(e);
+            }
+        };
+        synchronized (pendingSubmissions) {
+            if (inFlight >= maxInFlight) {
+                pendingSubmissions.add(submission);
+                return result;
+            }
+            inFlight++;
+        }
+        submission.run();
+        return result;
+    }
+
+    private void onSubmissionDone() {
+        final Runnable next;
+        synchronized (pendingSubmissions) {
+            next = pendingSubmissions.poll();
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+}
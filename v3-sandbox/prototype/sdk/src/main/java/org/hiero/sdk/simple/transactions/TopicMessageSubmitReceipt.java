@@ -0,0 +1,28 @@
+package org.hiero.sdk.simple.transactions;
+
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import org.hiero.sdk.simple.internal.AbstractReceipt;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+
+public final class TopicMessageSubmitReceipt extends AbstractReceipt {
+
+    TopicMessageSubmitReceipt(@NonNull final TransactionId transactionId,
+            @NonNull final TransactionReceipt protobuf) {
+        super(transactionId, protobuf);
+    }
+
+    public long topicSequenceNumber() {
+        return protobuf().getTopicSequenceNumber();
+    }
+
+    /**
+     * Returns the running hash of the topic after the message has been submitted.
+     *
+     * @return a copy of the running hash
+     */
+    @NonNull
+    public byte[] topicRunningHash() {
+        return protobuf().getTopicRunningHash().toByteArray();
+    }
+}
@@ -0,0 +1,17 @@
+package org.hiero.sdk.simple.transactions;
+
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import org.hiero.sdk.simple.internal.AbstractRecord;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+
+public final class TopicMessageSubmitRecord extends AbstractRecord<TopicMessageSubmitReceipt> {
+
+    TopicMessageSubmitRecord(@NonNull final TransactionId transactionId, @NonNull final TransactionRecord protobuf) {
+        super(transactionId, protobuf, TopicMessageSubmitReceipt::new);
+    }
+
+    public long topicSequenceNumber() {
+        return receipt().topicSequenceNumber();
+    }
+}
@@ -0,0 +1,96 @@
+package org.hiero.sdk.simple.transactions;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.hiero.sdk.simple.internal.AbstractTransaction;
+import org.hiero.sdk.simple.network.TopicId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Submits a single message (or a single chunk of a larger message) to a topic. Messages that do not fit into one
+ * transaction should be sent by a {@link TopicMessagePublisher} that splits them into chunks.
+ */
+public final class TopicMessageSubmitTransaction extends
+        AbstractTransaction<TopicMessageSubmitResponse, TopicMessageSubmitTransaction> {
+
+    private TopicId topicId;
+
+    private byte[] message = new byte[0];
+
+    private ChunkInfo chunkInfo;
+
+    @NonNull
+    @Override
+    protected TopicMessageSubmitTransaction self() {
+        return this;
+    }
+
+    @Nullable
+    public TopicId getTopicId() {
+        return topicId;
+    }
+
+    public void setTopicId(@NonNull final TopicId topicId) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        this.topicId = topicId;
+    }
+
+    @NonNull
+    public TopicMessageSubmitTransaction withTopicId(@NonNull final TopicId topicId) {
+        setTopicId(topicId);
+        return self();
+    }
+
+    @NonNull
+    public byte[] getMessage() {
+        return Arrays.copyOf(message, message.length);
+    }
+
+    public void setMessage(@NonNull final byte[] message) {
+        Objects.requireNonNull(message, "message must not be null");
+        this.message = Arrays.copyOf(message, message.length);
+    }
+
+    @NonNull
+    public TopicMessageSubmitTransaction withMessage(@NonNull final byte[] message) {
+        setMessage(message);
+        return self();
+    }
+
+    @Nullable
+    public ChunkInfo getChunkInfo() {
+        return chunkInfo;
+    }
+
+    public void setChunkInfo(@Nullable final ChunkInfo chunkInfo) {
+        this.chunkInfo = chunkInfo;
+    }
+
+    @NonNull
+    public TopicMessageSubmitTransaction withChunkInfo(@Nullable final ChunkInfo chunkInfo) {
+        setChunkInfo(chunkInfo);
+        return self();
+    }
+
+    /**
+     * Describes the position of a chunk within a message that has been split into several transactions.
+     *
+     * @param initialTransactionId the transaction ID of the first chunk
+     * @param number               the number of the chunk, starting with 1
+     * @param total                the total number of chunks
+     */
+    public record ChunkInfo(@NonNull TransactionId initialTransactionId, int number, int total) {
+
+        public ChunkInfo {
+            Objects.requireNonNull(initialTransactionId, "initialTransactionId must not be null");
+            if (total < 1) {
+                throw new IllegalArgumentException("total must be positive");
+            }
+            if (number < 1 || number > total) {
+                throw new IllegalArgumentException("number must be between 1 and " + total);
+            }
+        }
+    }
+}
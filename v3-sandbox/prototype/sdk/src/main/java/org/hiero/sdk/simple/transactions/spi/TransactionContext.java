@@ -0,0 +1,29 @@
+package org.hiero.sdk.simple.transactions.spi;
+
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import java.util.Objects;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The facts about a packed transaction that are known before it is sent. A {@link TransactionProtobuffSupport} gets
+ * this context when it creates the response of a transaction, so it never has to parse the body bytes of the sent
+ * transaction again.
+ *
+ * @param client          the client that sends the transaction
+ * @param transactionId   the ID of the transaction
+ * @param nodeAccountId   the account ID of the node the transaction has been created for
+ * @param transactionBody the body of the transaction
+ */
+public record TransactionContext(@NonNull HieroClient client, @NonNull TransactionId transactionId,
+                                 @NonNull AccountId nodeAccountId, @NonNull TransactionBody transactionBody) {
+
+    public TransactionContext {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        Objects.requireNonNull(nodeAccountId, "nodeAccountId must not be null");
+        Objects.requireNonNull(transactionBody, "transactionBody must not be null");
+    }
+}
@@ -3,11 +3,12 @@ package org.hiero.sdk.simple.transactions.spi;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
+import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.ServiceLoader.Provider;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import org.hiero.sdk.simple.HieroClient;
 import org.hiero.sdk.simple.Response;
 import org.hiero.sdk.simple.Transaction;
 import org.jspecify.annotations.NonNull;
@@ -16,28 +17,58 @@ public interface TransactionProtobuffSupport<R extends Response, T extends Trans
 
     Class<T> getTransactionClass();
 
+    /**
+     * Returns the kind of transaction body this support creates. This is used to find the support for a transaction
+     * that has been restored from its bytes.
+     *
+     * @return the data case of the transaction body
+     */
+    TransactionBody.@NonNull DataCase getBodyDataCase();
+
     T unpack(TransactionBody transactionBody);
 
     MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse> getMethodDescriptor();
 
-    R createResponse(HieroClient client, com.hedera.hashgraph.sdk.proto.Transaction protoTransaction,
-            TransactionResponse protoResponse);
+    /**
+     * Creates the response for a sent transaction. The context holds everything that was known about the transaction
+     * before it was sent, so implementations must not parse the transaction again.
+     *
+     * @param context       the context of the sent transaction
+     * @param protoResponse the response of the node
+     * @return the response
+     */
+    R createResponse(@NonNull TransactionContext context, @NonNull TransactionResponse protoResponse);
 
     void updateBodyBuilderWithSpecifics(T transaction, TransactionBody.@NonNull Builder builder);
 
     static <RE extends Response, TR extends Transaction<TR, RE>> TransactionProtobuffSupport<RE, TR> of(
             Class<TR> transactionClass) {
+        return find(support -> support.getTransactionClass().equals(transactionClass), transactionClass.getName());
+    }
+
+    /**
+     * Returns the support for the given kind of transaction body.
+     *
+     * @param dataCase the data case of the transaction body
+     * @return the support
+     * @throws IllegalArgumentException if no or several supports are found for the data case
+     */
+    static TransactionProtobuffSupport<?, ?> of(TransactionBody.@NonNull DataCase dataCase) {
+        Objects.requireNonNull(dataCase, "dataCase must not be null");
+        return find(support -> support.getBodyDataCase() == dataCase, dataCase.name());
+    }
+
+    private static <RE extends Response, TR extends Transaction<TR, RE>> TransactionProtobuffSupport<RE, TR> find(
+            Predicate<TransactionProtobuffSupport> filter, String name) {
         final Set<TransactionProtobuffSupport> result = ServiceLoader.load(TransactionProtobuffSupport.class)
                 .stream()
                 .map(Provider::get)
-                .filter(support -> support.getTransactionClass().equals(transactionClass))
+                .filter(filter)
                 .collect(Collectors.toUnmodifiableSet());
         if (result.isEmpty()) {
-            throw new IllegalArgumentException(
-                    "No TransactionProtobuffSupport found for " + transactionClass.getName());
+            throw new IllegalArgumentException("No TransactionProtobuffSupport found for " + name);
         } else if (result.size() > 1) {
-            throw new IllegalArgumentException("Multiple TransactionProtobuffSupport found for "
-                    + transactionClass.getName() + ": " + result);
+            throw new IllegalArgumentException("Multiple TransactionProtobuffSupport found for " + name + ": " + result);
         } else {
             return (TransactionProtobuffSupport<RE, TR>) result.iterator().next();
         }
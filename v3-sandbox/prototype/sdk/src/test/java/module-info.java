@@ -1,4 +1,9 @@
 open module org.hiero.sdk.simple.test {
     requires org.junit.jupiter.api;
     requires org.hiero.sdk.simple;
-}
\ No newline at end of file
+    requires com.hiero.proto;
+    requires com.google.protobuf;
+    requires io.grpc;
+    requires io.grpc.protobuf.lite;
+    requires org.bouncycastle.provider;
+}
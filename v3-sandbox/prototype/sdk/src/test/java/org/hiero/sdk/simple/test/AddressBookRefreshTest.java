@@ -0,0 +1,325 @@
+package org.hiero.sdk.simple.test;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.NodeAddress;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ServiceEndpoint;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery;
+import io.grpc.Context;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.protobuf.lite.ProtoLiteUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.hiero.sdk.simple.transactions.CryptoTransferResponse;
+import org.hiero.sdk.simple.transactions.CryptoTransferTransaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AddressBookRefreshTest {
+
+    private static final MethodDescriptor<AddressBookQuery, NodeAddress> GET_NODES =
+            MethodDescriptor.<AddressBookQuery, NodeAddress>newBuilder()
+                    .setType(MethodType.SERVER_STREAMING)
+                    .setFullMethodName("com.hedera.mirror.api.proto.NetworkService/getNodes")
+                    .setRequestMarshaller(ProtoLiteUtils.marshaller(AddressBookQuery.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoLiteUtils.marshaller(NodeAddress.getDefaultInstance()))
+                    .build();
+
+    private static final MethodDescriptor<Transaction, TransactionResponse> CRYPTO_TRANSFER =
+            MethodDescriptor.<Transaction, TransactionResponse>newBuilder()
+                    .setType(MethodType.UNARY)
+                    .setFullMethodName("proto.CryptoService/cryptoTransfer")
+                    .setRequestMarshaller(ProtoLiteUtils.marshaller(Transaction.getDefaultInstance()))
+                    .setResponseMarshaller(ProtoLiteUtils.marshaller(TransactionResponse.getDefaultInstance()))
+                    .build();
+
+    private Server server;
+
+    @AfterEach
+    protected void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    protected void testBuiltInNetworksDoNotRefresh() {
+        final NetworkSettings testnet = NetworkSettings.forIdentifier("hedera-testnet").orElseThrow();
+
+        //when
+        final NetworkSettings refreshed = testnet.withMirrorNodeAddress("localhost:5600");
+
+        //then
+        Assertions.assertTrue(testnet.getMirrorNodeAddress().isEmpty());
+        Assertions.assertEquals("localhost:5600", refreshed.getMirrorNodeAddress().orElseThrow());
+        Assertions.assertEquals(testnet.getConsensusNodes(), refreshed.getConsensusNodes());
+        Assertions.assertEquals(testnet.getNetworkIdentifier(), refreshed.getNetworkIdentifier());
+    }
+
+    @Test
+    protected void testTransactionOfRemovedNodeFails() throws Exception {
+        final AtomicReference<List<NodeAddress>> addressBook = new AtomicReference<>(List.of());
+        server = startServer(addressBook, null, null, new CountDownLatch(1));
+        final String address = "127.0.0.1:" + server.getPort();
+        // the node 0.0.3 is replaced by 0.0.4 on the same address
+        addressBook.set(List.of(nodeAddress(4, ServiceEndpoint.newBuilder()
+                .setIpAddressV4(ByteString.copyFrom(new byte[]{127, 0, 0, 1}))
+                .setPort(server.getPort())
+                .build())));
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final NetworkSettings settings = localSettings(server.getPort()).withMirrorNodeAddress(address);
+        try (HieroClient client = HieroClient.create(operatorAccount, settings)) {
+            awaitCondition(() -> !client.getConsensusNodes().equals(settings.getConsensusNodes()));
+            final CryptoTransferTransaction transaction = new CryptoTransferTransaction()
+                    .withHbarTransfer(AccountId.from("0.0.1234"), Hbar.of(-1))
+                    .withHbarTransfer(AccountId.from("0.0.1235"), Hbar.of(1));
+
+            //when
+            final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                    () -> transaction.packTransaction(client, client.generateTransactionId(), AccountId.from("0.0.3"))
+                            .sendAndWait());
+            final CryptoTransferResponse response = transaction
+                    .packTransaction(client, client.generateTransactionId(), AccountId.from("0.0.4"))
+                    .sendAndWait();
+
+            //then
+            Assertions.assertEquals(Set.of(new ConsensusNode("127.0.0.1", Integer.toString(server.getPort()),
+                    "0.0.4")), client.getConsensusNodes());
+            Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+            Assertions.assertTrue(exception.getCause().getMessage().contains("0.0.3"));
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> client.getGrpcClient(AccountId.from("0.0.3")));
+            Assertions.assertNotNull(response);
+        }
+    }
+
+    @Test
+    protected void testChannelOfRemovedNodeStaysOpenAfterRefresh() throws Exception {
+        final AtomicReference<List<NodeAddress>> addressBook = new AtomicReference<>(List.of());
+        final CountDownLatch release = new CountDownLatch(1);
+        server = startServer(addressBook, null, release, new CountDownLatch(1));
+        final String address = "127.0.0.1:" + server.getPort();
+        // the node 0.0.3 is replaced by 0.0.4 on another address, so the channel of 0.0.3 is removed
+        addressBook.set(List.of(nodeAddress(4, ServiceEndpoint.newBuilder()
+                .setDomainName("localhost")
+                .setPort(server.getPort())
+                .build())));
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final NetworkSettings settings = localSettings(server.getPort()).withMirrorNodeAddress(address);
+        try (HieroClient client = HieroClient.create(operatorAccount, settings)) {
+            final GrpcClient grpcClient = client.getGrpcClient(AccountId.from("0.0.3"));
+            release.countDown();
+            awaitCondition(() -> !client.getConsensusNodes().equals(settings.getConsensusNodes()));
+
+            //when
+            final TransactionResponse response = grpcClient.call(CRYPTO_TRANSFER, Transaction.getDefaultInstance())
+                    .get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(ResponseCodeEnum.OK, response.getNodeTransactionPrecheckCode());
+        }
+    }
+
+    @Test
+    protected void testNodesWithOnlyTlsEndpointAreKept() throws Exception {
+        final AtomicReference<List<NodeAddress>> addressBook = new AtomicReference<>(List.of());
+        server = startServer(addressBook, null, null, new CountDownLatch(1));
+        final String address = "127.0.0.1:" + server.getPort();
+        final ByteString certificateHash = ByteString.copyFrom("ab".repeat(48), StandardCharsets.US_ASCII);
+        addressBook.set(List.of(
+                nodeAddress(4, ServiceEndpoint.newBuilder()
+                        .setDomainName("node4.example.com")
+                        .setPort(50212)
+                        .build()).toBuilder().setNodeCertHash(certificateHash).build(),
+                nodeAddress(5, ServiceEndpoint.newBuilder()
+                        .setDomainName("node5.example.com")
+                        .setPort(50212)
+                        .build()).toBuilder()
+                        .addServiceEndpoint(ServiceEndpoint.newBuilder()
+                                .setDomainName("node5.example.com")
+                                .setPort(50211))
+                        .setNodeCertHash(certificateHash)
+                        .build(),
+                nodeAddress(6, ServiceEndpoint.newBuilder()
+                        .setDomainName("node6.example.com")
+                        .setPort(50211)
+                        .build()).toBuilder()
+                        .addServiceEndpoint(ServiceEndpoint.newBuilder()
+                                .setIpAddressV4(ByteString.copyFrom(new byte[]{10, 0, 0, 6}))
+                                .setPort(50211))
+                        .build()));
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final NetworkSettings settings = localSettings(server.getPort()).withMirrorNodeAddress(address);
+        try (HieroClient client = HieroClient.create(operatorAccount, settings)) {
+
+            //when
+            awaitCondition(() -> !client.getConsensusNodes().equals(settings.getConsensusNodes()));
+
+            //then
+            // the plaintext endpoint is preferred if a node advertises both, an address is preferred to a domain name
+            Assertions.assertEquals(Set.of(
+                            new ConsensusNode("node4.example.com", ConsensusNode.TLS_PORT, "0.0.4",
+                                    certificateHash.toString(StandardCharsets.US_ASCII)),
+                            new ConsensusNode("node5.example.com", ConsensusNode.PLAINTEXT_PORT, "0.0.5"),
+                            new ConsensusNode("10.0.0.6", ConsensusNode.PLAINTEXT_PORT, "0.0.6")),
+                    client.getConsensusNodes());
+        }
+    }
+
+    @Test
+    protected void testCloseCancelsStalledRefresh() throws Exception {
+        final CountDownLatch opened = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        server = startServer(new AtomicReference<>(List.of()), opened, null, cancelled);
+        final String address = "127.0.0.1:" + server.getPort();
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final NetworkSettings settings = localSettings(server.getPort()).withMirrorNodeAddress(address);
+        final HieroClient client = HieroClient.create(operatorAccount, settings);
+        final Set<ConsensusNode> initialNodes = client.getConsensusNodes();
+        Assertions.assertTrue(opened.await(5, TimeUnit.SECONDS));
+
+        //when
+        client.close();
+
+        //then
+        Assertions.assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(initialNodes, client.getConsensusNodes());
+    }
+
+    private static NodeAddress nodeAddress(final long accountNum, final ServiceEndpoint endpoint) {
+        return NodeAddress.newBuilder()
+                .setNodeAccountId(AccountID.newBuilder().setAccountNum(accountNum))
+                .addServiceEndpoint(endpoint)
+                .build();
+    }
+
+    // a network with the node 0.0.3 on the given port of the loopback interface
+    private static NetworkSettings localSettings(final int port) {
+        final NetworkSettings testEnvironment = NetworkSettings.forIdentifier("hiero-test").orElseThrow();
+        return new NetworkSettings() {
+            @Override
+            public byte[] getId() {
+                return testEnvironment.getId();
+            }
+
+            @Override
+            public String getNetworkIdentifier() {
+                return "local-test";
+            }
+
+            @Override
+            public Optional<String> getNetworkName() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<ConsensusNode> getConsensusNodes() {
+                return Set.of(new ConsensusNode("127.0.0.1", Integer.toString(port), "0.0.3"));
+            }
+        };
+    }
+
+    // a fake mirror node and consensus node in one server, the address book stream stalls if a latch for the opened
+    // stream is given and is only sent once the release latch is counted down if one is given
+    private static Server startServer(final AtomicReference<List<NodeAddress>> addressBook,
+            final CountDownLatch stalled, final CountDownLatch release, final CountDownLatch cancelled)
+            throws IOException {
+        final ServerServiceDefinition mirror = ServerServiceDefinition
+                .builder("com.hedera.mirror.api.proto.NetworkService")
+                .addMethod(GET_NODES, (call, headers) -> {
+                    call.request(1);
+                    Context.current().addListener(context -> cancelled.countDown(), Runnable::run);
+                    return new ServerCall.Listener<>() {
+                        @Override
+                        public void onHalfClose() {
+                            if (stalled != null) {
+                                stalled.countDown();
+                                return;
+                            }
+                            if (release != null) {
+                                Thread.ofVirtual().start(() -> {
+                                    try {
+                                        release.await();
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                    }
+                                    sendAddressBook();
+                                });
+                                return;
+                            }
+                            sendAddressBook();
+                        }
+
+                        private void sendAddressBook() {
+                            call.sendHeaders(new Metadata());
+                            addressBook.get().forEach(call::sendMessage);
+                            call.close(Status.OK, new Metadata());
+                        }
+                    };
+                })
+                .build();
+        final ServerServiceDefinition node = ServerServiceDefinition.builder("proto.CryptoService")
+                .addMethod(CRYPTO_TRANSFER, (call, headers) -> {
+                    call.request(1);
+                    return new ServerCall.Listener<>() {
+                        @Override
+                        public void onMessage(final Transaction message) {
+                            call.sendHeaders(new Metadata());
+                            call.sendMessage(TransactionResponse.newBuilder()
+                                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                                    .build());
+                            call.close(Status.OK, new Metadata());
+                        }
+                    };
+                })
+                .build();
+        return Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(mirror)
+                .addService(node)
+                .build()
+                .start();
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("Condition not met within 10 seconds");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.hiero.sdk.simple.test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.signing.AsyncSigning;
+import org.hiero.sdk.simple.signing.SignableNodeTransactionBodyBytes;
+import org.hiero.sdk.simple.transactions.AccountCreateResponse;
+import org.hiero.sdk.simple.transactions.AccountCreateTransaction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AsyncSigningTest {
+
+    @Test
+    protected void testSignAllInOneRoundTrip() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final MockHsmSigner hsm = new MockHsmSigner(PrivateKey.generate(KeyAlgorithm.ECDSA), Duration.ofMillis(50));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final List<PackedTransaction<AccountCreateTransaction, AccountCreateResponse>> transactions =
+                    new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                transactions.add(new AccountCreateTransaction()
+                        .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey())
+                        .packTransaction(client));
+            }
+
+            //when
+            final List<PackedTransaction<AccountCreateTransaction, AccountCreateResponse>> signed =
+                    AsyncSigning.signAll(transactions, hsm).get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(1, hsm.getRoundTrips());
+            Assertions.assertEquals(transactions.size(), signed.size());
+            signed.forEach(transaction -> Assertions.assertTrue(transaction.verifySignatures()));
+        }
+    }
+
+    @Test
+    protected void testSignAsync() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final MockHsmSigner hsm = new MockHsmSigner(PrivateKey.generate(KeyAlgorithm.ED25519), Duration.ofMillis(10));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final PackedTransaction<AccountCreateTransaction, AccountCreateResponse> transaction =
+                    new AccountCreateTransaction()
+                            .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey())
+                            .packTransaction(client);
+
+            //when
+            transaction.signAsync(hsm).get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertTrue(transaction.verifySignatures());
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> transaction.addSignature(hsm.getPublicKey(), new byte[64]));
+        }
+    }
+
+    @Test
+    protected void testSignAsyncWithTwoNodeBodies() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        final MockHsmSigner hsm = new MockHsmSigner(PrivateKey.generate(KeyAlgorithm.ED25519), Duration.ofMillis(10));
+        final MockHsmSigner secondHsm = new MockHsmSigner(PrivateKey.generate(KeyAlgorithm.ECDSA),
+                Duration.ofMillis(10));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final AccountCreateTransaction accountCreate = new AccountCreateTransaction()
+                    .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey());
+            final TransactionId transactionId = client.generateTransactionId();
+            final List<PackedTransaction<AccountCreateTransaction, AccountCreateResponse>> nodeTransactions = List.of(
+                    accountCreate.packTransaction(client, transactionId, AccountId.from("0.0.3")),
+                    accountCreate.packTransaction(client, transactionId, AccountId.from("0.0.4")));
+            final PackedTransaction<AccountCreateTransaction, AccountCreateResponse> transaction =
+                    new MultiNodePackedTransaction<>(nodeTransactions);
+
+            //when
+            transaction.signAsync(hsm).get(5, TimeUnit.SECONDS);
+            AsyncSigning.signAll(List.of(transaction), secondHsm).get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(2, transaction.signableNodeBodyBytesList().size());
+            Assertions.assertEquals(1, hsm.getRoundTrips());
+            Assertions.assertEquals(1, secondHsm.getRoundTrips());
+            Assertions.assertTrue(transaction.verifySignatures());
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> transaction.addSignature(hsm.getPublicKey(), new byte[64]));
+            final SignableNodeTransactionBodyBytes otherNodeBody =
+                    nodeTransactions.get(1).signableNodeBodyBytesList().get(0);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> nodeTransactions.get(0).addSignature(otherNodeBody, hsm.getPublicKey(), new byte[64]));
+        }
+    }
+
+    /**
+     * A transaction that is addressed to several nodes, with one packed transaction per node.
+     */
+    private record MultiNodePackedTransaction<T extends org.hiero.sdk.simple.Transaction,
+            R extends org.hiero.sdk.simple.Response>(List<PackedTransaction<T, R>> nodeTransactions)
+            implements PackedTransaction<T, R> {
+
+        @Override
+        public TransactionId transactionId() {
+            return nodeTransactions.get(0).transactionId();
+        }
+
+        @Override
+        public PackedTransaction<T, R> sign(final PublicKey publicKey, final UnaryOperator<byte[]> transactionSigner) {
+            nodeTransactions.forEach(transaction -> transaction.sign(publicKey, transactionSigner));
+            return this;
+        }
+
+        @Override
+        public PackedTransaction<T, R> addSignature(final SignableNodeTransactionBodyBytes body,
+                final PublicKey publicKey, final byte[] signature) {
+            final PackedTransaction<T, R> nodeTransaction = nodeTransactions.stream()
+                    .filter(transaction -> transaction.signableNodeBodyBytesList().get(0).nodeAccountId()
+                            .equals(body.nodeAccountId()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("body does not belong to this transaction"));
+            nodeTransaction.addSignature(body, publicKey, signature);
+            return this;
+        }
+
+        @Override
+        public List<SignableNodeTransactionBodyBytes> signableNodeBodyBytesList() {
+            return nodeTransactions.stream()
+                    .flatMap(transaction -> transaction.signableNodeBodyBytesList().stream())
+                    .toList();
+        }
+
+        @Override
+        public boolean verifySignatures() {
+            return nodeTransactions.stream().allMatch(PackedTransaction::verifySignatures);
+        }
+
+        @Override
+        public int size() {
+            return nodeTransactions.get(0).size();
+        }
+
+        @Override
+        public int bodySize() {
+            return nodeTransactions.get(0).bodySize();
+        }
+
+        @Override
+        public int serializedSize() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] toBytes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void writeTo(final ByteBuffer buffer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PackedTransaction<T, R> withShortPublicKeyPrefixes(final Set<PublicKey> requiredKeys) {
+            nodeTransactions.forEach(transaction -> transaction.withShortPublicKeyPrefixes(requiredKeys));
+            return this;
+        }
+
+        @Override
+        public int publicKeyPrefixSavings() {
+            return nodeTransactions.get(0).publicKeyPrefixSavings();
+        }
+
+        @Override
+        public CompletableFuture<R> send() {
+            return nodeTransactions.get(0).send();
+        }
+
+        @Override
+        public R sendAndWait() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public T unpack() {
+            return nodeTransactions.get(0).unpack();
+        }
+    }
+}
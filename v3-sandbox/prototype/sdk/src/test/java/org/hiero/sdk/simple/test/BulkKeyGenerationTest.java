@@ -0,0 +1,83 @@
+package org.hiero.sdk.simple.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyPair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BulkKeyGenerationTest {
+
+    @Test
+    protected void testGenerate() {
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            //when
+            final List<KeyPair> keyPairs = KeyPair.generate(algorithm, 50).toList();
+
+            //then
+            Assertions.assertEquals(50, keyPairs.size());
+            Assertions.assertEquals(50, keyPairs.stream().map(KeyPair::publicKey).distinct().count());
+            keyPairs.forEach(keyPair -> {
+                Assertions.assertEquals(algorithm, keyPair.privateKey().algorithm());
+                Assertions.assertEquals(keyPair.privateKey().createPublicKey(), keyPair.publicKey());
+            });
+        }
+    }
+
+    @Test
+    protected void testGenerateWithSeedIsReproducible() {
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            //when
+            final List<KeyPair> first = KeyPair.generate(algorithm, 1030, 42L).toList();
+            final List<KeyPair> second = KeyPair.generate(algorithm, 3, 42L).toList();
+            final List<KeyPair> otherSeed = KeyPair.generate(algorithm, 3, 43L).toList();
+
+            //then
+            // the first batch ends after 1024 keys, the order is kept across batches
+            Assertions.assertEquals(1030, first.stream().map(KeyPair::publicKey).distinct().count());
+            Assertions.assertEquals(second, first.subList(0, 3));
+            Assertions.assertNotEquals(second, otherSeed);
+        }
+    }
+
+    @Test
+    protected void testParallelStreamKeepsOrder() {
+        //when
+        final List<KeyPair> sequential = KeyPair.generate(KeyAlgorithm.ED25519, 1030, 42L).toList();
+        final List<KeyPair> parallel = KeyPair.generate(KeyAlgorithm.ED25519, 1030, 42L).parallel().toList();
+
+        //then
+        Assertions.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    protected void testParallelGenerationStopsEarly() {
+        //when
+        // a parallel stream must not split the stream and generate batches far ahead of the consumer
+        final List<KeyPair> keyPairs = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> KeyPair.generate(KeyAlgorithm.ED25519, Integer.MAX_VALUE)
+                        .parallel()
+                        .limit(3)
+                        .toList());
+
+        //then
+        Assertions.assertEquals(3, keyPairs.size());
+    }
+
+    @Test
+    protected void testGenerationStopsEarly() {
+        //when
+        // takeWhile does not know in advance how many keys it needs, the stream must not generate all of them
+        final AtomicInteger taken = new AtomicInteger();
+        final List<KeyPair> keyPairs = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> KeyPair.generate(KeyAlgorithm.ED25519, Integer.MAX_VALUE)
+                        .takeWhile(keyPair -> taken.incrementAndGet() <= 3)
+                        .toList());
+
+        //then
+        Assertions.assertEquals(3, keyPairs.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyPair.generate(KeyAlgorithm.ED25519, -1));
+    }
+}
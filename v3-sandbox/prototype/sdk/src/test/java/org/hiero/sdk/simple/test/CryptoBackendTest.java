@@ -0,0 +1,162 @@
+package org.hiero.sdk.simple.test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.keys.spi.CryptoBackend;
+import org.hiero.sdk.simple.network.keys.spi.DigestAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+public class CryptoBackendTest {
+
+    @Test
+    protected void testBackendsAreLoaded() {
+        //when
+        final Set<String> names = CryptoBackend.all().stream()
+                .map(CryptoBackend::getName)
+                .collect(Collectors.toSet());
+
+        //then
+        Assertions.assertEquals(Set.of("bouncycastle", "jdk"), names);
+        for (final CryptoBackend backend : CryptoBackend.all()) {
+            Assertions.assertEquals(!backend.getName().equals("jdk"), backend.supports(KeyAlgorithm.ECDSA));
+            Assertions.assertTrue(backend.supports(KeyAlgorithm.ED25519));
+        }
+    }
+
+    @Test
+    protected void testSignaturesAreCompatibleBetweenBackends() {
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            for (final CryptoBackend signer : CryptoBackend.all()) {
+                if (!signer.supports(algorithm)) {
+                    Assertions.assertThrows(IllegalArgumentException.class,
+                            () -> signer.generatePrivateKey(algorithm));
+                    continue;
+                }
+                final PrivateKey privateKey = signer.generatePrivateKey(algorithm);
+                final PublicKey publicKey = privateKey.createPublicKey();
+
+                //when
+                final byte[] signature = signer.sign(privateKey, message);
+                final byte[] invalidSignature = signature.clone();
+                invalidSignature[5] ^= 1;
+
+                //then
+                Assertions.assertEquals(algorithm, privateKey.algorithm());
+                for (final CryptoBackend verifier : CryptoBackend.all()) {
+                    if (verifier.supports(algorithm)) {
+                        Assertions.assertTrue(verifier.verify(publicKey, message, signature));
+                        Assertions.assertFalse(verifier.verify(publicKey, message, invalidSignature));
+                        // a second call uses the state the backend kept for the key
+                        Assertions.assertTrue(verifier.verify(publicKey, message, signature));
+                        Assertions.assertArrayEquals(signature, verifier.sign(privateKey, message));
+                    }
+                }
+                Assertions.assertTrue(publicKey.verify(message, signature));
+            }
+        }
+    }
+
+    @Test
+    protected void testSignaturesAreWrittenIntoBuffer() {
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        for (final CryptoBackend backend : CryptoBackend.all()) {
+            for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+                if (!backend.supports(algorithm)) {
+                    continue;
+                }
+                final PrivateKey privateKey = backend.generatePrivateKey(algorithm);
+                final byte[] buffer = new byte[100];
+
+                //when
+                final int written = backend.sign(privateKey, message, buffer, 3);
+
+                //then
+                Assertions.assertArrayEquals(backend.sign(privateKey, message),
+                        Arrays.copyOfRange(buffer, 3, 3 + written));
+                Assertions.assertEquals(0, buffer[2]);
+                Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> backend.sign(privateKey, message, new byte[written + 2], 3));
+            }
+        }
+    }
+
+    @Test
+    protected void testPrivateKeySignsIntoBuffer() {
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            final PrivateKey privateKey = PrivateKey.generate(algorithm);
+            final byte[] buffer = new byte[100];
+            Arrays.fill(buffer, (byte) 0x7f);
+
+            //when
+            final int written = privateKey.sign(message, buffer, 7);
+
+            //then
+            final byte[] signature = Arrays.copyOfRange(buffer, 7, 7 + written);
+            Assertions.assertEquals(64, written);
+            Assertions.assertEquals(0x7f, buffer[6]);
+            Assertions.assertEquals(0x7f, buffer[7 + written]);
+            Assertions.assertTrue(privateKey.createPublicKey().verify(message, signature));
+            // a signature that fits exactly at the end of the buffer
+            Assertions.assertEquals(written, privateKey.sign(message, new byte[written + 3], 3));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> privateKey.sign(message, new byte[written + 2], 3));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> privateKey.sign(message, new byte[written], -1));
+        }
+    }
+
+    @Test
+    protected void testDigests() {
+        final byte[] message = new byte[0];
+        for (final CryptoBackend backend : CryptoBackend.all()) {
+            //then
+            Assertions.assertTrue(backend.supportsDigest(DigestAlgorithm.SHA_384));
+            Assertions.assertEquals("38b060a751ac96384cd9327eb1b1e36a21fdb71114be07434c0cc7bf63f6e1da274edebfe76f65f"
+                    + "bd51ad2f14898b95b", HexFormat.of().formatHex(backend.digest(DigestAlgorithm.SHA_384, message)));
+            if (backend.supportsDigest(DigestAlgorithm.KECCAK_256)) {
+                Assertions.assertEquals("c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470",
+                        HexFormat.of().formatHex(backend.digest(DigestAlgorithm.KECCAK_256, message)));
+            } else {
+                Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> backend.digest(DigestAlgorithm.KECCAK_256, message));
+            }
+            // only the JDK backend lacks Keccak
+            Assertions.assertEquals(!backend.getName().equals("jdk"),
+                    backend.supportsDigest(DigestAlgorithm.KECCAK_256));
+        }
+    }
+
+    @Test
+    @DisabledIfSystemProperty(named = CryptoBackend.BACKEND_PROPERTY, matches = ".+")
+    protected void testDefaultBackendIsSelected() {
+        //then
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            Assertions.assertEquals("bouncycastle", CryptoBackend.forAlgorithm(algorithm).getName());
+        }
+        for (final DigestAlgorithm algorithm : DigestAlgorithm.values()) {
+            Assertions.assertEquals("bouncycastle", CryptoBackend.forDigest(algorithm).getName());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = CryptoBackend.BACKEND_PROPERTY, matches = "jdk")
+    protected void testConfiguredBackendIsSelected() {
+        //then
+        Assertions.assertEquals("jdk", CryptoBackend.forAlgorithm(KeyAlgorithm.ED25519).getName());
+        // the JDK backend does not support ECDSA, so the default backend is used for it
+        Assertions.assertEquals("bouncycastle", CryptoBackend.forAlgorithm(KeyAlgorithm.ECDSA).getName());
+        Assertions.assertEquals("jdk", CryptoBackend.forDigest(DigestAlgorithm.SHA_384).getName());
+        Assertions.assertEquals("bouncycastle", CryptoBackend.forDigest(DigestAlgorithm.KECCAK_256).getName());
+    }
+}
@@ -0,0 +1,243 @@
+package org.hiero.sdk.simple.test;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.HbarUnit;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.KeyPair;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.hiero.sdk.simple.transactions.CryptoTransferBatcher;
+import org.hiero.sdk.simple.transactions.CryptoTransferResponse;
+import org.hiero.sdk.simple.transactions.CryptoTransferTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CryptoTransferBatcherTest {
+
+    private final List<Transaction> received = Collections.synchronizedList(new ArrayList<>());
+
+    private Server server;
+
+    @AfterEach
+    protected void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    protected void testPayoutsAreNettedAndFilled() throws Exception {
+        final AccountId treasury = AccountId.from("0.0.1234");
+        final Account operatorAccount = Account.of(treasury, PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final CryptoTransferBatcher batcher = new CryptoTransferBatcher(client, Hbar.of(1));
+            // 3000 payouts to 300 accounts, every account is paid 10 times
+            for (int i = 0; i < 3000; i++) {
+                batcher.addTransfer(treasury, AccountId.from("0.0." + (5000 + i % 300)),
+                        Hbar.of(i + 1, HbarUnit.TINYBAR));
+            }
+            // an account that pays back everything it gets is netted away
+            final AccountId refunding = AccountId.from("0.0.4999");
+            batcher.addTransfer(treasury, refunding, Hbar.of(7));
+            batcher.addTransfer(refunding, treasury, Hbar.of(7));
+            final Map<AccountId, Hbar> netAmounts = batcher.getNetAmounts();
+
+            //when
+            final List<CryptoTransferTransaction> transactions = batcher.createTransactions();
+
+            //then
+            Assertions.assertEquals(301, netAmounts.size());
+            // the treasury and 9 paid accounts per transaction
+            Assertions.assertEquals(34, transactions.size());
+            final Map<AccountId, Long> executed = new HashMap<>();
+            for (final CryptoTransferTransaction transaction : transactions) {
+                final Map<AccountId, Hbar> transfers = transaction.getHbarTransfers();
+                Assertions.assertTrue(transfers.size() <= CryptoTransferBatcher.DEFAULT_MAX_TRANSFERS);
+                Assertions.assertEquals(0, transfers.values().stream().mapToLong(Hbar::tinybar).sum());
+                transfers.forEach((accountId, amount) -> executed.merge(accountId, amount.tinybar(), Long::sum));
+                final PackedTransaction<CryptoTransferTransaction, CryptoTransferResponse> packed =
+                        transaction.packTransaction(client);
+                Assertions.assertTrue(packed.size() < PackedTransaction.MAX_SIZE);
+                Assertions.assertEquals(transfers, packed.unpack().getHbarTransfers());
+            }
+            netAmounts.forEach((accountId, amount) -> Assertions.assertEquals(amount.tinybar(),
+                    executed.get(accountId)));
+            Assertions.assertFalse(executed.containsKey(refunding));
+            Assertions.assertTrue(batcher.getNetAmounts().isEmpty());
+        }
+    }
+
+    @Test
+    protected void testAmountsAreSplitToRespectLimits() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ECDSA));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final CryptoTransferBatcher batcher = new CryptoTransferBatcher(client, Hbar.of(1), 3, 6144);
+            final AccountId payer1 = AccountId.from("0.0.100");
+            final AccountId payer2 = AccountId.from("0.0.101");
+            final AccountId payee = AccountId.from("0.0.200");
+            final AccountId otherPayee = AccountId.from("0.0.201");
+            batcher.addTransfer(payer1, payee, Hbar.of(5));
+            batcher.addTransfer(payer2, payee, Hbar.of(5));
+            batcher.addTransfer(payer1, otherPayee, Hbar.of(1));
+
+            //when
+            final List<CryptoTransferTransaction> transactions = batcher.createTransactions();
+
+            //then
+            // the debit of the second payer does not fit completely into the first transaction
+            Assertions.assertEquals(2, transactions.size());
+            Assertions.assertEquals(Map.of(payer1, Hbar.of(-6), payee, Hbar.of(10), payer2, Hbar.of(-4)),
+                    transactions.get(0).getHbarTransfers());
+            Assertions.assertEquals(Map.of(payer2, Hbar.of(-1), otherPayee, Hbar.of(1)),
+                    transactions.get(1).getHbarTransfers());
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> batcher.addTransfer(payer1, payer1, Hbar.of(1)));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> batcher.addTransfer(payer1, payee, Hbar.ZERO));
+        }
+    }
+
+    @Test
+    protected void testTransactionsAreSignedByDebitedAccounts() throws Exception {
+        server = startNode();
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, localSettings(server.getPort()))) {
+            final CryptoTransferBatcher batcher = new CryptoTransferBatcher(client, Hbar.of(1), 3, 6144);
+            final AccountId payer1 = AccountId.from("0.0.100");
+            final AccountId payer2 = AccountId.from("0.0.101");
+            final KeyPair payer1Key = KeyPair.generate(KeyAlgorithm.ED25519);
+            final KeyPair payer2Key = KeyPair.generate(KeyAlgorithm.ECDSA);
+            // the first transaction is debited by the first payer, the second transaction by the second payer
+            batcher.addTransfer(payer1, AccountId.from("0.0.200"), Hbar.of(5));
+            batcher.addTransfer(payer2, AccountId.from("0.0.201"), Hbar.of(5));
+
+            //when
+            final List<CryptoTransferResponse> responses = batcher.send(Map.of(payer1, payer1Key, payer2, payer2Key))
+                    .get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(2, responses.size());
+            Assertions.assertEquals(2, received.size());
+            final Set<Set<ByteString>> signers = new HashSet<>();
+            for (final Transaction transaction : received) {
+                signers.add(transaction.getSigMap().getSigPairList().stream()
+                        .map(SignaturePair::getPubKeyPrefix)
+                        .collect(Collectors.toSet()));
+            }
+            final ByteString operatorKey = rawKey(operatorAccount.publicKey());
+            Assertions.assertEquals(Set.of(Set.of(operatorKey, rawKey(payer1Key.publicKey())),
+                    Set.of(operatorKey, rawKey(payer2Key.publicKey()))), signers);
+        }
+    }
+
+    @Test
+    protected void testSendFailsWithoutKeyOfDebitedAccount() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final CryptoTransferBatcher batcher = new CryptoTransferBatcher(client, Hbar.of(1));
+            final AccountId payer = AccountId.from("0.0.100");
+            batcher.addTransfer(payer, AccountId.from("0.0.200"), Hbar.of(5));
+            batcher.addTransfer(operatorAccount.accountId(), AccountId.from("0.0.201"), Hbar.of(5));
+            final Map<AccountId, Hbar> netAmounts = batcher.getNetAmounts();
+
+            //when
+            final IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> batcher.send(Map.of()));
+
+            //then
+            Assertions.assertTrue(exception.getMessage().contains("0.0.100"));
+            Assertions.assertEquals(netAmounts, batcher.getNetAmounts());
+        }
+    }
+
+    private static ByteString rawKey(final PublicKey publicKey) {
+        return ByteString.copyFrom(publicKey.toBytes(KeyEncoding.RAW));
+    }
+
+    // a network with the node 0.0.3 on the given port of the loopback interface
+    private static NetworkSettings localSettings(final int port) {
+        final NetworkSettings testEnvironment = NetworkSettings.forIdentifier("hiero-test").orElseThrow();
+        return new NetworkSettings() {
+            @Override
+            public byte[] getId() {
+                return testEnvironment.getId();
+            }
+
+            @Override
+            public String getNetworkIdentifier() {
+                return "local-test";
+            }
+
+            @Override
+            public Optional<String> getNetworkName() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<ConsensusNode> getConsensusNodes() {
+                return Set.of(new ConsensusNode("127.0.0.1", Integer.toString(port), "0.0.3"));
+            }
+        };
+    }
+
+    // a fake consensus node that accepts crypto transfers and keeps every received transaction
+    private Server startNode() throws IOException {
+        final MethodDescriptor<Transaction, TransactionResponse> methodDescriptor =
+                TransactionProtobuffSupport.of(CryptoTransferTransaction.class).getMethodDescriptor();
+        return Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(ServerServiceDefinition.builder(methodDescriptor.getServiceName())
+                        .addMethod(methodDescriptor, (call, headers) -> {
+                            call.request(1);
+                            return new ServerCall.Listener<>() {
+                                @Override
+                                public void onMessage(final Transaction message) {
+                                    received.add(message);
+                                    call.sendHeaders(new Metadata());
+                                    call.sendMessage(TransactionResponse.newBuilder()
+                                            .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                                            .build());
+                                    call.close(Status.OK, new Metadata());
+                                }
+                            };
+                        })
+                        .build())
+                .build()
+                .start();
+    }
+}
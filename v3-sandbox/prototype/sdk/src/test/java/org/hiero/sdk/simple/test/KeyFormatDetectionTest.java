@@ -0,0 +1,129 @@
+package org.hiero.sdk.simple.test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KeyFormatDetectionTest {
+
+    // PrivateKeyInfo with the id-ecPublicKey and secp256k1 OIDs, the key is an OCTET STRING inside the OCTET STRING
+    private static final byte[] LEGACY_ECDSA_PREFIX = {0x30, 0x39, 0x02, 0x01, 0x00, 0x30, 0x10, 0x06, 0x07, 0x2A,
+            (byte) 0x86, 0x48, (byte) 0xCE, 0x3D, 0x02, 0x01, 0x06, 0x05, 0x2B, (byte) 0x81, 0x04, 0x00, 0x0A, 0x04,
+            0x22, 0x04, 0x20};
+
+    @Test
+    protected void testEncodedKeysAreDetected() {
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            final PrivateKey privateKey = PrivateKey.generate(algorithm);
+            final PublicKey publicKey = privateKey.createPublicKey();
+
+            //when
+            final PrivateKey privateFromDer = PrivateKey.from(privateKey.toBytes(KeyEncoding.DER));
+            final PublicKey publicFromDer = PublicKey.from(publicKey.toBytes(KeyEncoding.DER));
+            final PublicKey publicFromRaw = PublicKey.from(publicKey.toBytes(KeyEncoding.RAW));
+
+            //then
+            Assertions.assertEquals(algorithm, privateFromDer.algorithm());
+            Assertions.assertArrayEquals(privateKey.toBytes(KeyEncoding.RAW), privateFromDer.toBytes(KeyEncoding.RAW));
+            Assertions.assertEquals(publicKey, publicFromDer);
+            Assertions.assertEquals(publicKey, publicFromRaw);
+        }
+    }
+
+    @Test
+    protected void testEcdsaKeysWithCachedPointBehaveLikeDecodedKeys() {
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes();
+        final byte[] signature = privateKey.sign(message);
+        final byte[] invalidSignature = signature.clone();
+        invalidSignature[5] ^= 1;
+
+        //when
+        // the derived key and the key from uncompressed bytes keep their point, the key from compressed bytes decodes
+        // it on the first verification
+        final PublicKey derived = privateKey.createPublicKey();
+        final PublicKey compressed = PublicKey.from(derived.toBytes(KeyEncoding.RAW));
+        final byte[] uncompressedBytes = CustomNamedCurves.getByName("secp256k1").getCurve()
+                .decodePoint(derived.toBytes(KeyEncoding.RAW)).getEncoded(false);
+        final PublicKey uncompressed = PublicKey.from(uncompressedBytes);
+
+        //then
+        for (final PublicKey publicKey : List.of(derived, compressed, uncompressed)) {
+            Assertions.assertTrue(publicKey.verify(message, signature));
+            Assertions.assertFalse(publicKey.verify(message, invalidSignature));
+            // the second call uses the cached point
+            Assertions.assertTrue(publicKey.verify(message, signature));
+            Assertions.assertEquals(derived, publicKey);
+            Assertions.assertEquals(publicKey, derived);
+            Assertions.assertEquals(derived.hashCode(), publicKey.hashCode());
+            Assertions.assertArrayEquals(derived.toBytes(KeyEncoding.RAW), publicKey.toBytes(KeyEncoding.RAW));
+        }
+        Assertions.assertEquals(1, new HashSet<>(List.of(derived, compressed, uncompressed)).size());
+        Assertions.assertNotEquals(derived, PrivateKey.generate(KeyAlgorithm.ECDSA).createPublicKey());
+    }
+
+    @Test
+    protected void testRawKeysThatLookLikeDerAreDetected() {
+        // a SEQUENCE that contains a single OCTET STRING is well-formed DER but not a known key structure
+        final byte[] rawKey = new byte[32];
+        Arrays.fill(rawKey, (byte) 0x11);
+        rawKey[0] = 0x30;
+        rawKey[1] = 0x1E;
+        rawKey[2] = 0x04;
+        rawKey[3] = 0x1C;
+
+        //when
+        final PrivateKey privateKey = PrivateKey.from(rawKey);
+        final PublicKey publicKey = PublicKey.from(rawKey);
+
+        //then
+        Assertions.assertEquals(KeyAlgorithm.ED25519, privateKey.algorithm());
+        Assertions.assertArrayEquals(rawKey, privateKey.toBytes(KeyEncoding.RAW));
+        Assertions.assertEquals(KeyAlgorithm.ED25519, publicKey.algorithm());
+        Assertions.assertArrayEquals(rawKey, publicKey.toBytes(KeyEncoding.RAW));
+    }
+
+    @Test
+    protected void testLegacyEcdsaKeysAreDetected() {
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ECDSA);
+        final byte[] rawKey = privateKey.toBytes(KeyEncoding.RAW);
+        final byte[] legacy = Arrays.copyOf(LEGACY_ECDSA_PREFIX, LEGACY_ECDSA_PREFIX.length + rawKey.length);
+        System.arraycopy(rawKey, 0, legacy, LEGACY_ECDSA_PREFIX.length, rawKey.length);
+
+        //when
+        final PrivateKey fromLegacy = PrivateKey.from(legacy);
+
+        //then
+        Assertions.assertEquals(KeyAlgorithm.ECDSA, fromLegacy.algorithm());
+        Assertions.assertArrayEquals(rawKey, fromLegacy.toBytes(KeyEncoding.RAW));
+    }
+
+    @Test
+    protected void testUnknownFormatsAreRejected() {
+        final byte[] garbage = {0x30, 0x05, 0x02, 0x01, 0x00, 0x04, 0x7F};
+        final PublicKey ecdsaPublicKey = PrivateKey.generate(KeyAlgorithm.ECDSA).createPublicKey();
+
+        //then
+        // unknown bytes are reported as such and not taken for an ECDSA key of the wrong shape
+        assertUnsupportedPrivateKeyFormat(garbage);
+        assertUnsupportedPrivateKeyFormat(new byte[20]);
+        assertUnsupportedPrivateKeyFormat(ecdsaPublicKey.toBytes(KeyEncoding.DER));
+        assertUnsupportedPrivateKeyFormat(ecdsaPublicKey.toBytes(KeyEncoding.RAW));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PublicKey.from(garbage));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PublicKey.from(new byte[31]));
+    }
+
+    private static void assertUnsupportedPrivateKeyFormat(final byte[] bytes) {
+        final IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PrivateKey.from(bytes));
+        Assertions.assertTrue(exception.getMessage().startsWith("Unsupported private key format"),
+                exception.getMessage());
+    }
+}
@@ -0,0 +1,150 @@
+package org.hiero.sdk.simple.test;
+
+import com.hedera.hashgraph.sdk.proto.Query;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.protobuf.lite.ProtoLiteUtils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.Receipt;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MethodDescriptorTest {
+
+    private final List<Query> received = Collections.synchronizedList(new ArrayList<>());
+
+    private Server server;
+
+    @AfterEach
+    protected void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    protected void testTransactionMethodsHaveExpectedNames() {
+        //given
+        final Map<TransactionBody.DataCase, String> expectedNames = Map.of(
+                TransactionBody.DataCase.CRYPTOCREATEACCOUNT, "proto.CryptoService/createAccount",
+                TransactionBody.DataCase.CRYPTOTRANSFER, "proto.CryptoService/cryptoTransfer",
+                TransactionBody.DataCase.CONSENSUSSUBMITMESSAGE, "proto.ConsensusService/submitMessage");
+
+        expectedNames.forEach((dataCase, expectedName) -> {
+            //when
+            final MethodDescriptor<?, ?> methodDescriptor = TransactionProtobuffSupport.of(dataCase)
+                    .getMethodDescriptor();
+
+            //then
+            Assertions.assertEquals(expectedName, methodDescriptor.getFullMethodName());
+            Assertions.assertEquals(MethodDescriptor.MethodType.UNARY, methodDescriptor.getType());
+        });
+    }
+
+    @Test
+    protected void testReceiptQueryUsesGetTransactionReceipts() throws Exception {
+        // the node only implements the method under its name in the service definition of the protobuf module
+        server = startNode("proto.CryptoService", "getTransactionReceipts");
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, localSettings(server.getPort()))) {
+            final TransactionId transactionId = client.generateTransactionId();
+
+            //when
+            final Receipt receipt = client.queryTransactionReceipt(transactionId).get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(transactionId, receipt.transactionId());
+            Assertions.assertEquals(1, received.size());
+            Assertions.assertTrue(received.get(0).hasTransactionGetReceipt());
+        }
+    }
+
+    // a network with the node 0.0.3 on the given port of the loopback interface
+    private static NetworkSettings localSettings(final int port) {
+        final NetworkSettings testEnvironment = NetworkSettings.forIdentifier("hiero-test").orElseThrow();
+        return new NetworkSettings() {
+            @Override
+            public byte[] getId() {
+                return testEnvironment.getId();
+            }
+
+            @Override
+            public String getNetworkIdentifier() {
+                return "local-test";
+            }
+
+            @Override
+            public Optional<String> getNetworkName() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<ConsensusNode> getConsensusNodes() {
+                return Set.of(new ConsensusNode("127.0.0.1", Integer.toString(port), "0.0.3"));
+            }
+        };
+    }
+
+    // a fake consensus node that answers every query of the given method with a successful receipt
+    private Server startNode(final String serviceName, final String methodName) throws IOException {
+        final MethodDescriptor<Query, Response> methodDescriptor = MethodDescriptor.<Query, Response>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName, methodName))
+                .setRequestMarshaller(ProtoLiteUtils.marshaller(Query.getDefaultInstance()))
+                .setResponseMarshaller(ProtoLiteUtils.marshaller(Response.getDefaultInstance()))
+                .build();
+        return Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(ServerServiceDefinition.builder(serviceName)
+                        .addMethod(methodDescriptor, (call, headers) -> {
+                            call.request(1);
+                            return new ServerCall.Listener<>() {
+                                @Override
+                                public void onMessage(final Query message) {
+                                    received.add(message);
+                                    call.sendHeaders(new Metadata());
+                                    call.sendMessage(Response.newBuilder()
+                                            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                                                    .setHeader(ResponseHeader.newBuilder()
+                                                            .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                                                    .setReceipt(TransactionReceipt.newBuilder()
+                                                            .setStatus(ResponseCodeEnum.SUCCESS)))
+                                            .build());
+                                    call.close(Status.OK, new Metadata());
+                                }
+                            };
+                        })
+                        .build())
+                .build()
+                .start();
+    }
+}
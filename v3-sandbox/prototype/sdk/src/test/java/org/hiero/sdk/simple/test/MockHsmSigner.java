@@ -0,0 +1,48 @@
+package org.hiero.sdk.simple.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.signing.AsyncTransactionSigner;
+import org.hiero.sdk.simple.signing.SignableNodeTransactionBodyBytes;
+
+/**
+ * A local stand-in for an HSM: signs with an in-memory key and completes every batch after a configurable latency.
+ */
+public class MockHsmSigner implements AsyncTransactionSigner {
+
+    private final PrivateKey privateKey;
+
+    private final Executor delayedExecutor;
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    public MockHsmSigner(final PrivateKey privateKey, final Duration latency) {
+        this.privateKey = Objects.requireNonNull(privateKey, "privateKey must not be null");
+        Objects.requireNonNull(latency, "latency must not be null");
+        this.delayedExecutor = CompletableFuture.delayedExecutor(latency.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public PublicKey getPublicKey() {
+        return privateKey.createPublicKey();
+    }
+
+    @Override
+    public CompletableFuture<List<byte[]>> sign(final List<SignableNodeTransactionBodyBytes> bodies) {
+        roundTrips.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> bodies.stream()
+                .map(body -> privateKey.sign(body.signableTransactionBodyBytes()))
+                .toList(), delayedExecutor);
+    }
+
+    public int getRoundTrips() {
+        return roundTrips.get();
+    }
+}
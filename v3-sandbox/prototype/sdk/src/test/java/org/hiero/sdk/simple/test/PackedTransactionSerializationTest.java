@@ -0,0 +1,157 @@
+package org.hiero.sdk.simple.test;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.TokenTransferList;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.KeyPair;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.transactions.AccountCreateResponse;
+import org.hiero.sdk.simple.transactions.AccountCreateTransaction;
+import org.hiero.sdk.simple.transactions.CryptoTransferTransaction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PackedTransactionSerializationTest {
+
+    @Test
+    protected void testRestoredTransactionKeepsSignatures() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final PackedTransaction<AccountCreateTransaction, AccountCreateResponse> transaction =
+                    new AccountCreateTransaction()
+                            .withMemo("offline")
+                            .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey())
+                            .packTransaction(client);
+            transaction.sign(KeyPair.generate(KeyAlgorithm.ECDSA));
+
+            //when
+            final byte[] bytes = transaction.toBytes();
+            final PackedTransaction<?, ?> restored = PackedTransaction.fromBytes(client, bytes);
+
+            //then
+            Assertions.assertEquals(transaction.serializedSize(), bytes.length);
+            Assertions.assertEquals(transaction.transactionId(), restored.transactionId());
+            Assertions.assertEquals(transaction.size(), restored.size());
+            Assertions.assertArrayEquals(bytes, restored.toBytes());
+            Assertions.assertTrue(restored.verifySignatures());
+            Assertions.assertInstanceOf(AccountCreateTransaction.class, restored.unpack());
+            Assertions.assertEquals("offline", ((AccountCreateTransaction) restored.unpack()).getMemo());
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> restored.sign(operatorAccount.keyPair()));
+            restored.sign(KeyPair.generate(KeyAlgorithm.ED25519));
+            Assertions.assertTrue(restored.verifySignatures());
+        }
+    }
+
+    @Test
+    protected void testWriteToBuffer() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ECDSA));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final PackedTransaction<AccountCreateTransaction, AccountCreateResponse> transaction =
+                    new AccountCreateTransaction()
+                            .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey())
+                            .packTransaction(client);
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(transaction.serializedSize() + 8);
+            buffer.putLong(42);
+
+            //when
+            transaction.writeTo(buffer);
+            buffer.flip().getLong();
+            final PackedTransaction<?, ?> restored = PackedTransaction.fromBytes(client, buffer);
+
+            //then
+            Assertions.assertFalse(buffer.hasRemaining());
+            Assertions.assertArrayEquals(transaction.toBytes(), restored.toBytes());
+            Assertions.assertTrue(restored.verifySignatures());
+            Assertions.assertThrows(BufferOverflowException.class,
+                    () -> transaction.writeTo(ByteBuffer.allocate(transaction.serializedSize() - 1)));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> PackedTransaction.fromBytes(client, new byte[]{1, 2, 3}));
+        }
+    }
+
+    @Test
+    protected void testTokenTransfersAreRejected() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final byte[] bytes = new CryptoTransferTransaction()
+                    .withHbarTransfer(AccountId.from("0.0.1234"), Hbar.of(-1))
+                    .withHbarTransfer(AccountId.from("0.0.1235"), Hbar.of(1))
+                    .packTransaction(client)
+                    .toBytes();
+            final Transaction transaction = Transaction.parseFrom(bytes);
+            final TransactionBody body = TransactionBody.parseFrom(transaction.getBodyBytes());
+            final TransactionBody bodyWithTokens = body.toBuilder()
+                    .setCryptoTransfer(body.getCryptoTransfer().toBuilder()
+                            .addTokenTransfers(TokenTransferList.getDefaultInstance()))
+                    .build();
+            final PackedTransaction<?, ?> restored = PackedTransaction.fromBytes(client, Transaction.newBuilder()
+                    .setBodyBytes(bodyWithTokens.toByteString())
+                    .build()
+                    .toByteArray());
+
+            //when
+            final PackedTransaction<?, ?> plain = PackedTransaction.fromBytes(client, bytes);
+
+            //then
+            Assertions.assertInstanceOf(CryptoTransferTransaction.class, plain.unpack());
+            Assertions.assertThrows(IllegalArgumentException.class, restored::unpack);
+        }
+    }
+
+    @Test
+    protected void testMalformedSignaturesAreInvalid() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final Transaction transaction = Transaction.parseFrom(new AccountCreateTransaction()
+                    .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey())
+                    .packTransaction(client)
+                    .toBytes());
+            // the x coordinate of the compressed ECDSA key is larger than the field prime, so it is not on the curve
+            final byte[] invalidPoint = new byte[33];
+            Arrays.fill(invalidPoint, (byte) 0xFF);
+            invalidPoint[0] = 0x02;
+            final SignaturePair invalidKey = SignaturePair.newBuilder()
+                    .setPubKeyPrefix(ByteString.copyFrom(invalidPoint))
+                    .setECDSASecp256K1(ByteString.copyFrom(new byte[64]))
+                    .build();
+            final SignaturePair shortSignature = SignaturePair.newBuilder()
+                    .setPubKeyPrefix(ByteString.copyFrom(
+                            PrivateKey.generate(KeyAlgorithm.ECDSA).createPublicKey().toBytes(KeyEncoding.RAW)))
+                    .setECDSASecp256K1(ByteString.copyFrom(new byte[10]))
+                    .build();
+
+            //when
+            final PackedTransaction<?, ?> withInvalidKey = PackedTransaction.fromBytes(client, transaction.toBuilder()
+                    .setSigMap(transaction.getSigMap().toBuilder().addSigPair(invalidKey))
+                    .build()
+                    .toByteArray());
+            final PackedTransaction<?, ?> withShortSignature = PackedTransaction.fromBytes(client,
+                    transaction.toBuilder()
+                            .setSigMap(transaction.getSigMap().toBuilder().addSigPair(shortSignature))
+                            .build()
+                            .toByteArray());
+
+            //then
+            Assertions.assertTrue(PackedTransaction.fromBytes(client, transaction.toByteArray()).verifySignatures());
+            Assertions.assertFalse(withInvalidKey.verifySignatures());
+            Assertions.assertFalse(withShortSignature.verifySignatures());
+        }
+    }
+}
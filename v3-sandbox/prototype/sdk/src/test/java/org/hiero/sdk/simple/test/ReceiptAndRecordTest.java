@@ -0,0 +1,203 @@
+package org.hiero.sdk.simple.test;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ExchangeRateSet;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TimestampSeconds;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import org.hiero.sdk.simple.ExchangeRate;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.Receipt;
+import org.hiero.sdk.simple.Record;
+import org.hiero.sdk.simple.grpc.GrpcClient;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.Network;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.hiero.sdk.simple.transactions.AccountCreateReceipt;
+import org.hiero.sdk.simple.transactions.AccountCreateRecord;
+import org.hiero.sdk.simple.transactions.AccountCreateResponse;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitReceipt;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReceiptAndRecordTest {
+
+    private static final TransactionId TRANSACTION_ID = new TransactionId(AccountId.from("0.0.1234"),
+            Instant.ofEpochSecond(1_700_000_000, 42));
+
+    private static final TransactionReceipt RECEIPT = TransactionReceipt.newBuilder()
+            .setStatus(ResponseCodeEnum.SUCCESS)
+            .setAccountID(AccountID.newBuilder().setAccountNum(5000))
+            .setExchangeRate(ExchangeRateSet.newBuilder()
+                    .setCurrentRate(com.hedera.hashgraph.sdk.proto.ExchangeRate.newBuilder()
+                            .setHbarEquiv(30_000)
+                            .setCentEquiv(150_000)
+                            .setExpirationTime(TimestampSeconds.newBuilder().setSeconds(1_700_003_600))))
+            .setTopicRunningHash(ByteString.copyFrom(new byte[]{1, 2, 3}))
+            .build();
+
+    @Test
+    protected void testReceiptFieldsAreDecodedOnceWhenRead() throws Exception {
+        final HieroClient client = new ReceiptClient(RECEIPT, TransactionRecord.getDefaultInstance());
+
+        //when
+        final AccountCreateReceipt receipt = new AccountCreateResponse(client, TRANSACTION_ID).queryReceipt().get();
+
+        //then
+        Assertions.assertEquals(TRANSACTION_ID, receipt.transactionId());
+        Assertions.assertEquals(AccountId.from("0.0.5000"), receipt.createdAccount());
+        Assertions.assertEquals(new ExchangeRate(30_000, 150_000, Instant.ofEpochSecond(1_700_003_600)),
+                receipt.exchangeRate());
+        // the decoded values are cached
+        Assertions.assertSame(receipt.createdAccount(), receipt.createdAccount());
+        Assertions.assertSame(receipt.exchangeRate(), receipt.exchangeRate());
+        final TopicMessageSubmitReceipt topicReceipt = new TopicMessageSubmitResponse(client, TRANSACTION_ID)
+                .queryReceipt().get();
+        final byte[] runningHash = topicReceipt.topicRunningHash();
+        runningHash[0] = 9;
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, topicReceipt.topicRunningHash());
+    }
+
+    @Test
+    protected void testRecordFieldsAreDecodedOnceWhenRead() throws Exception {
+        final TransactionRecord protobuf = TransactionRecord.newBuilder()
+                .setReceipt(RECEIPT)
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1_700_000_005).setNanos(7))
+                .build();
+        final HieroClient client = new ReceiptClient(RECEIPT, protobuf);
+
+        //when
+        final AccountCreateRecord record = new AccountCreateResponse(client, TRANSACTION_ID).queryRecord().get();
+
+        //then
+        Assertions.assertEquals(TRANSACTION_ID, record.transactionId());
+        Assertions.assertEquals(Instant.ofEpochSecond(1_700_000_005, 7), record.consensusTimestamp());
+        Assertions.assertEquals(AccountId.from("0.0.5000"), record.createdAccount());
+        Assertions.assertEquals(TRANSACTION_ID, record.receipt().transactionId());
+        // the receipt and the decoded values are cached
+        Assertions.assertSame(record.receipt(), record.receipt());
+        Assertions.assertSame(record.consensusTimestamp(), record.consensusTimestamp());
+    }
+
+    @Test
+    protected void testMissingAccountIsReportedWhenRead() throws Exception {
+        final TransactionReceipt withoutAccount = RECEIPT.toBuilder().clearAccountID().build();
+        final HieroClient client = new ReceiptClient(withoutAccount,
+                TransactionRecord.newBuilder().setReceipt(withoutAccount).build());
+        final AccountCreateResponse response = new AccountCreateResponse(client, TRANSACTION_ID);
+
+        //when
+        final AccountCreateReceipt receipt = response.queryReceipt().get();
+        final AccountCreateRecord record = response.queryRecord().get();
+
+        //then
+        Assertions.assertEquals(TRANSACTION_ID, receipt.transactionId());
+        Assertions.assertNotNull(receipt.exchangeRate());
+        Assertions.assertThrows(IllegalStateException.class, receipt::createdAccount);
+        Assertions.assertThrows(IllegalStateException.class, record::createdAccount);
+    }
+
+    @Test
+    protected void testEqualityIsBasedOnClassTransactionIdAndProtobuf() throws Exception {
+        final HieroClient client = new ReceiptClient(RECEIPT, TransactionRecord.newBuilder()
+                .setReceipt(RECEIPT)
+                .build());
+        final HieroClient otherClient = new ReceiptClient(RECEIPT.toBuilder().setTopicSequenceNumber(1).build(),
+                TransactionRecord.newBuilder().setReceipt(RECEIPT).setMemo("other").build());
+        final TransactionId otherTransactionId = new TransactionId(AccountId.from("0.0.1234"),
+                Instant.ofEpochSecond(1_700_000_000, 43));
+
+        //when
+        final AccountCreateReceipt receipt = new AccountCreateResponse(client, TRANSACTION_ID).queryReceipt().get();
+        final AccountCreateReceipt sameReceipt = new AccountCreateResponse(client, TRANSACTION_ID).queryReceipt()
+                .get();
+        // reading a field does not change the equality
+        sameReceipt.createdAccount();
+        final AccountCreateRecord record = new AccountCreateResponse(client, TRANSACTION_ID).queryRecord().get();
+        final AccountCreateRecord sameRecord = new AccountCreateResponse(client, TRANSACTION_ID).queryRecord().get();
+        sameRecord.receipt();
+
+        //then
+        Assertions.assertEquals(receipt, sameReceipt);
+        Assertions.assertEquals(receipt.hashCode(), sameReceipt.hashCode());
+        Assertions.assertNotEquals(receipt,
+                new AccountCreateResponse(client, otherTransactionId).queryReceipt().get());
+        Assertions.assertNotEquals(receipt,
+                new AccountCreateResponse(otherClient, TRANSACTION_ID).queryReceipt().get());
+        Assertions.assertNotEquals(receipt,
+                new TopicMessageSubmitResponse(client, TRANSACTION_ID).queryReceipt().get());
+        Assertions.assertEquals(record, sameRecord);
+        Assertions.assertEquals(record.hashCode(), sameRecord.hashCode());
+        Assertions.assertNotEquals(record,
+                new AccountCreateResponse(client, otherTransactionId).queryRecord().get());
+        Assertions.assertNotEquals(record,
+                new AccountCreateResponse(otherClient, TRANSACTION_ID).queryRecord().get());
+    }
+
+    // a client that answers every receipt and record query with the given protobufs
+    private record ReceiptClient(TransactionReceipt receipt, TransactionRecord record) implements HieroClient {
+
+        @Override
+        public TransactionId generateTransactionId() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Receipt> queryTransactionReceipt(final TransactionId transactionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <R extends Receipt> CompletableFuture<R> queryTransactionReceipt(final TransactionId transactionId,
+                final BiFunction<TransactionId, TransactionReceipt, R> receiptFactory) {
+            return CompletableFuture.completedFuture(receiptFactory.apply(transactionId, receipt));
+        }
+
+        @Override
+        public CompletableFuture<Record> queryTransactionRecord(final TransactionId transactionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <RECEIPT extends Receipt, RECORD extends Record<RECEIPT>> CompletableFuture<RECORD> queryTransactionRecord(
+                final TransactionId transactionId,
+                final BiFunction<TransactionId, TransactionRecord, RECORD> recordFactory) {
+            return CompletableFuture.completedFuture(recordFactory.apply(transactionId, record));
+        }
+
+        @Override
+        public GrpcClient getGrpcClient() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GrpcClient getGrpcClient(final ConsensusNode node) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Account getOperatorAccount() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public NetworkSettings getNetworkSettings() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Network getNetwork() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.hiero.sdk.simple.test;
+
+import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.TopicId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.hiero.sdk.simple.transactions.TopicMessagePublisher;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitResponse;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicMessagePublisherTest {
+
+    private final List<Transaction> received = Collections.synchronizedList(new ArrayList<>());
+
+    private Server server;
+
+    @AfterEach
+    protected void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    protected void testMessageIsSplitAtChunkBoundaries() throws Exception {
+        server = startNode(Integer.MAX_VALUE);
+        try (HieroClient client = createClient()) {
+            final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TopicId.from("0.0.5000"),
+                    Hbar.of(1), 100, 3, 4, ForkJoinPool.commonPool());
+            final byte[] message = new byte[250];
+            for (int i = 0; i < message.length; i++) {
+                message[i] = (byte) i;
+            }
+
+            //when
+            final List<TopicMessageSubmitResponse> responses = publisher.publish(message).get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(3, responses.size());
+            Assertions.assertEquals(3, received.size());
+            final ByteArrayOutputStream sentMessage = new ByteArrayOutputStream();
+            final List<Integer> chunkSizes = new ArrayList<>();
+            final TransactionID initialTransactionId = body(received.get(0)).getTransactionID();
+            for (int i = 0; i < received.size(); i++) {
+                final TransactionBody body = body(received.get(i));
+                final ConsensusSubmitMessageTransactionBody submitMessage = body.getConsensusSubmitMessage();
+                chunkSizes.add(submitMessage.getMessage().size());
+                submitMessage.getMessage().writeTo(sentMessage);
+                Assertions.assertEquals(i + 1, submitMessage.getChunkInfo().getNumber());
+                Assertions.assertEquals(3, submitMessage.getChunkInfo().getTotal());
+                Assertions.assertEquals(initialTransactionId, submitMessage.getChunkInfo().getInitialTransactionID());
+                assertSameTransactionId(responses.get(i).transactionId(), body.getTransactionID());
+            }
+            Assertions.assertEquals(List.of(100, 100, 50), chunkSizes);
+            Assertions.assertArrayEquals(message, sentMessage.toByteArray());
+            Assertions.assertEquals(3, publisher.bodySizeAllChunks(new byte[300]).length);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> publisher.publish(new byte[301]));
+        }
+    }
+
+    @Test
+    protected void testSmallMessageIsSentWithoutChunkInfo() throws Exception {
+        server = startNode(Integer.MAX_VALUE);
+        try (HieroClient client = createClient()) {
+            final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TopicId.from("0.0.5000"),
+                    Hbar.of(1), 100, 3, 4, ForkJoinPool.commonPool());
+
+            //when
+            publisher.publish(new byte[100]).get(10, TimeUnit.SECONDS);
+            publisher.publish(new byte[0]).get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(2, received.size());
+            final ConsensusSubmitMessageTransactionBody fullChunk = body(received.get(0)).getConsensusSubmitMessage();
+            Assertions.assertEquals(100, fullChunk.getMessage().size());
+            Assertions.assertFalse(fullChunk.hasChunkInfo());
+            final ConsensusSubmitMessageTransactionBody emptyMessage =
+                    body(received.get(1)).getConsensusSubmitMessage();
+            Assertions.assertTrue(emptyMessage.getMessage().isEmpty());
+            Assertions.assertFalse(emptyMessage.hasChunkInfo());
+        }
+    }
+
+    @Test
+    protected void testChunksAreSentInOrder() throws Exception {
+        server = startNode(Integer.MAX_VALUE);
+        try (HieroClient client = createClient()) {
+            final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TopicId.from("0.0.5000"),
+                    Hbar.of(1), 10, 20, 20, ForkJoinPool.commonPool());
+
+            //when
+            publisher.publish(new byte[200]).get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(20, received.size());
+            for (int i = 0; i < received.size(); i++) {
+                Assertions.assertEquals(i + 1, body(received.get(i)).getConsensusSubmitMessage()
+                        .getChunkInfo().getNumber());
+            }
+        }
+    }
+
+    @Test
+    protected void testRemainingChunksAreNotSentAfterFailure() throws Exception {
+        // the node rejects the second chunk
+        server = startNode(1);
+        try (HieroClient client = createClient()) {
+            final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TopicId.from("0.0.5000"),
+                    Hbar.of(1), 10, 20, 20, ForkJoinPool.commonPool());
+
+            //when
+            final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                    () -> publisher.publish(new byte[50]).get(10, TimeUnit.SECONDS));
+
+            //then
+            Assertions.assertNotNull(exception.getCause());
+            Assertions.assertEquals(2, received.size());
+            Assertions.assertEquals(2, body(received.get(1)).getConsensusSubmitMessage().getChunkInfo().getNumber());
+        }
+    }
+
+    private static TransactionBody body(final Transaction transaction) throws IOException {
+        return TransactionBody.parseFrom(transaction.getBodyBytes());
+    }
+
+    private static void assertSameTransactionId(final TransactionId expected, final TransactionID actual) {
+        Assertions.assertEquals(expected.accountId().num(), actual.getAccountID().getAccountNum());
+        Assertions.assertEquals(expected.validStart().getEpochSecond(), actual.getTransactionValidStart().getSeconds());
+        Assertions.assertEquals(expected.validStart().getNano(), actual.getTransactionValidStart().getNanos());
+    }
+
+    private HieroClient createClient() {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        return HieroClient.create(operatorAccount, localSettings(server.getPort()));
+    }
+
+    // a network with the node 0.0.3 on the given port of the loopback interface
+    private static NetworkSettings localSettings(final int port) {
+        final NetworkSettings testEnvironment = NetworkSettings.forIdentifier("hiero-test").orElseThrow();
+        return new NetworkSettings() {
+            @Override
+            public byte[] getId() {
+                return testEnvironment.getId();
+            }
+
+            @Override
+            public String getNetworkIdentifier() {
+                return "local-test";
+            }
+
+            @Override
+            public Optional<String> getNetworkName() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<ConsensusNode> getConsensusNodes() {
+                return Set.of(new ConsensusNode("127.0.0.1", Integer.toString(port), "0.0.3"));
+            }
+        };
+    }
+
+    // a fake consensus node that keeps every received topic message and fails the call of the message with the given
+    // index, all other messages are accepted
+    private Server startNode(final int failingIndex) throws IOException {
+        final MethodDescriptor<Transaction, TransactionResponse> methodDescriptor =
+                TransactionProtobuffSupport.of(TopicMessageSubmitTransaction.class).getMethodDescriptor();
+        return Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(ServerServiceDefinition.builder(methodDescriptor.getServiceName())
+                        .addMethod(methodDescriptor, (call, headers) -> {
+                            call.request(1);
+                            return new ServerCall.Listener<>() {
+                                @Override
+                                public void onMessage(final Transaction message) {
+                                    final int index;
+                                    synchronized (received) {
+                                        index = received.size();
+                                        received.add(message);
+                                    }
+                                    if (index == failingIndex) {
+                                        call.close(Status.UNAVAILABLE, new Metadata());
+                                        return;
+                                    }
+                                    call.sendHeaders(new Metadata());
+                                    call.sendMessage(TransactionResponse.newBuilder()
+                                            .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                                            .build());
+                                    call.close(Status.OK, new Metadata());
+                                }
+                            };
+                        })
+                        .build())
+                .build()
+                .start();
+    }
+}
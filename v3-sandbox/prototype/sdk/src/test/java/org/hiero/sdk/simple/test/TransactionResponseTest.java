@@ -0,0 +1,55 @@
+package org.hiero.sdk.simple.test;
+
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import java.time.Instant;
+import java.util.List;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.Response;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.TransactionId;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.transactions.spi.TransactionContext;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionResponseTest {
+
+    @Test
+    protected void testResponseCarriesTransactionIdOfContext() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final TransactionId transactionId = new TransactionId(AccountId.from("0.0.1234"),
+                    Instant.ofEpochSecond(1_700_000_000, 42));
+            // the body names another transaction, a support that parses the body would return that ID
+            final TransactionBody body = TransactionBody.newBuilder()
+                    .setTransactionID(TransactionID.newBuilder()
+                            .setAccountID(AccountID.newBuilder().setAccountNum(99))
+                            .setTransactionValidStart(Timestamp.newBuilder().setSeconds(1)))
+                    .build();
+            final TransactionContext context = new TransactionContext(client, transactionId, AccountId.from("0.0.3"),
+                    body);
+            final TransactionResponse protoResponse = TransactionResponse.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                    .build();
+            for (final TransactionBody.DataCase dataCase : List.of(TransactionBody.DataCase.CRYPTOCREATEACCOUNT,
+                    TransactionBody.DataCase.CRYPTOTRANSFER, TransactionBody.DataCase.CONSENSUSSUBMITMESSAGE)) {
+
+                //when
+                final Response response = TransactionProtobuffSupport.of(dataCase)
+                        .createResponse(context, protoResponse);
+
+                //then
+                Assertions.assertEquals(transactionId, response.transactionId(), dataCase.name());
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.hiero.sdk.simple.test;
+
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.hiero.sdk.simple.HieroClient;
+import org.hiero.sdk.simple.PackedTransaction;
+import org.hiero.sdk.simple.network.Account;
+import org.hiero.sdk.simple.network.AccountId;
+import org.hiero.sdk.simple.network.ConsensusNode;
+import org.hiero.sdk.simple.network.Hbar;
+import org.hiero.sdk.simple.network.TopicId;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.KeyEncoding;
+import org.hiero.sdk.simple.network.keys.KeyPair;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.settings.NetworkSettings;
+import org.hiero.sdk.simple.transactions.AccountCreateResponse;
+import org.hiero.sdk.simple.transactions.AccountCreateTransaction;
+import org.hiero.sdk.simple.transactions.CryptoTransferResponse;
+import org.hiero.sdk.simple.transactions.CryptoTransferTransaction;
+import org.hiero.sdk.simple.transactions.TopicMessagePublisher;
+import org.hiero.sdk.simple.transactions.TopicMessageSubmitTransaction;
+import org.hiero.sdk.simple.transactions.spi.TransactionProtobuffSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TransactionSizeTest {
+
+    private final List<Transaction> received = Collections.synchronizedList(new ArrayList<>());
+
+    private Server server;
+
+    @AfterEach
+    protected void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    protected void testMultiSigTransactionUsesShortKeyPrefixes() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final PackedTransaction<AccountCreateTransaction, AccountCreateResponse> transaction =
+                    new AccountCreateTransaction()
+                            .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey())
+                            .packTransaction(client);
+
+            transaction.sign(KeyPair.generate(KeyAlgorithm.ECDSA));
+            transaction.sign(KeyPair.generate(KeyAlgorithm.ED25519));
+            final int savingsOfFullKeys = transaction.publicKeyPrefixSavings();
+
+            //when
+            transaction.withShortPublicKeyPrefixes(Set.of());
+
+            //then
+            Assertions.assertEquals(0, savingsOfFullKeys);
+            // only the operator and ED25519 key with 32 bytes each are shortened, the ECDSA key is always sent in full
+            final int fullKeyBytes = 32 + 32;
+            // random keys share more than 3 leading bytes only with negligible probability
+            Assertions.assertTrue(transaction.publicKeyPrefixSavings() >= fullKeyBytes - 2 * 4);
+            Assertions.assertTrue(transaction.publicKeyPrefixSavings() <= fullKeyBytes - 2);
+            Assertions.assertTrue(transaction.verifySignatures());
+        }
+    }
+
+    @Test
+    protected void testSizeGrowsBySignature() throws Exception {
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, "hedera-testnet")) {
+            final AccountCreateTransaction accountCreate = new AccountCreateTransaction()
+                    .withKey(PrivateKey.generate(KeyAlgorithm.ED25519).createPublicKey());
+            final PackedTransaction<AccountCreateTransaction, AccountCreateResponse> transaction =
+                    accountCreate.packTransaction(client);
+            final int bodySize = transaction.bodySize();
+            final int signedByOperator = transaction.size();
+
+            //when
+            transaction.sign(KeyPair.generate(KeyAlgorithm.ED25519));
+
+            //then
+            Assertions.assertTrue(transaction.size() > signedByOperator + 64);
+            Assertions.assertTrue(signedByOperator > bodySize + 64);
+            // only the encoded nanos of the generated transaction ID differ
+            Assertions.assertTrue(Math.abs(bodySize - accountCreate.bodySize(client)) <= 4);
+            Assertions.assertTrue(transaction.size() < PackedTransaction.MAX_SIZE);
+        }
+    }
+
+    @Test
+    protected void testSizeIsSizeOfSentTransaction() throws Exception {
+        server = startNode();
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, localSettings(server.getPort()))) {
+            final PackedTransaction<CryptoTransferTransaction, CryptoTransferResponse> transaction =
+                    new CryptoTransferTransaction()
+                            .withHbarTransfer(AccountId.from("0.0.1234"), Hbar.of(-1))
+                            .withHbarTransfer(AccountId.from("0.0.1235"), Hbar.of(1))
+                            .packTransaction(client);
+            transaction.sign(KeyPair.generate(KeyAlgorithm.ECDSA));
+            transaction.sign(KeyPair.generate(KeyAlgorithm.ED25519));
+
+            //when
+            transaction.sendAndWait();
+            final int sizeWithFullKeys = transaction.size();
+            transaction.withShortPublicKeyPrefixes(Set.of()).sendAndWait();
+
+            //then
+            Assertions.assertEquals(2, received.size());
+            final Transaction sentWithFullKeys = received.get(0);
+            Assertions.assertEquals(sizeWithFullKeys, sentWithFullKeys.getSerializedSize());
+            Assertions.assertEquals(transaction.serializedSize(), sizeWithFullKeys);
+            final Transaction sent = received.get(1);
+            Assertions.assertEquals(transaction.size(), sent.getSerializedSize());
+            Assertions.assertEquals(transaction.bodySize(), sent.getBodyBytes().size());
+            Assertions.assertEquals(3, sent.getSigMap().getSigPairCount());
+            for (final SignaturePair signaturePair : sent.getSigMap().getSigPairList()) {
+                if (signaturePair.hasECDSASecp256K1()) {
+                    Assertions.assertEquals(33, signaturePair.getPubKeyPrefix().size());
+                } else {
+                    Assertions.assertTrue(signaturePair.getPubKeyPrefix().size() < 32);
+                }
+            }
+            Assertions.assertTrue(transaction.serializedSize() > transaction.size());
+        }
+    }
+
+    @Test
+    protected void testPrefixesAreUniqueAgainstRequiredKeys() throws Exception {
+        server = startNode();
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, localSettings(server.getPort()))) {
+            final KeyPair signer = KeyPair.generate(KeyAlgorithm.ED25519);
+            final byte[] signerKey = signer.publicKey().toBytes(KeyEncoding.RAW);
+            // a required key that did not sign and only differs from the signer in the last byte
+            final byte[] requiredKey = signerKey.clone();
+            requiredKey[requiredKey.length - 1] ^= 1;
+            final PackedTransaction<CryptoTransferTransaction, CryptoTransferResponse> transaction =
+                    new CryptoTransferTransaction()
+                            .withHbarTransfer(AccountId.from("0.0.1234"), Hbar.of(-1))
+                            .withHbarTransfer(AccountId.from("0.0.1235"), Hbar.of(1))
+                            .packTransaction(client);
+            transaction.sign(signer);
+
+            //when
+            transaction.withShortPublicKeyPrefixes(Set.of(PublicKey.from(requiredKey))).sendAndWait();
+
+            //then
+            Assertions.assertEquals(1, received.size());
+            final List<SignaturePair> signaturePairs = received.get(0).getSigMap().getSigPairList();
+            Assertions.assertEquals(2, signaturePairs.size());
+            Assertions.assertEquals(1, signaturePairs.stream()
+                    .filter(pair -> pair.getPubKeyPrefix().size() == 32)
+                    .filter(pair -> Arrays.equals(signerKey, pair.getPubKeyPrefix().toByteArray()))
+                    .count());
+            Assertions.assertEquals(1, signaturePairs.stream()
+                    .filter(pair -> pair.getPubKeyPrefix().size() < 32)
+                    .count());
+        }
+    }
+
+    @Test
+    protected void testChunkBodySizesAreUpperBounds() throws Exception {
+        server = startNode();
+        final Account operatorAccount = Account.of(AccountId.from("0.0.1234"),
+                PrivateKey.generate(KeyAlgorithm.ED25519));
+        try (HieroClient client = HieroClient.create(operatorAccount, localSettings(server.getPort()))) {
+            final TopicMessagePublisher publisher = new TopicMessagePublisher(client, TopicId.from("0.0.5000"),
+                    Hbar.of(1), 100, 20, 4, ForkJoinPool.commonPool());
+            final byte[] message = new byte[1050];
+
+            //when
+            final int[] bounds = publisher.bodySizeAllChunks(message);
+            publisher.publish(message).get(10, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(11, bounds.length);
+            Assertions.assertEquals(11, received.size());
+            final List<Transaction> sent = new ArrayList<>(received);
+            // the last chunk is the only one with a shorter message
+            sent.sort(Comparator.comparingInt(transaction -> -transaction.getBodyBytes().size()));
+            for (int i = 0; i < sent.size(); i++) {
+                final int bodySize = sent.get(i).getBodyBytes().size();
+                Assertions.assertTrue(bodySize <= bounds[i], "chunk body of " + bodySize
+                        + " bytes exceeds the bound of " + bounds[i] + " bytes");
+                // the nanos of the bound take 6 bytes, the real nanos of the transaction ID and of the initial
+                // transaction ID in the chunk info take between 0 and 6 bytes each
+                Assertions.assertTrue(bodySize >= bounds[i] - 12);
+            }
+        }
+    }
+
+    // a network with the node 0.0.3 on the given port of the loopback interface
+    private static NetworkSettings localSettings(final int port) {
+        final NetworkSettings testEnvironment = NetworkSettings.forIdentifier("hiero-test").orElseThrow();
+        return new NetworkSettings() {
+            @Override
+            public byte[] getId() {
+                return testEnvironment.getId();
+            }
+
+            @Override
+            public String getNetworkIdentifier() {
+                return "local-test";
+            }
+
+            @Override
+            public Optional<String> getNetworkName() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Set<ConsensusNode> getConsensusNodes() {
+                return Set.of(new ConsensusNode("127.0.0.1", Integer.toString(port), "0.0.3"));
+            }
+        };
+    }
+
+    // a fake consensus node that accepts crypto transfers and topic messages and keeps every received transaction
+    private Server startNode() throws IOException {
+        return Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(acceptingService(TransactionProtobuffSupport.of(CryptoTransferTransaction.class)
+                        .getMethodDescriptor()))
+                .addService(acceptingService(TransactionProtobuffSupport.of(TopicMessageSubmitTransaction.class)
+                        .getMethodDescriptor()))
+                .build()
+                .start();
+    }
+
+    private ServerServiceDefinition acceptingService(
+            final MethodDescriptor<Transaction, TransactionResponse> methodDescriptor) {
+        return ServerServiceDefinition.builder(methodDescriptor.getServiceName())
+                .addMethod(methodDescriptor, (call, headers) -> {
+                    call.request(1);
+                    return new ServerCall.Listener<>() {
+                        @Override
+                        public void onMessage(final Transaction message) {
+                            received.add(message);
+                            call.sendHeaders(new Metadata());
+                            call.sendMessage(TransactionResponse.newBuilder()
+                                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK)
+                                    .build());
+                            call.close(Status.OK, new Metadata());
+                        }
+                    };
+                })
+                .build();
+    }
+}
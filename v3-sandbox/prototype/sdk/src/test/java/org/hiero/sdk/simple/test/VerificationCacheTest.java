@@ -0,0 +1,120 @@
+package org.hiero.sdk.simple.test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hiero.sdk.simple.network.keys.KeyAlgorithm;
+import org.hiero.sdk.simple.network.keys.PrivateKey;
+import org.hiero.sdk.simple.network.keys.PublicKey;
+import org.hiero.sdk.simple.network.keys.SignedMessage;
+import org.hiero.sdk.simple.network.keys.VerificationCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VerificationCacheTest {
+
+    @Test
+    protected void testRepeatedVerificationIsCached() {
+        for (final KeyAlgorithm algorithm : KeyAlgorithm.values()) {
+            final VerificationCache cache = new VerificationCache(16);
+            final PrivateKey privateKey = PrivateKey.generate(algorithm);
+            final PublicKey publicKey = privateKey.createPublicKey();
+            final byte[] message = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.UTF_8);
+            final byte[] signature = privateKey.sign(message);
+            final byte[] invalidSignature = signature.clone();
+            invalidSignature[7] ^= 1;
+
+            //when
+            final boolean first = publicKey.verify(message, signature, cache);
+            final boolean second = publicKey.verify(message, signature, cache);
+            final boolean invalid = publicKey.verify(message, invalidSignature, cache);
+            final boolean invalidAgain = publicKey.verify(message, invalidSignature, cache);
+
+            //then
+            Assertions.assertTrue(first);
+            Assertions.assertTrue(second);
+            Assertions.assertFalse(invalid);
+            Assertions.assertFalse(invalidAgain);
+            Assertions.assertEquals(2, cache.getHits());
+            Assertions.assertEquals(2, cache.getMisses());
+            Assertions.assertEquals(2, cache.size());
+        }
+    }
+
+    @Test
+    protected void testCacheIsBounded() {
+        final VerificationCache cache = new VerificationCache(2);
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ED25519);
+        final PublicKey publicKey = privateKey.createPublicKey();
+        final byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        final byte[] second = "second".getBytes(StandardCharsets.UTF_8);
+        final byte[] third = "third".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        publicKey.verify(first, privateKey.sign(first), cache);
+        publicKey.verify(second, privateKey.sign(second), cache);
+        publicKey.verify(third, privateKey.sign(third), cache);
+        publicKey.verify(first, privateKey.sign(first), cache);
+
+        //then
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    protected void testConcurrentVerificationOfSegmentedCache() throws Exception {
+        // split into 4 segments of 64 entries, the 200 triples are not spread evenly, so some segments evict entries
+        final VerificationCache cache = new VerificationCache(256);
+        final PrivateKey privateKey = PrivateKey.generate(KeyAlgorithm.ED25519);
+        final PublicKey publicKey = privateKey.createPublicKey();
+        final List<SignedMessage> signedMessages = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final byte[] message = ("message " + i).getBytes(StandardCharsets.UTF_8);
+            final byte[] signature = privateKey.sign(message);
+            if (i % 5 == 0) {
+                signature[3] ^= 1;
+            }
+            signedMessages.add(new SignedMessage(publicKey, message, signature));
+        }
+        final int threads = 4;
+        final int rounds = 3;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+
+            //when
+            for (int thread = 0; thread < threads; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < rounds; round++) {
+                        for (int i = 0; i < signedMessages.size(); i++) {
+                            final SignedMessage signedMessage = signedMessages.get(i);
+                            final boolean valid = signedMessage.publicKey()
+                                    .verify(signedMessage.message(), signedMessage.signature(), cache);
+                            if (valid != (i % 5 != 0)) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            //then
+            for (final Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get());
+            }
+            Assertions.assertEquals((long) threads * rounds * signedMessages.size(),
+                    cache.getHits() + cache.getMisses());
+            Assertions.assertTrue(cache.getHits() > 0);
+            Assertions.assertTrue(cache.size() <= 256);
+            cache.clear();
+            Assertions.assertEquals(0, cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}